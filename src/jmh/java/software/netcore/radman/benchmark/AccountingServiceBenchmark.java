@@ -0,0 +1,103 @@
+package software.netcore.radman.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import software.netcore.radman.buisness.service.accounting.AccountingService;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingDto;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingFilter;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingKeysetIndex;
+import software.netcore.radman.data.radius.entity.QRadAcct;
+import software.netcore.radman.data.radius.repo.RadAcctRepo;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounting grid: counting and paging with the default sort, by username and by NAS, and the active
+ * session count - served by the in-memory active session index and, for comparison, by the database query
+ * used until the index is ready.
+ *
+ * @since v. 1.0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AccountingServiceBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "acctStartTime");
+
+    @Param("100000")
+    private int users;
+
+    @Param("1000000")
+    private int sessions;
+
+    private BenchmarkContext context;
+    private AccountingService accountingService;
+    private RadAcctRepo radAcctRepo;
+
+    private final AccountingFilter allFilter = new AccountingFilter();
+    private final AccountingFilter usernameFilter = new AccountingFilter();
+    private final AccountingFilter nasFilter = new AccountingFilter();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = BenchmarkContext.start(users, sessions);
+        accountingService = context.getBean(AccountingService.class);
+        radAcctRepo = context.getBean(RadAcctRepo.class);
+        allFilter.setSearchOnlyActiveSessions(false);
+        usernameFilter.setSearchOnlyActiveSessions(false);
+        usernameFilter.setSearchText(BenchmarkContext.username(users / 2));
+        nasFilter.setSearchOnlyActiveSessions(false);
+        nasFilter.setNasIpAddress(BenchmarkContext.nasIpAddress(BenchmarkContext.NAS_COUNT / 2));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long countAccountingRecords() {
+        return accountingService.countAccountingRecords(allFilter);
+    }
+
+    /**
+     * Measures the in-memory active session index only, the index is ready for the whole trial.
+     */
+    @Benchmark
+    public long countActiveSessions() {
+        return accountingService.countActiveSessions();
+    }
+
+    @Benchmark
+    public long countActiveSessionsInDatabase() {
+        QRadAcct radAcct = QRadAcct.radAcct;
+        return radAcctRepo.count(radAcct.acctStartTime.isNotNull().and(radAcct.acctStopTime.isNull()));
+    }
+
+    @Benchmark
+    public Page<AccountingDto> pageAccountingRecords() {
+        return accountingService.pageAccountingRecords(allFilter, PageRequest.of(0, PAGE_SIZE, DEFAULT_SORT),
+                new AccountingKeysetIndex());
+    }
+
+    @Benchmark
+    public Page<AccountingDto> pageAccountingRecordsByUsername() {
+        return accountingService.pageAccountingRecords(usernameFilter, PageRequest.of(0, PAGE_SIZE, DEFAULT_SORT),
+                new AccountingKeysetIndex());
+    }
+
+    @Benchmark
+    public Page<AccountingDto> pageAccountingRecordsByNas() {
+        return accountingService.pageAccountingRecords(nasFilter, PageRequest.of(0, PAGE_SIZE, DEFAULT_SORT),
+                new AccountingKeysetIndex());
+    }
+
+}
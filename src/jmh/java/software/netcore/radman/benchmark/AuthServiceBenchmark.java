@@ -0,0 +1,78 @@
+package software.netcore.radman.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import software.netcore.radman.buisness.service.auth.AuthService;
+import software.netcore.radman.buisness.service.auth.dto.AuthRowDto;
+import software.netcore.radman.ui.support.Filter;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication grid: counting, first and deep pages, searching by name and by "op value".
+ *
+ * @since v. 1.0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AuthServiceBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param("100000")
+    private int users;
+
+    private BenchmarkContext context;
+    private AuthService authService;
+
+    private final Filter emptyFilter = new Filter();
+    private final Filter nameFilter = new Filter();
+    private final Filter valueFilter = new Filter();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = BenchmarkContext.start(users, 0);
+        authService = context.getBean(AuthService.class);
+        nameFilter.setSearchText(BenchmarkContext.username(users / 2));
+        valueFilter.setSearchText(":= 1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long countAuthentications() {
+        return authService.countAuthentications(emptyFilter);
+    }
+
+    @Benchmark
+    public Page<AuthRowDto> pageFirstAuthentications() {
+        return authService.pageAuthentications(emptyFilter, PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+    }
+
+    @Benchmark
+    public Page<AuthRowDto> pageDeepAuthentications() {
+        return authService.pageAuthentications(emptyFilter,
+                PageRequest.of(users * 2 / PAGE_SIZE - 1, PAGE_SIZE, Sort.by("name")));
+    }
+
+    @Benchmark
+    public Page<AuthRowDto> searchAuthenticationsByName() {
+        return authService.pageAuthentications(nameFilter, PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+    }
+
+    @Benchmark
+    public Page<AuthRowDto> searchAuthenticationsByValue() {
+        return authService.pageAuthentications(valueFilter, PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+    }
+
+}
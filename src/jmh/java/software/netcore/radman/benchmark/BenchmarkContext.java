@@ -0,0 +1,135 @@
+package software.netcore.radman.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import software.netcore.radman.Radman;
+import software.netcore.radman.benchmark.loadtest.DatasetGenerator;
+import software.netcore.radman.benchmark.loadtest.DatasetProperties;
+import software.netcore.radman.buisness.service.accounting.ActiveSessionIndex;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
+import software.netcore.radman.buisness.service.attribute.AttributeService;
+import software.netcore.radman.buisness.service.attribute.dto.AuthenticationAttributeDto;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
+import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
+import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
+import software.netcore.radman.data.radius.repo.RadiusBulkWriteRepo;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RadMan application running on in-memory HSQLDB databases, seeded by the {@link DatasetGenerator}. Radius DB
+ * schema is created from "radius-hsqldb-schema.sql", RadMan DB by its Liquibase changelog. Scheduled jobs
+ * (rollups, archiving, stale sessions, active session index refresh) are pushed out of any trial by
+ * {@link #SCHEDULER_INTERVAL}, so they do not compete with the measured calls. The active session index is
+ * refreshed once explicitly after seeding.
+ *
+ * @since v. 1.0.3
+ */
+public class BenchmarkContext implements Closeable {
+
+    public static final int NAS_COUNT = 50;
+    public static final int GROUP_COUNT = 20;
+
+    /**
+     * One day in milliseconds, longer than any trial.
+     */
+    private static final String SCHEDULER_INTERVAL = "86400000";
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * @param users    number of users, each with two check attributes and one group membership
+     * @param sessions number of accounting records (rounded down to a multiple of users), spread over the users
+     *                 and NASes, 1 % of them active
+     */
+    public static BenchmarkContext start(int users, int sessions) throws SQLException {
+        int database = DATABASE_SEQUENCE.incrementAndGet();
+        String radiusUrl = "jdbc:hsqldb:mem:radius" + database + ";sql.syntax_mys=true";
+        String radmanUrl = "jdbc:hsqldb:mem:radman" + database + ";sql.syntax_mys=true";
+        try (Connection connection = DriverManager.getConnection(radiusUrl, "SA", "")) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("radius-hsqldb-schema.sql"));
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Radman.class)
+                .properties("server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.software.netcore.radman=WARN",
+                        "ldap.enabled=false",
+                        "database.radius.datasource.url=" + radiusUrl,
+                        "database.radius.datasource.username=SA",
+                        "database.radius.datasource.password=",
+                        "database.radius.datasource.driver-class-name=org.hsqldb.jdbc.JDBCDriver",
+                        "database.radius.datasource.test-while-idle=false",
+                        "database.radius.jpa.hibernate.dialect=org.hibernate.dialect.HSQLDialect",
+                        "database.radius.jpa.hibernate.ddl-auto=none",
+                        "database.radman.datasource.url=" + radmanUrl,
+                        "database.radman.datasource.username=SA",
+                        "database.radman.datasource.password=",
+                        "database.radman.datasource.driver-class-name=org.hsqldb.jdbc.JDBCDriver",
+                        "database.radman.datasource.test-while-idle=false",
+                        "database.radman.jpa.hibernate.dialect=org.hibernate.dialect.HSQLDialect",
+                        "database.radman.jpa.hibernate.ddl-auto=none",
+                        "database.radman.liquibase.change-log=classpath:db/changelog/hsql/db.changelog-master.xml",
+                        "accounting.rollup.interval=" + SCHEDULER_INTERVAL,
+                        "accounting.active-sessions.refresh-interval=" + SCHEDULER_INTERVAL,
+                        "accounting.stale-sessions.interval=" + SCHEDULER_INTERVAL,
+                        "accounting.archive.interval=" + SCHEDULER_INTERVAL,
+                        "database.radius.replica.check-interval=" + SCHEDULER_INTERVAL)
+                .run();
+        BenchmarkContext benchmarkContext = new BenchmarkContext(context);
+        benchmarkContext.seed(users, sessions);
+        return benchmarkContext;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public static String username(int index) {
+        return DatasetGenerator.username(index);
+    }
+
+    public static String nasIpAddress(int index) {
+        return DatasetGenerator.nasIpAddress(index);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private void seed(int users, int sessions) {
+        AuthenticationAttributeDto password = new AuthenticationAttributeDto();
+        password.setName("Cleartext-Password");
+        password.setSensitiveData(true);
+        getBean(AttributeService.class).createAuthenticationAttribute(password);
+
+        DatasetProperties properties = new DatasetProperties();
+        properties.setUsers(users);
+        properties.setGroups(GROUP_COUNT);
+        properties.setNasCount(NAS_COUNT);
+        properties.setCheckAttributes(Arrays.asList("Cleartext-Password", "Simultaneous-Use"));
+        properties.setCheckAttributesPerUser(2);
+        properties.setReplyAttributesPerUser(0);
+        properties.setSessionsPerUser(users == 0 ? 0 : sessions / users);
+        new DatasetGenerator(getBean(RadiusBulkWriteRepo.class), getBean(BulkWriteRepo.class),
+                getBean(RadCheckAttributeRepo.class), getBean(RadReplyAttributeRepo.class),
+                getBean(AttributeCatalog.class)).generate(properties);
+        // the scheduled refresh may have bootstrapped the index before seeding, it is not repeated in a trial
+        getBean(ActiveSessionIndex.class).refresh();
+    }
+
+}
@@ -0,0 +1,70 @@
+package software.netcore.radman.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.convert.support.DefaultConversionService;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingDto;
+import software.netcore.radman.buisness.service.auth.dto.AuthTarget;
+import software.netcore.radman.buisness.service.auth.dto.AuthenticationDto;
+import software.netcore.radman.buisness.service.auth.dto.RadiusOp;
+import software.netcore.radman.data.radius.entity.RadAcct;
+import software.netcore.radman.data.radius.entity.RadCheck;
+
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity / DTO mapping through the application's conversion service, no database access.
+ *
+ * @since v. 1.0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private BenchmarkContext context;
+    private DefaultConversionService conversionService;
+
+    private final RadAcct radAcct = new RadAcct();
+    private final AuthenticationDto authenticationDto = new AuthenticationDto();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = BenchmarkContext.start(0, 0);
+        conversionService = context.getBean(DefaultConversionService.class);
+
+        radAcct.setRadAcctId(1L);
+        radAcct.setUsername(BenchmarkContext.username(1));
+        radAcct.setNasIpAddress(BenchmarkContext.nasIpAddress(1));
+        radAcct.setAcctStartTime(new Date());
+        radAcct.setAcctSessionTime(3600);
+        radAcct.setCallingStationId("02-00-00-00-00-01");
+        radAcct.setFramedIpAddress("172.16.0.1");
+
+        authenticationDto.setName(BenchmarkContext.username(1));
+        authenticationDto.setAuthTarget(AuthTarget.RADIUS_USER);
+        authenticationDto.setAttribute("Cleartext-Password");
+        authenticationDto.setOp(RadiusOp.OP2);
+        authenticationDto.setValue("secret");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AccountingDto convertRadAcctToDto() {
+        return conversionService.convert(radAcct, AccountingDto.class);
+    }
+
+    @Benchmark
+    public RadCheck convertDtoToRadCheck() {
+        return conversionService.convert(authenticationDto, RadCheck.class);
+    }
+
+}
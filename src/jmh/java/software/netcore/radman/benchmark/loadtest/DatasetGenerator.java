@@ -0,0 +1,268 @@
+package software.netcore.radman.benchmark.loadtest;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
+import software.netcore.radman.buisness.service.loading.NameLoader;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
+import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
+import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
+import software.netcore.radman.data.radius.entity.*;
+import software.netcore.radman.data.radius.repo.RadiusBulkWriteRepo;
+import software.netcore.radman.data.spec.BaseBatchRepository;
+import software.netcore.radman.data.spec.BaseBatchRepository.RowErrorHandler;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a synthetic FreeRADIUS data set of the configured shape - NASes, groups with their check / reply
+ * attributes, users with their check / reply attributes and group memberships and accounting sessions - and
+ * writes it in JDBC batches through the bulk write repositories, so it works against any supported Radius
+ * DB. Users, groups and attributes are registered in RadMan as well. The same seed generates the same data
+ * set, except for passwords and NAS secrets, which are taken from a {@link SecureRandom}. Generated names are
+ * returned by {@link #username(int)}, {@link #groupName(int)} and {@link #nasIpAddress(int)}. Records are
+ * appended, the generator is meant to be run against empty tables of a non-production database.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DatasetGenerator {
+
+    private static final int CHUNK_SIZE = BaseBatchRepository.BATCH_SIZE * 10;
+
+    private final RadiusBulkWriteRepo radiusBulkWriteRepo;
+    private final BulkWriteRepo bulkWriteRepo;
+    private final RadCheckAttributeRepo checkAttributeRepo;
+    private final RadReplyAttributeRepo replyAttributeRepo;
+    private final AttributeCatalog attributeCatalog;
+
+    // secrets must not be reproducible from the seed
+    private final SecureRandom passwordRandom = new SecureRandom();
+
+    public static String username(int index) {
+        return String.format("user%07d", index);
+    }
+
+    public static String groupName(int index) {
+        return String.format("group%04d", index);
+    }
+
+    public static String nasIpAddress(int index) {
+        return "10.0." + (index / 256) + "." + (index % 256);
+    }
+
+    public synchronized DatasetSummary generate(@NonNull DatasetProperties properties) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(properties.getSeed());
+        DatasetSummary summary = new DatasetSummary();
+        registerAttributes(properties);
+        generateNases(properties, random, summary);
+        generateGroups(properties, summary);
+        generateUsers(properties, random, summary);
+        generateSessions(properties, random, summary);
+        summary.setElapsedMillis(System.currentTimeMillis() - start);
+        log.info("Data set generated: {}", summary);
+        return summary;
+    }
+
+    private void registerAttributes(DatasetProperties properties) {
+        NameLoader.insertMissing(new HashSet<>(properties.getCheckAttributes()), checkAttributeRepo.getNames(),
+                bulkWriteRepo::insertRadCheckAttributes);
+        NameLoader.insertMissing(new HashSet<>(properties.getReplyAttributes()), replyAttributeRepo.getNames(),
+                bulkWriteRepo::insertRadReplyAttributes);
+        attributeCatalog.invalidateAuthenticationAttributes();
+        attributeCatalog.invalidateAuthorizationAttributes();
+    }
+
+    private void generateNases(DatasetProperties properties, Random random, DatasetSummary summary) {
+        List<Nas> nases = new ArrayList<>(properties.getNasCount());
+        for (int i = 0; i < properties.getNasCount(); i++) {
+            Nas nas = new Nas();
+            nas.setNasName(nasIpAddress(i));
+            nas.setShortName(String.format("nas%04d", i));
+            nas.setType("other");
+            nas.setSecret(Long.toHexString(passwordRandom.nextLong()));
+            nas.setDescription("Generated NAS");
+            nases.add(nas);
+        }
+        summary.setNases(radiusBulkWriteRepo.insertNases(nases, RowErrorHandler.IGNORE));
+    }
+
+    /**
+     * Every group gets one check and one reply attribute, picked from the configured attributes in turn.
+     */
+    private void generateGroups(DatasetProperties properties, DatasetSummary summary) {
+        List<String> names = new ArrayList<>(properties.getGroups());
+        List<RadGroupCheck> radGroupChecks = new ArrayList<>(properties.getGroups());
+        List<RadGroupReply> radGroupReplies = new ArrayList<>(properties.getGroups());
+        List<String> checkAttributes = properties.getCheckAttributes();
+        List<String> replyAttributes = properties.getReplyAttributes();
+        for (int i = 0; i < properties.getGroups(); i++) {
+            String name = groupName(i);
+            names.add(name);
+            if (!checkAttributes.isEmpty()) {
+                String attribute = checkAttributes.get(i % checkAttributes.size());
+                RadGroupCheck radGroupCheck = new RadGroupCheck();
+                radGroupCheck.setGroupName(name);
+                radGroupCheck.setAttribute(attribute);
+                radGroupCheck.setOp(":=");
+                radGroupCheck.setValue(value(attribute, i, new Random(i)));
+                radGroupChecks.add(radGroupCheck);
+            }
+            if (!replyAttributes.isEmpty()) {
+                String attribute = replyAttributes.get(i % replyAttributes.size());
+                RadGroupReply radGroupReply = new RadGroupReply();
+                radGroupReply.setGroupName(name);
+                radGroupReply.setAttribute(attribute);
+                radGroupReply.setOp("=");
+                radGroupReply.setValue(value(attribute, i, new Random(i)));
+                radGroupReplies.add(radGroupReply);
+            }
+        }
+        summary.setGroups(bulkWriteRepo.insertRadiusGroups(names, RowErrorHandler.IGNORE));
+        summary.setRadGroupChecks(radiusBulkWriteRepo.insertRadGroupChecks(radGroupChecks, RowErrorHandler.IGNORE));
+        summary.setRadGroupReplies(radiusBulkWriteRepo.insertRadGroupReplies(radGroupReplies,
+                RowErrorHandler.IGNORE));
+    }
+
+    private void generateUsers(DatasetProperties properties, Random random, DatasetSummary summary) {
+        List<String> checkAttributes = properties.getCheckAttributes();
+        List<String> replyAttributes = properties.getReplyAttributes();
+        int checksPerUser = checkAttributes.isEmpty() ? 0 : properties.getCheckAttributesPerUser();
+        int repliesPerUser = replyAttributes.isEmpty() ? 0 : properties.getReplyAttributesPerUser();
+        int groupsPerUser = Math.min(properties.getGroupsPerUser(), properties.getGroups());
+
+        List<String> usernames = new ArrayList<>(CHUNK_SIZE);
+        List<RadCheck> radChecks = new ArrayList<>(CHUNK_SIZE * Math.max(checksPerUser, 1));
+        List<RadReply> radReplies = new ArrayList<>(CHUNK_SIZE * Math.max(repliesPerUser, 1));
+        List<RadUserGroup> memberships = new ArrayList<>(CHUNK_SIZE * Math.max(groupsPerUser, 1));
+        for (int from = 0; from < properties.getUsers(); from += CHUNK_SIZE) {
+            for (int i = from; i < Math.min(from + CHUNK_SIZE, properties.getUsers()); i++) {
+                String username = username(i);
+                usernames.add(username);
+                for (int j = 0; j < checksPerUser; j++) {
+                    String attribute = checkAttributes.get(j % checkAttributes.size());
+                    RadCheck radCheck = new RadCheck();
+                    radCheck.setUsername(username);
+                    radCheck.setAttribute(attribute);
+                    radCheck.setOp(":=");
+                    radCheck.setValue(value(attribute, i, random));
+                    radChecks.add(radCheck);
+                }
+                for (int j = 0; j < repliesPerUser; j++) {
+                    String attribute = replyAttributes.get(j % replyAttributes.size());
+                    RadReply radReply = new RadReply();
+                    radReply.setUsername(username);
+                    radReply.setAttribute(attribute);
+                    radReply.setOp("=");
+                    radReply.setValue(value(attribute, i, random));
+                    radReplies.add(radReply);
+                }
+                for (int j = 0; j < groupsPerUser; j++) {
+                    RadUserGroup radUserGroup = new RadUserGroup();
+                    radUserGroup.setUsername(username);
+                    radUserGroup.setGroupName(groupName((i + j) % properties.getGroups()));
+                    radUserGroup.setPriority(j + 1);
+                    memberships.add(radUserGroup);
+                }
+            }
+            summary.setUsers(summary.getUsers()
+                    + bulkWriteRepo.insertRadiusUsers(usernames, RowErrorHandler.IGNORE));
+            summary.setRadChecks(summary.getRadChecks()
+                    + radiusBulkWriteRepo.insertRadChecks(radChecks, RowErrorHandler.IGNORE));
+            summary.setRadReplies(summary.getRadReplies()
+                    + radiusBulkWriteRepo.insertRadReplies(radReplies, RowErrorHandler.IGNORE));
+            summary.setMemberships(summary.getMemberships()
+                    + radiusBulkWriteRepo.insertRadUserGroups(memberships, RowErrorHandler.IGNORE));
+            usernames.clear();
+            radChecks.clear();
+            radReplies.clear();
+            memberships.clear();
+        }
+    }
+
+    /**
+     * Sessions are spread evenly over the configured days with start times growing with the record id, as
+     * they do in a live "radacct" table. The most recent ones are left active.
+     */
+    private void generateSessions(DatasetProperties properties, Random random, DatasetSummary summary) {
+        if (properties.getUsers() == 0 || properties.getNasCount() == 0) {
+            return;
+        }
+        long sessions = (long) properties.getUsers() * properties.getSessionsPerUser();
+        long activeFrom = sessions - Math.round(sessions * properties.getActiveSessionRatio());
+        long spanMillis = TimeUnit.DAYS.toMillis(properties.getDays());
+        long now = System.currentTimeMillis();
+        List<RadAcct> radAccts = new ArrayList<>(CHUNK_SIZE);
+        for (long from = 0; from < sessions; from += CHUNK_SIZE) {
+            for (long i = from; i < Math.min(from + CHUNK_SIZE, sessions); i++) {
+                int user = random.nextInt(properties.getUsers());
+                boolean active = i >= activeFrom;
+                long startTime = now - spanMillis + spanMillis * i / sessions;
+                int sessionTime = random.nextInt((int) TimeUnit.DAYS.toSeconds(1));
+                RadAcct radAcct = new RadAcct();
+                radAcct.setAcctSessionId(Long.toHexString(i));
+                radAcct.setAcctUniqueId(String.format("%032x", i));
+                radAcct.setUsername(username(user));
+                radAcct.setRealm("");
+                radAcct.setNasIpAddress(nasIpAddress((int) (i % properties.getNasCount())));
+                radAcct.setNasPortId(Integer.toString(random.nextInt(1024)));
+                radAcct.setNasPortType("Wireless-802.11");
+                radAcct.setAcctStartTime(new Date(startTime));
+                radAcct.setAcctUpdateTime(new Date(startTime + sessionTime * 1000L));
+                radAcct.setAcctStopTime(active ? null : new Date(startTime + sessionTime * 1000L));
+                radAcct.setAcctInterval(active ? 600 : null);
+                radAcct.setAcctSessionTime(sessionTime);
+                radAcct.setAcctAuthentic("RADIUS");
+                radAcct.setAcctInputOctets((long) random.nextInt(Integer.MAX_VALUE));
+                radAcct.setAcctOutputOctets((long) random.nextInt(Integer.MAX_VALUE));
+                radAcct.setCalledStationId("00-00-00-00-00-01:radman");
+                radAcct.setCallingStationId(String.format("02-00-00-%02X-%02X-%02X", (user >> 16) & 0xFF,
+                        (user >> 8) & 0xFF, user & 0xFF));
+                radAcct.setAcctTerminateCause(active ? "" : "User-Request");
+                radAcct.setServiceType("Framed-User");
+                radAcct.setFramedProtocol("PPP");
+                radAcct.setFramedIpAddress(framedIpAddress(user));
+                radAccts.add(radAcct);
+            }
+            summary.setSessions(summary.getSessions()
+                    + radiusBulkWriteRepo.insertRadAccts(radAccts, RowErrorHandler.IGNORE));
+            radAccts.clear();
+        }
+        summary.setActiveSessions(sessions - activeFrom);
+    }
+
+    /**
+     * @return plausible value of well known attributes, random text of the others
+     */
+    private String value(String attribute, int index, Random random) {
+        switch (attribute) {
+            case "Cleartext-Password":
+                return Long.toHexString(passwordRandom.nextLong()) + Long.toHexString(passwordRandom.nextLong());
+            case "Simultaneous-Use":
+                return Integer.toString(1 + random.nextInt(3));
+            case "Expiration":
+                return "01 Jan " + (2030 + random.nextInt(10)) + " 00:00:00";
+            case "Framed-IP-Address":
+                return framedIpAddress(index);
+            case "Session-Timeout":
+            case "Idle-Timeout":
+                return Integer.toString(600 * (1 + random.nextInt(12)));
+            default:
+                return Long.toString(random.nextLong() >>> 1, 36);
+        }
+    }
+
+    private static String framedIpAddress(int index) {
+        return "172.16." + ((index >> 8) & 0xFF) + "." + (index & 0xFF);
+    }
+
+}
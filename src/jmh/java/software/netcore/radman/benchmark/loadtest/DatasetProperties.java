@@ -0,0 +1,63 @@
+package software.netcore.radman.benchmark.loadtest;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shape of a synthetic FreeRADIUS data set.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DatasetProperties {
+
+    /**
+     * Seed of the random generator, the same seed generates the same data set except for passwords, which are
+     * always random.
+     */
+    private long seed = 42;
+
+    private int users = 100000;
+
+    private int groups = 100;
+
+    private int nasCount = 50;
+
+    /**
+     * Check attributes of every user, cycled when a user has more check attributes than listed.
+     */
+    private List<String> checkAttributes = new ArrayList<>(Arrays.asList("Cleartext-Password",
+            "Simultaneous-Use", "Expiration"));
+
+    /**
+     * Reply attributes of every user, cycled when a user has more reply attributes than listed.
+     */
+    private List<String> replyAttributes = new ArrayList<>(Arrays.asList("Framed-IP-Address",
+            "Session-Timeout", "Idle-Timeout", "Reply-Message"));
+
+    private int checkAttributesPerUser = 2;
+
+    private int replyAttributesPerUser = 1;
+
+    private int groupsPerUser = 1;
+
+    /**
+     * Accounting sessions per user on average, spread over {@link #days}.
+     */
+    private int sessionsPerUser = 10;
+
+    /**
+     * Part of the sessions (0 - 1) still active, without stop time.
+     */
+    private double activeSessionRatio = 0.01;
+
+    private int days = 90;
+
+}
@@ -0,0 +1,31 @@
+package software.netcore.radman.benchmark.loadtest;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Numbers of records written by the dataset generator.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class DatasetSummary {
+
+    private long nases;
+    private long users;
+    private long groups;
+    private long radChecks;
+    private long radReplies;
+    private long radGroupChecks;
+    private long radGroupReplies;
+    private long memberships;
+    private long sessions;
+    private long activeSessions;
+    private long elapsedMillis;
+
+}
@@ -0,0 +1,54 @@
+package software.netcore.radman.benchmark.loadtest;
+
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one operation recorded by one thread, merged once the run is finished. Not thread-safe.
+ *
+ * @since v. 1.0.3
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size = 0;
+    private long errors = 0;
+
+    void record(long latencyNanos, boolean failed) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+        if (failed) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > latencies.length) {
+            latencies = Arrays.copyOf(latencies, size + other.size);
+        }
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    OperationStats toStats(LoadOperation operation) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        return new OperationStats(operation, size, errors, percentile(sorted, 0.5), percentile(sorted, 0.9),
+                percentile(sorted, 0.99), size == 0 ? 0 : sorted[size - 1] / 1000);
+    }
+
+    /**
+     * Nearest-rank percentile in microseconds.
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1000;
+    }
+
+}
@@ -0,0 +1,221 @@
+package software.netcore.radman.benchmark.loadtest;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import software.netcore.radman.buisness.service.accounting.AccountingService;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingFilter;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingKeysetIndex;
+import software.netcore.radman.buisness.service.auth.AuthService;
+import software.netcore.radman.buisness.service.provisioning.ProvisioningService;
+import software.netcore.radman.buisness.service.provisioning.dto.ProvisioningFormat;
+import software.netcore.radman.buisness.service.user.radius.RadiusUserService;
+import software.netcore.radman.buisness.service.user.radius.dto.RadiusUserFilter;
+import software.netcore.radman.ui.support.Filter;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays concurrent service calls - paging and searching of the authentication, accounting and users
+ * grids and provisioning - against the data set described by the {@link DatasetProperties}, for the
+ * configured duration. Every caller picks its operations at random by their weights, searched names and
+ * pages are random as well. Calls are made through the services, the same way the views make them.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadDriver {
+
+    private static final int MAX_PAGE = 10;
+    private static final int PROVISIONED_USERS = 5;
+    private static final Sort AUTH_SORT = Sort.by("name");
+    private static final Sort ACCOUNTING_SORT = Sort.by(Sort.Direction.DESC, "acctStartTime");
+    private static final Sort USERS_SORT = Sort.by("username");
+
+    private final AuthService authService;
+    private final AccountingService accountingService;
+    private final RadiusUserService radiusUserService;
+    private final ProvisioningService provisioningService;
+    private final DatasetProperties datasetProperties;
+
+    private final SecureRandom passwordRandom = new SecureRandom();
+
+    // provisioned names stay unique across runs
+    private final AtomicLong provisionedSequence = new AtomicLong(System.currentTimeMillis());
+
+    public synchronized LoadReport run(@NonNull LoadRunProperties properties) {
+        List<LoadOperation> weightedOperations = new ArrayList<>();
+        properties.getWeights().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weightedOperations.add(operation);
+            }
+        });
+        if (weightedOperations.isEmpty() || properties.getThreads() < 1) {
+            throw new IllegalArgumentException("At least one thread and one operation with non zero weight " +
+                    "are required");
+        }
+
+        long durationNanos = TimeUnit.SECONDS.toNanos(properties.getDurationSeconds());
+        AtomicLong startNanos = new AtomicLong();
+        // the run starts once every caller is warmed up
+        CyclicBarrier startBarrier = new CyclicBarrier(properties.getThreads(),
+                () -> startNanos.set(System.nanoTime()));
+        List<Callable<Map<LoadOperation, LatencyRecorder>>> callers = new ArrayList<>();
+        for (int i = 0; i < properties.getThreads(); i++) {
+            Caller caller = new Caller(properties, weightedOperations, new Random(datasetProperties.getSeed() + i));
+            callers.add(() -> caller.call(startBarrier, startNanos, durationNanos));
+        }
+
+        log.info("Running load of {} threads for {} s", properties.getThreads(), properties.getDurationSeconds());
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        Map<LoadOperation, LatencyRecorder> merged = new EnumMap<>(LoadOperation.class);
+        try {
+            for (Future<Map<LoadOperation, LatencyRecorder>> result : executor.invokeAll(callers)) {
+                result.get().forEach((operation, recorder) ->
+                        merged.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load run failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos.get());
+
+        List<OperationStats> operations = new ArrayList<>(merged.size());
+        merged.forEach((operation, recorder) -> operations.add(recorder.toStats(operation)));
+        return new LoadReport(properties.getThreads(), elapsedMillis, operations);
+    }
+
+    /**
+     * Single caller, holds the state a single UI session would hold.
+     */
+    private class Caller {
+
+        private final LoadRunProperties properties;
+        private final List<LoadOperation> weightedOperations;
+        private final Random random;
+        private final AccountingKeysetIndex keysetIndex = new AccountingKeysetIndex();
+        private final Map<LoadOperation, LatencyRecorder> recorders = new EnumMap<>(LoadOperation.class);
+
+        Caller(LoadRunProperties properties, List<LoadOperation> weightedOperations, Random random) {
+            this.properties = properties;
+            this.weightedOperations = weightedOperations;
+            this.random = random;
+        }
+
+        Map<LoadOperation, LatencyRecorder> call(CyclicBarrier startBarrier, AtomicLong startNanos,
+                                                 long durationNanos) throws Exception {
+            for (int i = 0; i < properties.getWarmupCalls(); i++) {
+                try {
+                    execute(nextOperation());
+                } catch (RuntimeException e) {
+                    log.debug("Warm-up call failed", e);
+                }
+            }
+            startBarrier.await();
+            long deadline = startNanos.get() + durationNanos;
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                LoadOperation operation = nextOperation();
+                boolean failed = false;
+                long start = System.nanoTime();
+                try {
+                    execute(operation);
+                } catch (RuntimeException e) {
+                    failed = true;
+                    log.debug("{} call failed", operation, e);
+                }
+                recorders.computeIfAbsent(operation, key -> new LatencyRecorder())
+                        .record(System.nanoTime() - start, failed);
+            }
+            return recorders;
+        }
+
+        private LoadOperation nextOperation() {
+            return weightedOperations.get(random.nextInt(weightedOperations.size()));
+        }
+
+        private void execute(LoadOperation operation) {
+            switch (operation) {
+                case PAGE_AUTHENTICATIONS:
+                    authService.pageAuthentications(new Filter(), nextPage(AUTH_SORT));
+                    break;
+                case SEARCH_AUTHENTICATIONS:
+                    authService.pageAuthentications(new Filter(nextUsername()), firstPage(AUTH_SORT));
+                    break;
+                case PAGE_ACCOUNTING:
+                    AccountingFilter allFilter = new AccountingFilter();
+                    allFilter.setSearchOnlyActiveSessions(false);
+                    accountingService.pageAccountingRecords(allFilter, nextPage(ACCOUNTING_SORT), keysetIndex);
+                    break;
+                case SEARCH_ACCOUNTING:
+                    AccountingFilter searchFilter = new AccountingFilter();
+                    searchFilter.setSearchOnlyActiveSessions(false);
+                    if (random.nextBoolean() && datasetProperties.getNasCount() > 0) {
+                        searchFilter.setNasIpAddress(DatasetGenerator.nasIpAddress(
+                                random.nextInt(datasetProperties.getNasCount())));
+                    } else {
+                        searchFilter.setSearchText(nextUsername());
+                    }
+                    accountingService.pageAccountingRecords(searchFilter, firstPage(ACCOUNTING_SORT),
+                            new AccountingKeysetIndex());
+                    break;
+                case PAGE_USERS:
+                    radiusUserService.pageRadiusUsers(new RadiusUserFilter(true, false), nextPage(USERS_SORT));
+                    break;
+                case SEARCH_USERS:
+                    String username = nextUsername();
+                    // prefix of about a thousand users
+                    radiusUserService.pageRadiusUsers(new RadiusUserFilter(username.substring(0,
+                            username.length() - 3), true, false), firstPage(USERS_SORT));
+                    break;
+                case PROVISION:
+                    provisioningService.provision(new ByteArrayInputStream(buildProvisioningFile()
+                            .getBytes(StandardCharsets.UTF_8)), ProvisioningFormat.CSV);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported operation " + operation);
+            }
+        }
+
+        private String buildProvisioningFile() {
+            StringBuilder csv = new StringBuilder("type,name,target,group,attribute,op,value\n");
+            for (int i = 0; i < PROVISIONED_USERS; i++) {
+                String name = "load" + Long.toString(provisionedSequence.incrementAndGet(), 36);
+                csv.append("user,").append(name).append(",,,,,\n");
+                if (datasetProperties.getGroups() > 0) {
+                    csv.append("membership,").append(name).append(",,")
+                            .append(DatasetGenerator.groupName(random.nextInt(datasetProperties.getGroups())))
+                            .append(",,,\n");
+                }
+                csv.append("authentication,").append(name).append(",user,,Cleartext-Password,:=,")
+                        .append(Long.toHexString(passwordRandom.nextLong())).append('\n');
+            }
+            return csv.toString();
+        }
+
+        private String nextUsername() {
+            return DatasetGenerator.username(random.nextInt(Math.max(datasetProperties.getUsers(), 1)));
+        }
+
+        private PageRequest nextPage(Sort sort) {
+            return PageRequest.of(random.nextInt(MAX_PAGE), properties.getPageSize(), sort);
+        }
+
+        private PageRequest firstPage(Sort sort) {
+            return PageRequest.of(0, properties.getPageSize(), sort);
+        }
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package software.netcore.radman.benchmark.loadtest;
+
+/**
+ * @since v. 1.0.3
+ */
+public enum LoadOperation {
+
+    /**
+     * First pages of the authentication grid, in random sort order.
+     */
+    PAGE_AUTHENTICATIONS,
+    /**
+     * Authentication grid searched by a random username.
+     */
+    SEARCH_AUTHENTICATIONS,
+    /**
+     * Random pages of the accounting grid, sorted by start time.
+     */
+    PAGE_ACCOUNTING,
+    /**
+     * Accounting grid searched by a random username or NAS.
+     */
+    SEARCH_ACCOUNTING,
+    /**
+     * Random pages of the RadMan users grid.
+     */
+    PAGE_USERS,
+    /**
+     * RadMan users grid searched by a random username prefix.
+     */
+    SEARCH_USERS,
+    /**
+     * Provisioning of a small CSV file with new users and their attributes.
+     */
+    PROVISION
+
+}
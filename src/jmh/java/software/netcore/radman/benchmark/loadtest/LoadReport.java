@@ -0,0 +1,40 @@
+package software.netcore.radman.benchmark.loadtest;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Result of a load run, errors are included in the latencies.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class LoadReport {
+
+    private final int threads;
+    private final long elapsedMillis;
+    @NonNull
+    private final List<OperationStats> operations;
+
+    public long getCalls() {
+        return operations.stream().mapToLong(OperationStats::getCalls).sum();
+    }
+
+    public long getErrors() {
+        return operations.stream().mapToLong(OperationStats::getErrors).sum();
+    }
+
+    /**
+     * @return calls per second
+     */
+    public double getThroughput() {
+        return elapsedMillis == 0 ? 0 : getCalls() * 1000.0 / elapsedMillis;
+    }
+
+}
@@ -0,0 +1,49 @@
+package software.netcore.radman.benchmark.loadtest;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load replayed against the services by the {@link LoadDriver}.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class LoadRunProperties {
+
+    /**
+     * Concurrent callers.
+     */
+    private int threads = 8;
+
+    private int durationSeconds = 60;
+
+    /**
+     * Calls made by every caller before measuring, not reported.
+     */
+    private int warmupCalls = 20;
+
+    private int pageSize = 50;
+
+    /**
+     * Relative weight of every operation, operations with zero weight are not called.
+     */
+    private Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+
+    {
+        weights.put(LoadOperation.PAGE_AUTHENTICATIONS, 20);
+        weights.put(LoadOperation.SEARCH_AUTHENTICATIONS, 15);
+        weights.put(LoadOperation.PAGE_ACCOUNTING, 20);
+        weights.put(LoadOperation.SEARCH_ACCOUNTING, 15);
+        weights.put(LoadOperation.PAGE_USERS, 15);
+        weights.put(LoadOperation.SEARCH_USERS, 10);
+        weights.put(LoadOperation.PROVISION, 5);
+    }
+
+}
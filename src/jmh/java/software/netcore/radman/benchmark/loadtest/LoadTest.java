@@ -0,0 +1,80 @@
+package software.netcore.radman.benchmark.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import software.netcore.radman.Radman;
+import software.netcore.radman.buisness.service.accounting.AccountingService;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
+import software.netcore.radman.buisness.service.auth.AuthService;
+import software.netcore.radman.buisness.service.provisioning.ProvisioningService;
+import software.netcore.radman.buisness.service.user.radius.RadiusUserService;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
+import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
+import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
+import software.netcore.radman.data.radius.repo.RadCheckRepo;
+import software.netcore.radman.data.radius.repo.RadiusBulkWriteRepo;
+
+/**
+ * Headless load test, starts RadMan with the given arguments (usually "--spring.config.location" of a test
+ * configuration), generates the data set into the configured databases and / or replays the load and logs
+ * the report. Writes synthetic users, so it refuses to run without "--loadtest.non-production=true" and does
+ * not generate the data set into a Radius DB which already has check attributes.
+ * <ul>
+ * <li>loadtest.generate - whether the data set is generated, true by default</li>
+ * <li>loadtest.run.enabled - whether the load is replayed, true by default</li>
+ * <li>loadtest.dataset.*, loadtest.run.* - {@link DatasetProperties}, {@link LoadRunProperties}</li>
+ * </ul>
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+public class LoadTest {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Radman.class)
+                .properties("server.port=0", "spring.main.banner-mode=off")
+                .run(args);
+        try {
+            Binder binder = Binder.get(context.getEnvironment());
+            if (!binder.bind("loadtest.non-production", Boolean.class).orElse(false)) {
+                throw new IllegalStateException("Load test writes synthetic users and passwords, run it only " +
+                        "against non-production databases and confirm it by --loadtest.non-production=true");
+            }
+            DatasetProperties datasetProperties = binder.bind("loadtest.dataset", DatasetProperties.class)
+                    .orElseGet(DatasetProperties::new);
+            LoadRunProperties loadRunProperties = binder.bind("loadtest.run", LoadRunProperties.class)
+                    .orElseGet(LoadRunProperties::new);
+
+            if (binder.bind("loadtest.generate", Boolean.class).orElse(true)) {
+                if (context.getBean(RadCheckRepo.class).count() > 0) {
+                    throw new IllegalStateException("Radius DB is not empty, the data set is generated only " +
+                            "into empty databases");
+                }
+                new DatasetGenerator(context.getBean(RadiusBulkWriteRepo.class), context.getBean(BulkWriteRepo.class),
+                        context.getBean(RadCheckAttributeRepo.class), context.getBean(RadReplyAttributeRepo.class),
+                        context.getBean(AttributeCatalog.class)).generate(datasetProperties);
+            }
+            if (binder.bind("loadtest.run.enabled", Boolean.class).orElse(true)) {
+                LoadReport report = new LoadDriver(context.getBean(AuthService.class),
+                        context.getBean(AccountingService.class), context.getBean(RadiusUserService.class),
+                        context.getBean(ProvisioningService.class), datasetProperties).run(loadRunProperties);
+                log(report);
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void log(LoadReport report) {
+        log.info("Load run finished: {} threads, {} calls, {} errors, {} calls/s", report.getThreads(),
+                report.getCalls(), report.getErrors(), String.format("%.1f", report.getThroughput()));
+        for (OperationStats stats : report.getOperations()) {
+            log.info("{}: {} calls, {} errors, p50 {} us, p90 {} us, p99 {} us, max {} us", stats.getOperation(),
+                    stats.getCalls(), stats.getErrors(), stats.getP50(), stats.getP90(), stats.getP99(),
+                    stats.getMax());
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package software.netcore.radman.benchmark.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Latencies of a single operation, in microseconds.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class OperationStats {
+
+    private final LoadOperation operation;
+    private final long calls;
+    private final long errors;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long max;
+
+}
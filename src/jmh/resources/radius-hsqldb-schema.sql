@@ -0,0 +1,102 @@
+-- FreeRADIUS v3 schema (raddb/mods-config/sql/main/mysql/schema.sql) in HSQLDB syntax, including its indexes
+
+CREATE TABLE radacct (
+    radacctid          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    acctsessionid      VARCHAR(64)  DEFAULT '' NOT NULL,
+    acctuniqueid       VARCHAR(32)  DEFAULT '' NOT NULL,
+    username           VARCHAR(64)  DEFAULT '' NOT NULL,
+    realm              VARCHAR(64)  DEFAULT '',
+    nasipaddress       VARCHAR(15)  DEFAULT '' NOT NULL,
+    nasportid          VARCHAR(15),
+    nasporttype        VARCHAR(32),
+    acctstarttime      TIMESTAMP,
+    acctupdatetime     TIMESTAMP,
+    acctstoptime       TIMESTAMP,
+    acctinterval       INTEGER,
+    acctsessiontime    INTEGER,
+    acctauthentic      VARCHAR(32),
+    connectinfo_start  VARCHAR(50),
+    connectinfo_stop   VARCHAR(50),
+    acctinputoctets    BIGINT,
+    acctoutputoctets   BIGINT,
+    calledstationid    VARCHAR(50)  DEFAULT '' NOT NULL,
+    callingstationid   VARCHAR(50)  DEFAULT '' NOT NULL,
+    acctterminatecause VARCHAR(32)  DEFAULT '' NOT NULL,
+    servicetype        VARCHAR(32),
+    framedprotocol     VARCHAR(32),
+    framedipaddress    VARCHAR(15)  DEFAULT '' NOT NULL,
+    CONSTRAINT acctuniqueid UNIQUE (acctuniqueid)
+);
+CREATE INDEX radacct_username ON radacct (username);
+CREATE INDEX radacct_framedipaddress ON radacct (framedipaddress);
+CREATE INDEX radacct_acctsessionid ON radacct (acctsessionid);
+CREATE INDEX radacct_acctsessiontime ON radacct (acctsessiontime);
+CREATE INDEX radacct_acctstarttime ON radacct (acctstarttime);
+CREATE INDEX radacct_acctinterval ON radacct (acctinterval);
+CREATE INDEX radacct_acctstoptime ON radacct (acctstoptime);
+CREATE INDEX radacct_nasipaddress ON radacct (nasipaddress);
+
+CREATE TABLE radcheck (
+    id        INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username  VARCHAR(64)  DEFAULT '' NOT NULL,
+    attribute VARCHAR(64)  DEFAULT '' NOT NULL,
+    op        CHAR(2)      DEFAULT '==' NOT NULL,
+    value     VARCHAR(253) DEFAULT '' NOT NULL
+);
+CREATE INDEX radcheck_username ON radcheck (username);
+
+CREATE TABLE radgroupcheck (
+    id        INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    groupname VARCHAR(64)  DEFAULT '' NOT NULL,
+    attribute VARCHAR(64)  DEFAULT '' NOT NULL,
+    op        CHAR(2)      DEFAULT '==' NOT NULL,
+    value     VARCHAR(253) DEFAULT '' NOT NULL
+);
+CREATE INDEX radgroupcheck_groupname ON radgroupcheck (groupname);
+
+CREATE TABLE radgroupreply (
+    id        INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    groupname VARCHAR(64)  DEFAULT '' NOT NULL,
+    attribute VARCHAR(64)  DEFAULT '' NOT NULL,
+    op        CHAR(2)      DEFAULT '=' NOT NULL,
+    value     VARCHAR(253) DEFAULT '' NOT NULL
+);
+CREATE INDEX radgroupreply_groupname ON radgroupreply (groupname);
+
+CREATE TABLE radreply (
+    id        INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username  VARCHAR(64)  DEFAULT '' NOT NULL,
+    attribute VARCHAR(64)  DEFAULT '' NOT NULL,
+    op        CHAR(2)      DEFAULT '=' NOT NULL,
+    value     VARCHAR(253) DEFAULT '' NOT NULL
+);
+CREATE INDEX radreply_username ON radreply (username);
+
+CREATE TABLE radusergroup (
+    id        INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username  VARCHAR(64) DEFAULT '' NOT NULL,
+    groupname VARCHAR(64) DEFAULT '' NOT NULL,
+    priority  INTEGER     DEFAULT 1 NOT NULL
+);
+CREATE INDEX radusergroup_username ON radusergroup (username);
+
+CREATE TABLE radhuntgroup (
+    id           INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    groupname    VARCHAR(64) DEFAULT '' NOT NULL,
+    nasipaddress VARCHAR(15) DEFAULT '' NOT NULL,
+    nasportid    VARCHAR(15)
+);
+CREATE INDEX radhuntgroup_nasipaddress ON radhuntgroup (nasipaddress);
+
+CREATE TABLE nas (
+    id          INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nasname     VARCHAR(128) NOT NULL,
+    shortname   VARCHAR(32),
+    type        VARCHAR(30)  DEFAULT 'other',
+    ports       INTEGER,
+    secret      VARCHAR(60)  DEFAULT 'secret' NOT NULL,
+    server      VARCHAR(64),
+    community   VARCHAR(50),
+    description VARCHAR(200) DEFAULT 'RADIUS Client'
+);
+CREATE INDEX nas_nasname ON nas (nasname);
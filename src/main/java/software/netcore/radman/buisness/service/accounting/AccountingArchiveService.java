@@ -0,0 +1,89 @@
+package software.netcore.radman.buisness.service.accounting;
+
+import com.querydsl.core.BooleanBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import software.netcore.radman.buisness.service.accounting.conf.ArchiveProperties;
+import software.netcore.radman.data.internal.entity.RadAcctArchive;
+import software.netcore.radman.data.internal.repo.RadAcctArchiveRepo;
+import software.netcore.radman.data.radius.entity.QRadAcct;
+import software.netcore.radman.data.radius.entity.RadAcct;
+import software.netcore.radman.data.radius.repo.RadAcctRepo;
+import software.netcore.radman.data.spec.OffsetPageRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves closed sessions older than the retention period from the "radacct" table to the archive table of
+ * the RadMan DB in bounded batches. Every batch is first stored in the archive and then deleted from
+ * "radacct", records already present in the archive are not stored again, so a batch interrupted between
+ * the two databases is completed by the next run.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AccountingArchiveService {
+
+    private final RadAcctRepo radAcctRepo;
+    private final RadAcctArchiveRepo radAcctArchiveRepo;
+    private final ArchiveProperties properties;
+    private final ConversionService conversionService;
+
+    @Scheduled(initialDelayString = "${accounting.archive.interval:3600000}",
+            fixedDelayString = "${accounting.archive.interval:3600000}")
+    public void archivePeriodically() {
+        if (properties.isEnabled()) {
+            long archived = archiveClosedSessions(properties.getRetentionDays());
+            log.info("{} closed sessions archived", archived);
+        }
+    }
+
+    public synchronized long archiveClosedSessions(int retentionDays) {
+        Date stoppedBefore = Date.from(Instant.now().minus(retentionDays, ChronoUnit.DAYS));
+        QRadAcct radAcct = QRadAcct.radAcct;
+        BooleanBuilder closed = new BooleanBuilder();
+        closed.and(radAcct.acctStopTime.isNotNull());
+        closed.and(radAcct.acctStopTime.lt(stoppedBefore));
+
+        long archived = 0;
+        List<RadAcct> batch;
+        do {
+            // archived records are deleted, so every batch starts from the beginning
+            batch = radAcctRepo.findContent(closed,
+                    new OffsetPageRequest(0, properties.getBatchSize(), Sort.by("radAcctId")));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> ids = batch.stream().map(RadAcct::getRadAcctId).collect(Collectors.toList());
+            Set<Long> alreadyArchived = radAcctArchiveRepo.findArchivedIds(ids);
+            List<RadAcctArchive> records = batch.stream()
+                    .filter(record -> !alreadyArchived.contains(record.getRadAcctId()))
+                    .map(record -> conversionService.convert(record, RadAcctArchive.class))
+                    .collect(Collectors.toList());
+            radAcctArchiveRepo.saveAll(records);
+            archived += radAcctRepo.deleteAllByRadAcctIdIn(ids);
+            pause();
+        } while (batch.size() == properties.getBatchSize());
+        return archived;
+    }
+
+    private void pause() {
+        if (properties.getBatchPauseMillis() > 0) {
+            try {
+                Thread.sleep(properties.getBatchPauseMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
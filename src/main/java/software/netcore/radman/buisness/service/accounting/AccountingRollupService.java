@@ -0,0 +1,332 @@
+package software.netcore.radman.buisness.service.accounting;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingUsageDto;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingUsageFilter;
+import software.netcore.radman.data.internal.entity.AccountingRollup;
+import software.netcore.radman.data.internal.entity.AccountingRollupWatermark;
+import software.netcore.radman.data.internal.entity.QAccountingRollup;
+import software.netcore.radman.data.internal.entity.RollupSubject;
+import software.netcore.radman.data.internal.repo.AccountingRollupRepo;
+import software.netcore.radman.data.internal.repo.AccountingRollupWatermarkRepo;
+import software.netcore.radman.data.internal.repo.RadAcctArchiveRepo;
+import software.netcore.radman.data.radius.entity.RadAcct;
+import software.netcore.radman.data.radius.repo.RadAcctRepo;
+import software.netcore.radman.data.spec.OffsetPageRequest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * Maintains per-user and per-NAS daily usage rollups of the "radacct" table in the RadMan DB. Sessions are
+ * accounted to the day they started in. Each refresh reads only the records inserted (by the primary key)
+ * or updated (by the update time) since the watermark of the previous refresh and recomputes the days
+ * those records belong to, so refreshes are idempotent and an interrupted refresh is completed by the next
+ * one. The first refresh reads "radacct" in pages of its primary key instead, saving the watermark after
+ * every page. Days are recomputed from both "radacct" and its archive, sessions archived meanwhile are kept.
+ * Usage of longer periods is summed by the database.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AccountingRollupService {
+
+    private static final int CHANGES_BATCH_SIZE = 1000;
+    private static final int INITIAL_PAGE_SIZE = 10 * CHANGES_BATCH_SIZE;
+    private static final LocalDate MIN_DAY = LocalDate.of(1970, 1, 1);
+    private static final LocalDate MAX_DAY = LocalDate.of(9999, 12, 31);
+
+    /**
+     * Grid sort keys and the summed expressions of the usage queries they sort by, "periodStart" depends on
+     * the window.
+     */
+    private static final Map<String, String> TOTALS_SORT_EXPRESSIONS;
+
+    static {
+        Map<String, String> expressions = new HashMap<>();
+        expressions.put("subject", "r.subject");
+        expressions.put("sessionCount", "SUM(r.sessionCount)");
+        expressions.put("sessionTime", "SUM(r.sessionTime)");
+        expressions.put("inputOctets", "SUM(r.inputOctets)");
+        expressions.put("outputOctets", "SUM(r.outputOctets)");
+        TOTALS_SORT_EXPRESSIONS = Collections.unmodifiableMap(expressions);
+    }
+
+    private final RadAcctRepo radAcctRepo;
+    private final RadAcctArchiveRepo radAcctArchiveRepo;
+    private final AccountingRollupRepo rollupRepo;
+    private final AccountingRollupWatermarkRepo watermarkRepo;
+    private final TransactionTemplate radmanTransactionTemplate;
+
+    @Scheduled(initialDelayString = "${accounting.rollup.interval:300000}",
+            fixedDelayString = "${accounting.rollup.interval:300000}")
+    public synchronized void refreshRollups() {
+        AccountingRollupWatermark watermark = watermarkRepo.findFirstByOrderByIdAsc()
+                .orElseGet(AccountingRollupWatermark::new);
+        ZoneId zoneId = ZoneId.systemDefault();
+        if (Objects.isNull(watermark.getLastAcctUpdateTime())) {
+            refreshAllRollups(watermark, zoneId);
+            return;
+        }
+        SortedSet<LocalDate> changedDays = new TreeSet<>();
+
+        long maxRadAcctId = watermark.getLastRadAcctId();
+        List<RadAcctRepo.RadAcctChange> changes;
+        do {
+            changes = radAcctRepo.findInsertedAfter(maxRadAcctId, PageRequest.of(0, CHANGES_BATCH_SIZE));
+            for (RadAcctRepo.RadAcctChange change : changes) {
+                addChangedDay(changedDays, change, zoneId);
+                maxRadAcctId = change.getRadAcctId();
+            }
+        } while (changes.size() == CHANGES_BATCH_SIZE);
+
+        Date maxAcctUpdateTime = watermark.getLastAcctUpdateTime();
+        long afterRadAcctId = 0;
+        do {
+            changes = radAcctRepo.findUpdatedAfter(maxAcctUpdateTime, afterRadAcctId,
+                    PageRequest.of(0, CHANGES_BATCH_SIZE));
+            for (RadAcctRepo.RadAcctChange change : changes) {
+                addChangedDay(changedDays, change, zoneId);
+                maxAcctUpdateTime = change.getAcctUpdateTime();
+                afterRadAcctId = change.getRadAcctId();
+            }
+        } while (changes.size() == CHANGES_BATCH_SIZE);
+
+        changedDays.forEach(day -> rollupDay(day, zoneId));
+
+        watermark.setLastRadAcctId(maxRadAcctId);
+        watermark.setLastAcctUpdateTime(maxAcctUpdateTime);
+        watermarkRepo.save(watermark);
+        log.debug("Accounting rollups refreshed, {} days recomputed", changedDays.size());
+    }
+
+    /**
+     * First refresh: the records up to the highest id present when it started are read in pages of
+     * {@link #INITIAL_PAGE_SIZE} ids, the days first seen in a page are recomputed and the watermark is saved
+     * after every page, so an interrupted first refresh is continued by the next (incremental) one. Updates are
+     * watched from the latest update time present when it started, records inserted meanwhile are read by the
+     * next refresh.
+     */
+    private void refreshAllRollups(AccountingRollupWatermark watermark, ZoneId zoneId) {
+        Long maxRadAcctId = radAcctRepo.findMaxRadAcctId();
+        Date maxAcctUpdateTime = radAcctRepo.findMaxAcctUpdateTime();
+        watermark.setLastAcctUpdateTime(Objects.isNull(maxAcctUpdateTime) ? new Date(0) : maxAcctUpdateTime);
+        if (Objects.isNull(maxRadAcctId)) {
+            watermarkRepo.save(watermark);
+            return;
+        }
+        Set<LocalDate> computedDays = new HashSet<>();
+        boolean completed = false;
+        while (!completed) {
+            List<RadAcctRepo.RadAcctChange> changes = radAcctRepo.findInsertedAfter(watermark.getLastRadAcctId(),
+                    PageRequest.of(0, INITIAL_PAGE_SIZE));
+            SortedSet<LocalDate> pageDays = new TreeSet<>();
+            long lastRadAcctId = watermark.getLastRadAcctId();
+            boolean insertedMeanwhile = false;
+            for (RadAcctRepo.RadAcctChange change : changes) {
+                if (change.getRadAcctId() > maxRadAcctId) {
+                    insertedMeanwhile = true;
+                    break;
+                }
+                addChangedDay(pageDays, change, zoneId);
+                lastRadAcctId = change.getRadAcctId();
+            }
+            // days recomputed by a previous page already include the records of this one
+            pageDays.removeAll(computedDays);
+            pageDays.forEach(day -> rollupDay(day, zoneId));
+            computedDays.addAll(pageDays);
+            watermark.setLastRadAcctId(lastRadAcctId);
+            watermark = watermarkRepo.save(watermark);
+            completed = insertedMeanwhile || changes.size() < INITIAL_PAGE_SIZE || lastRadAcctId >= maxRadAcctId;
+        }
+        log.info("Accounting rollups built, {} days computed", computedDays.size());
+    }
+
+    public long countUsage(@NonNull AccountingUsageFilter filter) {
+        RollupSubject subjectType = RollupSubject.valueOf(filter.getSubject().name());
+        LocalDate from = Objects.isNull(filter.getFrom()) ? MIN_DAY : filter.getFrom();
+        LocalDate to = Objects.isNull(filter.getTo()) ? MAX_DAY : filter.getTo();
+        String subjectPattern = buildSubjectPattern(filter);
+        switch (filter.getWindow()) {
+            case WEEK:
+                return rollupRepo.countWeeklyUsage(subjectType, from, to, subjectPattern);
+            case MONTH:
+                return rollupRepo.countMonthlyUsage(subjectType, from, to, subjectPattern);
+            default:
+                // there is a single rollup per subject and day
+                QAccountingRollup rollup = QAccountingRollup.accountingRollup;
+                return rollupRepo.count(rollup.subjectType.eq(subjectType)
+                        .and(rollup.rollupDay.between(from, to))
+                        .and(rollup.subject.like(subjectPattern, '!')));
+        }
+    }
+
+    /**
+     * Sortable by "periodStart", "subject", "sessionCount", "sessionTime", "inputOctets" and "outputOctets",
+     * by the latest period first by default.
+     */
+    public Page<AccountingUsageDto> pageUsage(@NonNull AccountingUsageFilter filter, @NonNull Pageable pageable) {
+        RollupSubject subjectType = RollupSubject.valueOf(filter.getSubject().name());
+        LocalDate from = Objects.isNull(filter.getFrom()) ? MIN_DAY : filter.getFrom();
+        LocalDate to = Objects.isNull(filter.getTo()) ? MAX_DAY : filter.getTo();
+        String subjectPattern = buildSubjectPattern(filter);
+        Pageable totalsPageable = new OffsetPageRequest(pageable.getOffset(), pageable.getPageSize(),
+                buildTotalsSort(pageable.getSort(), filter));
+        List<AccountingRollupRepo.UsageTotals> totals;
+        switch (filter.getWindow()) {
+            case WEEK:
+                totals = rollupRepo.sumWeeklyUsage(subjectType, from, to, subjectPattern, totalsPageable);
+                break;
+            case MONTH:
+                totals = rollupRepo.sumMonthlyUsage(subjectType, from, to, subjectPattern, totalsPageable);
+                break;
+            default:
+                totals = rollupRepo.sumDailyUsage(subjectType, from, to, subjectPattern, totalsPageable);
+        }
+        List<AccountingUsageDto> content = new ArrayList<>(totals.size());
+        for (AccountingRollupRepo.UsageTotals usageTotals : totals) {
+            AccountingUsageDto usage = new AccountingUsageDto();
+            usage.setSubject(usageTotals.getSubject());
+            usage.setPeriodStart(usageTotals.getPeriodStart());
+            usage.setSessionCount(valueOrZero(usageTotals.getSessionCount()));
+            usage.setSessionTime(valueOrZero(usageTotals.getSessionTime()));
+            usage.setInputOctets(valueOrZero(usageTotals.getInputOctets()));
+            usage.setOutputOctets(valueOrZero(usageTotals.getOutputOctets()));
+            content.add(usage);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> countUsage(filter));
+    }
+
+    private void addChangedDay(Set<LocalDate> changedDays, RadAcctRepo.RadAcctChange change, ZoneId zoneId) {
+        if (Objects.nonNull(change.getAcctStartTime())) {
+            changedDays.add(change.getAcctStartTime().toInstant().atZone(zoneId).toLocalDate());
+        }
+    }
+
+    private void rollupDay(LocalDate day, ZoneId zoneId) {
+        Date from = Date.from(day.atStartOfDay(zoneId).toInstant());
+        Date to = Date.from(day.plusDays(1).atStartOfDay(zoneId).toInstant());
+        Map<List<Object>, AccountingRollup> rollups = new LinkedHashMap<>();
+        radAcctRepo.sumUsageByUsername(from, to)
+                .forEach(usage -> addUsage(rollups, RollupSubject.USER, day, usage));
+        radAcctRepo.sumUsageByNasIpAddress(from, to)
+                .forEach(usage -> addUsage(rollups, RollupSubject.NAS, day, usage));
+        List<RadAcctRepo.RadAcctUsage> archivedUsages = radAcctArchiveRepo.sumUsageByUsername(from, to);
+        if (!archivedUsages.isEmpty()) {
+            archivedUsages.forEach(usage -> addUsage(rollups, RollupSubject.USER, day, usage));
+            radAcctArchiveRepo.sumUsageByNasIpAddress(from, to)
+                    .forEach(usage -> addUsage(rollups, RollupSubject.NAS, day, usage));
+            subtractNotYetDeleted(rollups, from, to);
+        }
+        radmanTransactionTemplate.execute(status -> {
+            rollupRepo.deleteAllByRollupDay(day);
+            return rollupRepo.saveAll(rollups.values());
+        });
+    }
+
+    /**
+     * Records of an archive batch are in both tables until the batch is deleted from "radacct", they are
+     * summed only once.
+     */
+    private void subtractNotYetDeleted(Map<List<Object>, AccountingRollup> rollups, Date from, Date to) {
+        long afterRadAcctId = 0;
+        List<Long> archivedIds;
+        do {
+            archivedIds = radAcctArchiveRepo.findIdsByAcctStartTime(from, to, afterRadAcctId,
+                    PageRequest.of(0, CHANGES_BATCH_SIZE));
+            for (RadAcct record : radAcctRepo.findAllById(archivedIds)) {
+                subtractRecord(rollups.get(Arrays.asList(RollupSubject.USER, record.getUsername())), record);
+                subtractRecord(rollups.get(Arrays.asList(RollupSubject.NAS, record.getNasIpAddress())), record);
+            }
+            if (!archivedIds.isEmpty()) {
+                afterRadAcctId = archivedIds.get(archivedIds.size() - 1);
+            }
+        } while (archivedIds.size() == CHANGES_BATCH_SIZE);
+    }
+
+    private void addUsage(Map<List<Object>, AccountingRollup> rollups, RollupSubject subjectType, LocalDate day,
+                          RadAcctRepo.RadAcctUsage usage) {
+        AccountingRollup rollup = rollups.computeIfAbsent(Arrays.asList(subjectType, usage.getSubject()),
+                key -> buildRollup(subjectType, usage.getSubject(), day));
+        rollup.setSessionCount(rollup.getSessionCount() + valueOrZero(usage.getSessionCount()));
+        rollup.setSessionTime(rollup.getSessionTime() + valueOrZero(usage.getSessionTime()));
+        rollup.setInputOctets(rollup.getInputOctets() + valueOrZero(usage.getInputOctets()));
+        rollup.setOutputOctets(rollup.getOutputOctets() + valueOrZero(usage.getOutputOctets()));
+    }
+
+    private void subtractRecord(AccountingRollup rollup, RadAcct record) {
+        if (Objects.isNull(rollup)) {
+            return;
+        }
+        rollup.setSessionCount(rollup.getSessionCount() - 1);
+        rollup.setSessionTime(rollup.getSessionTime() - valueOrZero(record.getAcctSessionTime()));
+        rollup.setInputOctets(rollup.getInputOctets() - valueOrZero(record.getAcctInputOctets()));
+        rollup.setOutputOctets(rollup.getOutputOctets() - valueOrZero(record.getAcctOutputOctets()));
+    }
+
+    private AccountingRollup buildRollup(RollupSubject subjectType, String subject, LocalDate day) {
+        AccountingRollup rollup = new AccountingRollup();
+        rollup.setSubjectType(subjectType);
+        rollup.setSubject(subject);
+        rollup.setRollupDay(day);
+        rollup.setRollupWeek(day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        rollup.setRollupMonth(day.withDayOfMonth(1));
+        return rollup;
+    }
+
+    private long valueOrZero(Number value) {
+        return Objects.isNull(value) ? 0 : value.longValue();
+    }
+
+    private String buildSubjectPattern(AccountingUsageFilter filter) {
+        String searchText = Objects.isNull(filter.getSearchText()) ? "" : filter.getSearchText();
+        return searchText.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    /**
+     * Maps the grid sort keys to explicit {@link JpaSort#unsafe} orders of the usage queries, any other key
+     * is rejected.
+     */
+    private Sort buildTotalsSort(Sort sort, AccountingUsageFilter filter) {
+        String periodColumn;
+        switch (filter.getWindow()) {
+            case WEEK:
+                periodColumn = "r.rollupWeek";
+                break;
+            case MONTH:
+                periodColumn = "r.rollupMonth";
+                break;
+            default:
+                periodColumn = "r.rollupDay";
+        }
+        if (sort.isUnsorted()) {
+            return JpaSort.unsafe(Sort.Direction.DESC, periodColumn).andUnsafe(Sort.Direction.ASC, "r.subject");
+        }
+        JpaSort totalsSort = null;
+        for (Sort.Order order : sort) {
+            String expression = Objects.equals(order.getProperty(), "periodStart") ? periodColumn
+                    : TOTALS_SORT_EXPRESSIONS.get(order.getProperty());
+            if (Objects.isNull(expression)) {
+                throw new IllegalArgumentException("Usage is not sortable by " + order.getProperty());
+            }
+            totalsSort = Objects.isNull(totalsSort) ? JpaSort.unsafe(order.getDirection(), expression)
+                    : totalsSort.andUnsafe(order.getDirection(), expression);
+        }
+        return totalsSort;
+    }
+
+}
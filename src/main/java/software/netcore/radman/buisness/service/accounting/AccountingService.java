@@ -2,26 +2,39 @@ package software.netcore.radman.buisness.service.accounting;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 import software.netcore.radman.buisness.exception.NotFoundException;
 import software.netcore.radman.buisness.service.accounting.dto.AccountingDto;
 import software.netcore.radman.buisness.service.accounting.dto.AccountingFilter;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingKeysetIndex;
+import software.netcore.radman.data.internal.entity.QRadAcctArchive;
+import software.netcore.radman.data.internal.repo.RadAcctArchiveRepo;
 import software.netcore.radman.data.radius.entity.QRadAcct;
 import software.netcore.radman.data.radius.entity.RadAcct;
 import software.netcore.radman.data.radius.repo.RadAcctRepo;
-import software.netcore.radman.ui.support.Filter;
+import software.netcore.radman.data.spec.OffsetPageRequest;
+import software.netcore.radman.data.spec.RecordCounter;
+import software.netcore.radman.data.spec.ReplicaRead;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 /**
  * @since v. 1.0.0
@@ -29,7 +42,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountingService {
 
+    private static final String RAD_ACCT_ID_PROPERTY = "radAcctId";
+    private static final String ACCT_START_TIME_PROPERTY = "acctStartTime";
+
     private final RadAcctRepo radAcctRepo;
+    private final RadAcctArchiveRepo radAcctArchiveRepo;
+    private final RecordCounter radiusRecordCounter;
+    private final RecordCounter radmanRecordCounter;
+    private final ActiveSessionIndex activeSessionIndex;
     private final ConversionService conversionService;
 
     public AccountingDto setAcctStopTime(@NonNull AccountingDto accountingDto, Date acctStopTime)
@@ -51,50 +71,338 @@ public class AccountingService {
 
         radAcct.setAcctStopTime(acctStopTime);
         radAcct.setAcctUpdateTime(acctStopTime);
-        return conversionService.convert(radAcctRepo.save(radAcct), AccountingDto.class);
+        radAcct = radAcctRepo.save(radAcct);
+        activeSessionIndex.update(radAcct);
+        return conversionService.convert(radAcct, AccountingDto.class);
     }
 
+    @ReplicaRead
     public long countAccountingRecords(@NonNull AccountingFilter filter) {
-        return radAcctRepo.count(buildAccountingSearchPredicate(filter));
+        return countAccountingRecords(filter, buildAccountingSearchPredicate(filter));
+    }
+
+    public long countArchivedAccountingRecords(@NonNull AccountingFilter filter) {
+        return radmanRecordCounter.count(radAcctArchiveRepo, buildArchiveSearchPredicate(filter));
+    }
+
+    public Page<AccountingDto> pageArchivedAccountingRecords(@NonNull AccountingFilter filter,
+                                                             @NonNull Pageable pageable) {
+        return pageArchivedAccountingRecords(filter, pageable, () -> countArchivedAccountingRecords(filter));
+    }
+
+    /**
+     * Same as {@link #pageArchivedAccountingRecords(AccountingFilter, Pageable)}, but the total is taken from
+     * the supplier, e.g. the count the grid already made for the same filter.
+     */
+    public Page<AccountingDto> pageArchivedAccountingRecords(@NonNull AccountingFilter filter,
+                                                             @NonNull Pageable pageable,
+                                                             @NonNull LongSupplier totalSupplier) {
+        return radAcctArchiveRepo.findAll(buildArchiveSearchPredicate(filter), pageable, totalSupplier)
+                .map(radAcctArchive -> conversionService.convert(radAcctArchive, AccountingDto.class));
+    }
+
+    /**
+     * Streams the records matching the filter, from the archive when the filter says so, in "radAcctId" order
+     * through a forward-only cursor. The stream holds a database connection until closed.
+     */
+    public Stream<AccountingDto> streamAccountingRecords(@NonNull AccountingFilter filter) {
+        Sort sort = Sort.by(RAD_ACCT_ID_PROPERTY);
+        if (filter.isSearchArchive()) {
+            return radAcctArchiveRepo.streamAll(buildArchiveSearchPredicate(filter), sort)
+                    .map(radAcctArchive -> conversionService.convert(radAcctArchive, AccountingDto.class));
+        }
+        return radAcctRepo.streamAll(buildAccountingSearchPredicate(filter), sort)
+                .map(radAcct -> conversionService.convert(radAcct, AccountingDto.class));
     }
 
+    @ReplicaRead
+    public long countActiveSessions() {
+        if (activeSessionIndex.isReady()) {
+            return activeSessionIndex.count();
+        }
+        return radAcctRepo.count(QRadAcct.radAcct.acctStartTime.isNotNull().and(QRadAcct.radAcct.acctStopTime.isNull()));
+    }
+
+    @ReplicaRead
     public Page<AccountingDto> pageAccountingRecords(@NonNull AccountingFilter filter, @NonNull Pageable pageable) {
-        Page<RadAcct> page = radAcctRepo.findAll(buildAccountingSearchPredicate(filter), pageable);
-        List<AccountingDto> accountingDtos = page.stream()
-                .map(radAcct -> conversionService.convert(radAcct, AccountingDto.class))
-                .collect(Collectors.toList());
-        return new PageImpl<>(accountingDtos, pageable, accountingDtos.size());
+        return pageAccountingRecords(filter, pageable, () -> countAccountingRecords(filter));
+    }
+
+    @ReplicaRead
+    public Page<AccountingDto> pageAccountingRecords(@NonNull AccountingFilter filter, @NonNull Pageable pageable,
+                                                     @NonNull LongSupplier totalSupplier) {
+        return radAcctRepo.findAll(buildAccountingSearchPredicate(filter), pageable, totalSupplier)
+                .map(radAcct -> conversionService.convert(radAcct, AccountingDto.class));
+    }
+
+    /**
+     * Pages accounting records using keyset (seek) pagination when sorted by "radAcctId", or by "acctStartTime"
+     * with "radAcctId" as tie-breaker. Records without start time sort as the lowest start times, they are
+     * read by a separate seek on "radAcctId" since MySQL cannot serve NULL ordering from the index. The page is
+     * read right after the closest position remembered in the keyset index, so the cost of a page does not
+     * grow with its offset. Any other sort falls back to offset paging.
+     */
+    @ReplicaRead
+    public Page<AccountingDto> pageAccountingRecords(@NonNull AccountingFilter filter, @NonNull Pageable pageable,
+                                                     @NonNull AccountingKeysetIndex keysetIndex) {
+        return pageAccountingRecords(filter, pageable, keysetIndex, () -> countAccountingRecords(filter));
+    }
+
+    /**
+     * Same as {@link #pageAccountingRecords(AccountingFilter, Pageable, AccountingKeysetIndex)}, but the total
+     * is taken from the supplier, e.g. the count the grid already made for the same filter.
+     */
+    @ReplicaRead
+    public Page<AccountingDto> pageAccountingRecords(@NonNull AccountingFilter filter, @NonNull Pageable pageable,
+                                                     @NonNull AccountingKeysetIndex keysetIndex,
+                                                     @NonNull LongSupplier totalSupplier) {
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() != 1 || !isKeysetOrder(orders.get(0))) {
+            return pageAccountingRecords(filter, pageable, totalSupplier);
+        }
+        Sort.Order order = orders.get(0);
+        keysetIndex.useOrder(order);
+
+        Predicate predicate = buildAccountingSearchPredicate(filter);
+        long offset = pageable.getOffset();
+        AccountingKeysetIndex.Position position = null;
+        Map.Entry<Long, AccountingKeysetIndex.Position> floorPosition = keysetIndex.getFloorPosition(offset);
+        if (Objects.nonNull(floorPosition)) {
+            position = floorPosition.getValue();
+            offset -= floorPosition.getKey();
+        }
+        List<RadAcct> content = new ArrayList<>(pageable.getPageSize());
+        for (KeysetSegment segment : getKeysetSegments(filter, order)) {
+            BooleanBuilder booleanBuilder = new BooleanBuilder(predicate).and(segment.getPredicate());
+            if (Objects.nonNull(position)) {
+                // segments before the one of the position are skipped, the rest of it is read after the position
+                if (!segment.contains(position)) {
+                    continue;
+                }
+                booleanBuilder.and(buildKeysetPredicate(position, order, segment));
+                position = null;
+            }
+            List<RadAcct> segmentContent = radAcctRepo.findContent(booleanBuilder,
+                    new OffsetPageRequest(offset, pageable.getPageSize() - content.size(), segment.getSort()));
+            content.addAll(segmentContent);
+            if (content.size() == pageable.getPageSize()) {
+                break;
+            }
+            // the offset points past this segment when nothing was read, the rest of it is skipped in the next one
+            offset = segmentContent.isEmpty() && offset > 0 ? offset - radAcctRepo.count(booleanBuilder) : 0;
+        }
+
+        if (!content.isEmpty()) {
+            RadAcct last = content.get(content.size() - 1);
+            keysetIndex.putPosition(pageable.getOffset() + content.size(),
+                    new AccountingKeysetIndex.Position(last.getAcctStartTime(), last.getRadAcctId()));
+        }
+        return PageableExecutionUtils.getPage(content, pageable, totalSupplier)
+                .map(radAcct -> conversionService.convert(radAcct, AccountingDto.class));
+    }
+
+    /**
+     * Active sessions filtered at most by NAS IP address, framed IP address or calling station ID are counted
+     * by the active session index instead of the database.
+     */
+    private long countAccountingRecords(AccountingFilter filter, Predicate predicate) {
+        if (!activeSessionIndex.isReady() || !filter.isSearchOnlyActiveSessions()
+                || !StringUtils.isEmpty(filter.getSearchText())
+                || !StringUtils.isEmpty(filter.getAcctTerminateCause())
+                || Objects.nonNull(filter.getAcctStartTimeFrom()) || Objects.nonNull(filter.getAcctStartTimeTo())) {
+            return radiusRecordCounter.count(radAcctRepo, predicate);
+        }
+        boolean nasIpAddress = !StringUtils.isEmpty(filter.getNasIpAddress());
+        boolean framedIpAddress = !StringUtils.isEmpty(filter.getFramedIpAddress());
+        boolean callingStationId = !StringUtils.isEmpty(filter.getCallingStationId());
+        if (!nasIpAddress && !framedIpAddress && !callingStationId) {
+            return activeSessionIndex.count();
+        }
+        if (nasIpAddress && !framedIpAddress && !callingStationId) {
+            return activeSessionIndex.countByNasIpAddress(filter.getNasIpAddress());
+        }
+        if (!nasIpAddress && framedIpAddress && !callingStationId) {
+            return activeSessionIndex.countByFramedIpAddress(filter.getFramedIpAddress());
+        }
+        if (!nasIpAddress && !framedIpAddress) {
+            return activeSessionIndex.countByCallingStationId(filter.getCallingStationId());
+        }
+        return radiusRecordCounter.count(radAcctRepo, predicate);
+    }
+
+    private boolean isKeysetOrder(Sort.Order order) {
+        return Objects.equals(order.getProperty(), RAD_ACCT_ID_PROPERTY)
+                || Objects.equals(order.getProperty(), ACCT_START_TIME_PROPERTY);
+    }
+
+    /**
+     * Segments of the keyset order in the order they are read: all records when sorted by id, otherwise the
+     * records without start time (the lowest start times) and those with it.
+     */
+    private List<KeysetSegment> getKeysetSegments(AccountingFilter filter, Sort.Order order) {
+        if (Objects.equals(order.getProperty(), RAD_ACCT_ID_PROPERTY)) {
+            return Collections.singletonList(new KeysetSegment(null, Sort.by(order.getDirection(),
+                    RAD_ACCT_ID_PROPERTY), null));
+        }
+        QRadAcct radAcct = QRadAcct.radAcct;
+        KeysetSegment withStartTime = new KeysetSegment(radAcct.acctStartTime.isNotNull(),
+                Sort.by(order.getDirection(), ACCT_START_TIME_PROPERTY, RAD_ACCT_ID_PROPERTY), true);
+        if (filter.isAcctStartTimeRequired()) {
+            return Collections.singletonList(withStartTime);
+        }
+        KeysetSegment withoutStartTime = new KeysetSegment(radAcct.acctStartTime.isNull(),
+                Sort.by(order.getDirection(), RAD_ACCT_ID_PROPERTY), false);
+        return order.isAscending() ? Arrays.asList(withoutStartTime, withStartTime)
+                : Arrays.asList(withStartTime, withoutStartTime);
+    }
+
+    private Predicate buildKeysetPredicate(AccountingKeysetIndex.Position position, Sort.Order order,
+                                           KeysetSegment segment) {
+        QRadAcct radAcct = QRadAcct.radAcct;
+        BooleanExpression idAfter = order.isAscending() ? radAcct.radAcctId.gt(position.getRadAcctId())
+                : radAcct.radAcctId.lt(position.getRadAcctId());
+        if (!Boolean.TRUE.equals(segment.getWithStartTime())) {
+            return idAfter;
+        }
+        BooleanExpression startTimeAfter = order.isAscending()
+                ? radAcct.acctStartTime.gt(position.getAcctStartTime())
+                : radAcct.acctStartTime.lt(position.getAcctStartTime());
+        return startTimeAfter.or(radAcct.acctStartTime.eq(position.getAcctStartTime()).and(idAfter));
     }
 
     private Predicate buildAccountingSearchPredicate(@NonNull AccountingFilter filter) {
+        QRadAcct radAcct = QRadAcct.radAcct;
         BooleanBuilder booleanBuilder = new BooleanBuilder();
         if (!(StringUtils.isEmpty(filter.getSearchText()))) {
-            booleanBuilder.or(QRadAcct.radAcct.acctSessionId.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.acctUniqueId.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.username.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.realm.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.nasIpAddress.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.nasPortId.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.nasPortType.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.acctInterval.stringValue().contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.acctSessionTime.stringValue().contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.acctAuthentic.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.connectInfoStart.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.connectInfoStop.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.acctInputOctets.stringValue().contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.acctOutputOctets.stringValue().contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.calledStationId.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.callingStationId.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.acctTerminateCause.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.serviceType.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.framedProtocol.contains(filter.getSearchText()));
-            booleanBuilder.or(QRadAcct.radAcct.framedIpAddress.contains(filter.getSearchText()));
+            if (filter.isFreeTextSearch()) {
+                booleanBuilder.and(buildFreeTextPredicate(filter.getSearchText(), radAcct));
+            } else {
+                booleanBuilder.and(radAcct.username.startsWith(filter.getSearchText()));
+            }
+        }
+        if (!StringUtils.isEmpty(filter.getNasIpAddress())) {
+            booleanBuilder.and(radAcct.nasIpAddress.eq(filter.getNasIpAddress()));
+        }
+        if (!StringUtils.isEmpty(filter.getCallingStationId())) {
+            booleanBuilder.and(radAcct.callingStationId.eq(filter.getCallingStationId()));
+        }
+        if (!StringUtils.isEmpty(filter.getFramedIpAddress())) {
+            booleanBuilder.and(radAcct.framedIpAddress.eq(filter.getFramedIpAddress()));
+        }
+        if (!StringUtils.isEmpty(filter.getAcctTerminateCause())) {
+            booleanBuilder.and(radAcct.acctTerminateCause.eq(filter.getAcctTerminateCause()));
+        }
+        if (Objects.nonNull(filter.getAcctStartTimeFrom())) {
+            booleanBuilder.and(radAcct.acctStartTime.goe(filter.getAcctStartTimeFrom()));
+        }
+        if (Objects.nonNull(filter.getAcctStartTimeTo())) {
+            booleanBuilder.and(radAcct.acctStartTime.lt(filter.getAcctStartTimeTo()));
         }
         if (filter.isSearchOnlyActiveSessions()) {
-            booleanBuilder.and(QRadAcct.radAcct.acctStartTime.isNotNull());
-            booleanBuilder.and(QRadAcct.radAcct.acctStopTime.isNull());
+            booleanBuilder.and(radAcct.acctStartTime.isNotNull());
+            booleanBuilder.and(radAcct.acctStopTime.isNull());
         }
         return booleanBuilder.getValue();
     }
 
+    /**
+     * Same criteria as {@link #buildAccountingSearchPredicate(AccountingFilter)}, applied to the archive.
+     */
+    private Predicate buildArchiveSearchPredicate(@NonNull AccountingFilter filter) {
+        QRadAcctArchive radAcctArchive = QRadAcctArchive.radAcctArchive;
+        BooleanBuilder booleanBuilder = new BooleanBuilder();
+        if (!(StringUtils.isEmpty(filter.getSearchText()))) {
+            if (filter.isFreeTextSearch()) {
+                booleanBuilder.and(buildArchiveFreeTextPredicate(filter.getSearchText(), radAcctArchive));
+            } else {
+                booleanBuilder.and(radAcctArchive.username.startsWith(filter.getSearchText()));
+            }
+        }
+        if (!StringUtils.isEmpty(filter.getNasIpAddress())) {
+            booleanBuilder.and(radAcctArchive.nasIpAddress.eq(filter.getNasIpAddress()));
+        }
+        if (!StringUtils.isEmpty(filter.getCallingStationId())) {
+            booleanBuilder.and(radAcctArchive.callingStationId.eq(filter.getCallingStationId()));
+        }
+        if (!StringUtils.isEmpty(filter.getFramedIpAddress())) {
+            booleanBuilder.and(radAcctArchive.framedIpAddress.eq(filter.getFramedIpAddress()));
+        }
+        if (!StringUtils.isEmpty(filter.getAcctTerminateCause())) {
+            booleanBuilder.and(radAcctArchive.acctTerminateCause.eq(filter.getAcctTerminateCause()));
+        }
+        if (Objects.nonNull(filter.getAcctStartTimeFrom())) {
+            booleanBuilder.and(radAcctArchive.acctStartTime.goe(filter.getAcctStartTimeFrom()));
+        }
+        if (Objects.nonNull(filter.getAcctStartTimeTo())) {
+            booleanBuilder.and(radAcctArchive.acctStartTime.lt(filter.getAcctStartTimeTo()));
+        }
+        if (filter.isSearchOnlyActiveSessions()) {
+            booleanBuilder.and(radAcctArchive.acctStartTime.isNotNull());
+            booleanBuilder.and(radAcctArchive.acctStopTime.isNull());
+        }
+        return booleanBuilder.getValue();
+    }
+
+    private Predicate buildArchiveFreeTextPredicate(String searchText, QRadAcctArchive radAcctArchive) {
+        BooleanBuilder booleanBuilder = new BooleanBuilder();
+        booleanBuilder.or(radAcctArchive.acctSessionId.contains(searchText));
+        booleanBuilder.or(radAcctArchive.acctUniqueId.contains(searchText));
+        booleanBuilder.or(radAcctArchive.username.contains(searchText));
+        booleanBuilder.or(radAcctArchive.realm.contains(searchText));
+        booleanBuilder.or(radAcctArchive.nasIpAddress.contains(searchText));
+        booleanBuilder.or(radAcctArchive.nasPortId.contains(searchText));
+        booleanBuilder.or(radAcctArchive.nasPortType.contains(searchText));
+        booleanBuilder.or(radAcctArchive.acctAuthentic.contains(searchText));
+        booleanBuilder.or(radAcctArchive.connectInfoStart.contains(searchText));
+        booleanBuilder.or(radAcctArchive.connectInfoStop.contains(searchText));
+        booleanBuilder.or(radAcctArchive.calledStationId.contains(searchText));
+        booleanBuilder.or(radAcctArchive.callingStationId.contains(searchText));
+        booleanBuilder.or(radAcctArchive.acctTerminateCause.contains(searchText));
+        booleanBuilder.or(radAcctArchive.serviceType.contains(searchText));
+        booleanBuilder.or(radAcctArchive.framedProtocol.contains(searchText));
+        booleanBuilder.or(radAcctArchive.framedIpAddress.contains(searchText));
+        return booleanBuilder.getValue();
+    }
+
+    private Predicate buildFreeTextPredicate(String searchText, QRadAcct radAcct) {
+        BooleanBuilder booleanBuilder = new BooleanBuilder();
+        booleanBuilder.or(radAcct.acctSessionId.contains(searchText));
+        booleanBuilder.or(radAcct.acctUniqueId.contains(searchText));
+        booleanBuilder.or(radAcct.username.contains(searchText));
+        booleanBuilder.or(radAcct.realm.contains(searchText));
+        booleanBuilder.or(radAcct.nasIpAddress.contains(searchText));
+        booleanBuilder.or(radAcct.nasPortId.contains(searchText));
+        booleanBuilder.or(radAcct.nasPortType.contains(searchText));
+        booleanBuilder.or(radAcct.acctAuthentic.contains(searchText));
+        booleanBuilder.or(radAcct.connectInfoStart.contains(searchText));
+        booleanBuilder.or(radAcct.connectInfoStop.contains(searchText));
+        booleanBuilder.or(radAcct.calledStationId.contains(searchText));
+        booleanBuilder.or(radAcct.callingStationId.contains(searchText));
+        booleanBuilder.or(radAcct.acctTerminateCause.contains(searchText));
+        booleanBuilder.or(radAcct.serviceType.contains(searchText));
+        booleanBuilder.or(radAcct.framedProtocol.contains(searchText));
+        booleanBuilder.or(radAcct.framedIpAddress.contains(searchText));
+        return booleanBuilder.getValue();
+    }
+
+    /**
+     * Part of the keyset order read by a single seek.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class KeysetSegment {
+
+        private final Predicate predicate;
+        private final Sort sort;
+        /**
+         * Whether the segment holds the records with or without start time, null when start time is not sorted by.
+         */
+        private final Boolean withStartTime;
+
+        boolean contains(AccountingKeysetIndex.Position position) {
+            return Objects.isNull(withStartTime) || withStartTime == Objects.nonNull(position.getAcctStartTime());
+        }
+
+    }
+
 }
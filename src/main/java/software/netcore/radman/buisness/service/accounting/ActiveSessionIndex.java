@@ -0,0 +1,267 @@
+package software.netcore.radman.buisness.service.accounting;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import software.netcore.radman.data.radius.entity.QRadAcct;
+import software.netcore.radman.data.radius.entity.RadAcct;
+import software.netcore.radman.data.radius.repo.RadAcctRepo;
+import software.netcore.radman.data.spec.OffsetPageRequest;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of active accounting sessions (started and not stopped) with constant time lookups and
+ * counts by username, NAS IP address, framed IP address and calling station ID. The index is bootstrapped
+ * from the "radacct" table on the first refresh, every next refresh reads only the records inserted after
+ * the highest id seen (a primary key range) and the records updated since the latest update time seen (an
+ * "acctupdatetime" index range). Lookups may therefore lag behind the database by one refresh interval;
+ * until the first refresh completes the index is not {@link #isReady() ready} and must not be used.
+ * Refreshes read the database without locking the index, records changed directly by {@link #update(RadAcct)}
+ * or {@link #remove(Long)} while a refresh is running are not overwritten by the refresh.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ActiveSessionIndex {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ActiveSession {
+
+        private final Long radAcctId;
+        private final String username;
+        private final String nasIpAddress;
+        private final String framedIpAddress;
+        private final String callingStationId;
+        private final Date acctStartTime;
+
+    }
+
+    private final RadAcctRepo radAcctRepo;
+
+    private final Map<Long, ActiveSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> byUsername = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> byNasIpAddress = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> byFramedIpAddress = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> byCallingStationId = new ConcurrentHashMap<>();
+
+    private final Object refreshLock = new Object();
+    private final Set<Long> changedDuringRefresh = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+    private volatile boolean refreshing = false;
+    private long lastRadAcctId = 0;
+    private Date lastAcctUpdateTime = new Date(0);
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int count() {
+        return sessions.size();
+    }
+
+    public int countByUsername(@NonNull String username) {
+        return byUsername.getOrDefault(username, Collections.emptySet()).size();
+    }
+
+    public int countByNasIpAddress(@NonNull String nasIpAddress) {
+        return byNasIpAddress.getOrDefault(nasIpAddress, Collections.emptySet()).size();
+    }
+
+    public int countByFramedIpAddress(@NonNull String framedIpAddress) {
+        return byFramedIpAddress.getOrDefault(framedIpAddress, Collections.emptySet()).size();
+    }
+
+    public int countByCallingStationId(@NonNull String callingStationId) {
+        return byCallingStationId.getOrDefault(callingStationId, Collections.emptySet()).size();
+    }
+
+    public List<ActiveSession> findByUsername(@NonNull String username) {
+        return lookup(byUsername, username);
+    }
+
+    public List<ActiveSession> findByNasIpAddress(@NonNull String nasIpAddress) {
+        return lookup(byNasIpAddress, nasIpAddress);
+    }
+
+    public List<ActiveSession> findByFramedIpAddress(@NonNull String framedIpAddress) {
+        return lookup(byFramedIpAddress, framedIpAddress);
+    }
+
+    public List<ActiveSession> findByCallingStationId(@NonNull String callingStationId) {
+        return lookup(byCallingStationId, callingStationId);
+    }
+
+    /**
+     * Reads records inserted or updated since the previous refresh, the first refresh reads all active sessions.
+     */
+    @Scheduled(fixedDelayString = "${accounting.active-sessions.refresh-interval:10000}")
+    public void refresh() {
+        synchronized (refreshLock) {
+            changedDuringRefresh.clear();
+            refreshing = true;
+            try {
+                if (ready) {
+                    int read = readInserted() + readUpdated();
+                    log.debug("Active session index refreshed, {} records read", read);
+                } else {
+                    bootstrap();
+                    ready = true;
+                    log.info("Active session index bootstrapped with {} sessions", sessions.size());
+                }
+            } finally {
+                refreshing = false;
+                changedDuringRefresh.clear();
+            }
+        }
+    }
+
+    /**
+     * Puts the session into the index when it is active, removes it otherwise.
+     */
+    public synchronized void update(@NonNull RadAcct record) {
+        remove(record.getRadAcctId());
+        put(record);
+    }
+
+    public synchronized void remove(@NonNull Long radAcctId) {
+        if (refreshing) {
+            changedDuringRefresh.add(radAcctId);
+        }
+        removeSession(radAcctId);
+    }
+
+    private void removeSession(Long radAcctId) {
+        ActiveSession session = sessions.remove(radAcctId);
+        if (Objects.nonNull(session)) {
+            removeKey(byUsername, session.getUsername(), radAcctId);
+            removeKey(byNasIpAddress, session.getNasIpAddress(), radAcctId);
+            removeKey(byFramedIpAddress, session.getFramedIpAddress(), radAcctId);
+            removeKey(byCallingStationId, session.getCallingStationId(), radAcctId);
+        }
+    }
+
+    /**
+     * Watermarks are taken before the active sessions are read, records changed meanwhile are read again by the
+     * next refresh.
+     */
+    private void bootstrap() {
+        Long maxRadAcctId = radAcctRepo.findMaxRadAcctId();
+        Date maxAcctUpdateTime = radAcctRepo.findMaxAcctUpdateTime();
+        QRadAcct radAcct = QRadAcct.radAcct;
+        long afterRadAcctId = 0;
+        List<RadAcct> batch;
+        do {
+            batch = radAcctRepo.findContent(radAcct.acctStartTime.isNotNull().and(radAcct.acctStopTime.isNull())
+                            .and(radAcct.radAcctId.gt(afterRadAcctId)),
+                    new OffsetPageRequest(0, BATCH_SIZE, Sort.by("radAcctId")));
+            apply(batch);
+            if (!batch.isEmpty()) {
+                afterRadAcctId = batch.get(batch.size() - 1).getRadAcctId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+        lastRadAcctId = Objects.isNull(maxRadAcctId) ? 0 : maxRadAcctId;
+        lastAcctUpdateTime = Objects.isNull(maxAcctUpdateTime) ? new Date(0) : maxAcctUpdateTime;
+    }
+
+    private int readInserted() {
+        QRadAcct radAcct = QRadAcct.radAcct;
+        int read = 0;
+        List<RadAcct> batch;
+        do {
+            batch = radAcctRepo.findContent(radAcct.radAcctId.gt(lastRadAcctId),
+                    new OffsetPageRequest(0, BATCH_SIZE, Sort.by("radAcctId")));
+            apply(batch);
+            if (!batch.isEmpty()) {
+                lastRadAcctId = batch.get(batch.size() - 1).getRadAcctId();
+            }
+            read += batch.size();
+        } while (batch.size() == BATCH_SIZE);
+        return read;
+    }
+
+    /**
+     * Records updated at the watermark time are read again, they may have been updated after the previous
+     * refresh within the same second.
+     */
+    private int readUpdated() {
+        QRadAcct radAcct = QRadAcct.radAcct;
+        Date afterAcctUpdateTime = lastAcctUpdateTime;
+        long afterRadAcctId = 0;
+        int read = 0;
+        List<RadAcct> batch;
+        do {
+            batch = radAcctRepo.findContent(radAcct.acctUpdateTime.goe(afterAcctUpdateTime)
+                            .and(radAcct.acctUpdateTime.gt(afterAcctUpdateTime)
+                                    .or(radAcct.radAcctId.gt(afterRadAcctId))),
+                    new OffsetPageRequest(0, BATCH_SIZE, Sort.by("acctUpdateTime", "radAcctId")));
+            apply(batch);
+            if (!batch.isEmpty()) {
+                RadAcct last = batch.get(batch.size() - 1);
+                afterAcctUpdateTime = last.getAcctUpdateTime();
+                afterRadAcctId = last.getRadAcctId();
+            }
+            read += batch.size();
+        } while (batch.size() == BATCH_SIZE);
+        lastAcctUpdateTime = afterAcctUpdateTime;
+        return read;
+    }
+
+    private synchronized void apply(List<RadAcct> batch) {
+        for (RadAcct record : batch) {
+            if (!changedDuringRefresh.contains(record.getRadAcctId())) {
+                removeSession(record.getRadAcctId());
+                put(record);
+            }
+        }
+    }
+
+    private void put(RadAcct record) {
+        if (Objects.nonNull(record.getAcctStartTime()) && Objects.isNull(record.getAcctStopTime())) {
+            ActiveSession session = new ActiveSession(record.getRadAcctId(), record.getUsername(),
+                    record.getNasIpAddress(), record.getFramedIpAddress(), record.getCallingStationId(),
+                    record.getAcctStartTime());
+            sessions.put(session.getRadAcctId(), session);
+            addKey(byUsername, session.getUsername(), session.getRadAcctId());
+            addKey(byNasIpAddress, session.getNasIpAddress(), session.getRadAcctId());
+            addKey(byFramedIpAddress, session.getFramedIpAddress(), session.getRadAcctId());
+            addKey(byCallingStationId, session.getCallingStationId(), session.getRadAcctId());
+        }
+    }
+
+    private List<ActiveSession> lookup(Map<String, Set<Long>> index, String key) {
+        List<ActiveSession> result = new ArrayList<>();
+        for (Long radAcctId : index.getOrDefault(key, Collections.emptySet())) {
+            ActiveSession session = sessions.get(radAcctId);
+            if (Objects.nonNull(session)) {
+                result.add(session);
+            }
+        }
+        return result;
+    }
+
+    private void addKey(Map<String, Set<Long>> index, String key, Long radAcctId) {
+        if (Objects.nonNull(key)) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(radAcctId);
+        }
+    }
+
+    private void removeKey(Map<String, Set<Long>> index, String key, Long radAcctId) {
+        if (Objects.nonNull(key)) {
+            index.computeIfPresent(key, (k, ids) -> {
+                ids.remove(radAcctId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+}
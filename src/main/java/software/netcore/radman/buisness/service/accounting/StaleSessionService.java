@@ -0,0 +1,104 @@
+package software.netcore.radman.buisness.service.accounting;
+
+import com.querydsl.core.BooleanBuilder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+import software.netcore.radman.buisness.service.accounting.conf.StaleSessionProperties;
+import software.netcore.radman.buisness.service.accounting.dto.StaleSessionCriteria;
+import software.netcore.radman.buisness.service.accounting.dto.StaleSessionReport;
+import software.netcore.radman.data.radius.entity.QRadAcct;
+import software.netcore.radman.data.radius.entity.RadAcct;
+import software.netcore.radman.data.radius.repo.RadAcctRepo;
+import software.netcore.radman.data.radius.repo.RadiusBulkWriteRepo;
+import software.netcore.radman.data.spec.OffsetPageRequest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Closes active sessions which are no longer updated by their NAS, e.g. after the NAS rebooted. Sessions are
+ * selected in batches and every batch is closed by a single JDBC batch of UPDATE statements. Each UPDATE skips
+ * its session if updated after the selected update, an interim update received between the select and
+ * the UPDATE keeps the session open.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StaleSessionService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final RadAcctRepo radAcctRepo;
+    private final RadiusBulkWriteRepo radiusBulkWriteRepo;
+    private final ActiveSessionIndex activeSessionIndex;
+    private final StaleSessionProperties properties;
+
+    @Scheduled(initialDelayString = "${accounting.stale-sessions.interval:600000}",
+            fixedDelayString = "${accounting.stale-sessions.interval:600000}")
+    public void closeStaleSessionsPeriodically() {
+        if (properties.isEnabled()) {
+            StaleSessionReport report = closeStaleSessions(new StaleSessionCriteria(null,
+                    properties.getMaxIdleSeconds(), properties.getInterimIntervalMultiplier()));
+            log.info("Stale sessions closed: {}", report);
+        }
+    }
+
+    public StaleSessionReport closeStaleSessions(@NonNull StaleSessionCriteria criteria) {
+        if (Objects.isNull(criteria.getMaxIdleSeconds()) && Objects.isNull(criteria.getInterimIntervalMultiplier())) {
+            throw new IllegalArgumentException("Max idle seconds or interim interval multiplier is required");
+        }
+        QRadAcct radAcct = QRadAcct.radAcct;
+        BooleanBuilder active = new BooleanBuilder();
+        active.and(radAcct.acctStartTime.isNotNull());
+        active.and(radAcct.acctStopTime.isNull());
+        if (!StringUtils.isEmpty(criteria.getNasIpAddress())) {
+            active.and(radAcct.nasIpAddress.eq(criteria.getNasIpAddress()));
+        }
+
+        long now = System.currentTimeMillis();
+        long checked = 0;
+        long closed = 0;
+        long afterRadAcctId = 0;
+        List<RadAcct> batch;
+        do {
+            batch = radAcctRepo.findContent(new BooleanBuilder(active).and(radAcct.radAcctId.gt(afterRadAcctId)),
+                    new OffsetPageRequest(0, BATCH_SIZE, Sort.by("radAcctId")));
+            List<RadAcct> staleSessions = new ArrayList<>();
+            for (RadAcct session : batch) {
+                if (isStale(session, criteria, now)) {
+                    staleSessions.add(session);
+                }
+                afterRadAcctId = session.getRadAcctId();
+            }
+            if (!staleSessions.isEmpty()) {
+                closed += radiusBulkWriteRepo.closeSessions(staleSessions, (index, e) ->
+                        log.warn("Failed to close stale session {}", staleSessions.get(index).getRadAcctId(), e));
+                staleSessions.forEach(session -> activeSessionIndex.remove(session.getRadAcctId()));
+            }
+            checked += batch.size();
+        } while (batch.size() == BATCH_SIZE);
+        return new StaleSessionReport(checked, closed);
+    }
+
+    private boolean isStale(RadAcct session, StaleSessionCriteria criteria, long now) {
+        long idleMillis = now - getLastSeen(session).getTime();
+        if (Objects.nonNull(criteria.getMaxIdleSeconds()) && idleMillis > criteria.getMaxIdleSeconds() * 1000) {
+            return true;
+        }
+        return Objects.nonNull(criteria.getInterimIntervalMultiplier())
+                && Objects.nonNull(session.getAcctInterval()) && session.getAcctInterval() > 0
+                && idleMillis > session.getAcctInterval() * 1000L * criteria.getInterimIntervalMultiplier();
+    }
+
+    private Date getLastSeen(RadAcct session) {
+        return Objects.isNull(session.getAcctUpdateTime()) ? session.getAcctStartTime() : session.getAcctUpdateTime();
+    }
+
+}
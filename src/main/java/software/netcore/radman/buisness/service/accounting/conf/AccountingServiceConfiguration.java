@@ -1,35 +1,110 @@
 package software.netcore.radman.buisness.service.accounting.conf;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.netcore.radman.buisness.service.accounting.AccountingArchiveService;
+import software.netcore.radman.buisness.service.accounting.AccountingRollupService;
 import software.netcore.radman.buisness.service.accounting.AccountingService;
+import software.netcore.radman.buisness.service.accounting.ActiveSessionIndex;
+import software.netcore.radman.buisness.service.accounting.StaleSessionService;
+import software.netcore.radman.buisness.service.accounting.converter.RadAcctArchiveToDtoConverter;
+import software.netcore.radman.buisness.service.accounting.converter.RadAcctToArchiveConverter;
 import software.netcore.radman.buisness.service.accounting.converter.RadAcctToDtoConverter;
+import software.netcore.radman.data.internal.repo.AccountingRollupRepo;
+import software.netcore.radman.data.internal.repo.AccountingRollupWatermarkRepo;
+import software.netcore.radman.data.internal.repo.RadAcctArchiveRepo;
 import software.netcore.radman.data.radius.repo.RadAcctRepo;
+import software.netcore.radman.data.radius.repo.RadiusBulkWriteRepo;
+import software.netcore.radman.data.spec.RecordCounter;
 
 /**
  * @since v. 1.0.0
  */
 @Configuration
+@EnableScheduling
 public class AccountingServiceConfiguration {
 
     private final RadAcctRepo radAcctRepo;
+    private final RadiusBulkWriteRepo radiusBulkWriteRepo;
+    private final RadAcctArchiveRepo radAcctArchiveRepo;
+    private final RecordCounter radiusRecordCounter;
+    private final RecordCounter radmanRecordCounter;
+    private final AccountingRollupRepo accountingRollupRepo;
+    private final AccountingRollupWatermarkRepo accountingRollupWatermarkRepo;
+    private final PlatformTransactionManager radmanTxManager;
     private final ConversionService conversionService;
 
     @Autowired
     public AccountingServiceConfiguration(RadAcctRepo radAcctRepo,
+                                          RadiusBulkWriteRepo radiusBulkWriteRepo,
+                                          RadAcctArchiveRepo radAcctArchiveRepo,
+                                          @Qualifier("radiusRecordCounter") RecordCounter radiusRecordCounter,
+                                          @Qualifier("radmanRecordCounter") RecordCounter radmanRecordCounter,
+                                          AccountingRollupRepo accountingRollupRepo,
+                                          AccountingRollupWatermarkRepo accountingRollupWatermarkRepo,
+                                          @Qualifier("txRadman") PlatformTransactionManager radmanTxManager,
                                           DefaultConversionService conversionService) {
         this.radAcctRepo = radAcctRepo;
+        this.radiusBulkWriteRepo = radiusBulkWriteRepo;
+        this.radAcctArchiveRepo = radAcctArchiveRepo;
+        this.radiusRecordCounter = radiusRecordCounter;
+        this.radmanRecordCounter = radmanRecordCounter;
+        this.accountingRollupRepo = accountingRollupRepo;
+        this.accountingRollupWatermarkRepo = accountingRollupWatermarkRepo;
+        this.radmanTxManager = radmanTxManager;
         this.conversionService = conversionService;
 
         conversionService.addConverter(new RadAcctToDtoConverter());
+        conversionService.addConverter(new RadAcctArchiveToDtoConverter());
+        conversionService.addConverter(new RadAcctToArchiveConverter());
     }
 
     @Bean
     AccountingService accountingService() {
-        return new AccountingService(radAcctRepo, conversionService);
+        return new AccountingService(radAcctRepo, radAcctArchiveRepo, radiusRecordCounter, radmanRecordCounter,
+                activeSessionIndex(), conversionService);
+    }
+
+    @Bean
+    ActiveSessionIndex activeSessionIndex() {
+        return new ActiveSessionIndex(radAcctRepo);
+    }
+
+    @Bean
+    @ConfigurationProperties("accounting.stale-sessions")
+    StaleSessionProperties staleSessionProperties() {
+        return new StaleSessionProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("accounting.archive")
+    ArchiveProperties archiveProperties() {
+        return new ArchiveProperties();
+    }
+
+    @Bean
+    AccountingArchiveService accountingArchiveService() {
+        return new AccountingArchiveService(radAcctRepo, radAcctArchiveRepo, archiveProperties(), conversionService);
+    }
+
+    @Bean
+    StaleSessionService staleSessionService() {
+        return new StaleSessionService(radAcctRepo, radiusBulkWriteRepo, activeSessionIndex(),
+                staleSessionProperties());
+    }
+
+    @Bean
+    AccountingRollupService accountingRollupService() {
+        return new AccountingRollupService(radAcctRepo, radAcctArchiveRepo, accountingRollupRepo,
+                accountingRollupWatermarkRepo, new TransactionTemplate(radmanTxManager));
     }
 
 }
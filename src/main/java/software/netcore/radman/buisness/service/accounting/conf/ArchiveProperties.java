@@ -0,0 +1,35 @@
+package software.netcore.radman.buisness.service.accounting.conf;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchiveProperties {
+
+    /**
+     * Whether closed sessions are periodically moved from "radacct" to the archive.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Sessions stopped more than this many days ago are archived.
+     */
+    private int retentionDays = 365;
+
+    /**
+     * Number of sessions moved by one batch.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Pause between batches, keeps the archiving from saturating the Radius DB.
+     */
+    private long batchPauseMillis = 200;
+
+}
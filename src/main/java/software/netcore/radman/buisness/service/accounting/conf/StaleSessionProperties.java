@@ -0,0 +1,30 @@
+package software.netcore.radman.buisness.service.accounting.conf;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class StaleSessionProperties {
+
+    /**
+     * Whether stale sessions are closed periodically.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Sessions without accounting update for this many seconds are closed. Disabled when not set.
+     */
+    private Long maxIdleSeconds;
+
+    /**
+     * Sessions without accounting update for this many of their interim intervals are closed. Disabled when not set.
+     */
+    private Integer interimIntervalMultiplier = 3;
+
+}
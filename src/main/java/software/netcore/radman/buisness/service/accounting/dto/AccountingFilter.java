@@ -5,7 +5,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import software.netcore.radman.ui.support.Filter;
 
+import java.util.Date;
+import java.util.Objects;
+
 /**
+ * Structured accounting filter. Every criterion maps to a predicate which can be served from the "radacct"
+ * indexes, the search text is matched as username prefix. Matching the search text against all text
+ * columns has to be requested explicitly by {@link #freeTextSearch}, since it always scans the whole table.
+ * With {@link #searchArchive} the archived (closed) sessions are searched instead of the "radacct" table.
+ *
  * @since v. 1.0.1
  */
 @Getter
@@ -14,5 +22,39 @@ import software.netcore.radman.ui.support.Filter;
 public class AccountingFilter extends Filter {
 
    private boolean searchOnlyActiveSessions = true;
+   private boolean freeTextSearch = false;
+   private boolean searchArchive = false;
+
+   private String nasIpAddress;
+   private String callingStationId;
+   private String framedIpAddress;
+   private String acctTerminateCause;
+   private Date acctStartTimeFrom;
+   private Date acctStartTimeTo;
+
+   /**
+    * @return true if only records with known acct start time can match the filter
+    */
+   public boolean isAcctStartTimeRequired() {
+      return searchOnlyActiveSessions || Objects.nonNull(acctStartTimeFrom) || Objects.nonNull(acctStartTimeTo);
+   }
+
+   /**
+    * @return independent copy of the filter, unaffected by later changes of this one
+    */
+   public AccountingFilter copy() {
+      AccountingFilter copy = new AccountingFilter();
+      copy.setSearchText(getSearchText());
+      copy.setSearchOnlyActiveSessions(searchOnlyActiveSessions);
+      copy.setFreeTextSearch(freeTextSearch);
+      copy.setSearchArchive(searchArchive);
+      copy.setNasIpAddress(nasIpAddress);
+      copy.setCallingStationId(callingStationId);
+      copy.setFramedIpAddress(framedIpAddress);
+      copy.setAcctTerminateCause(acctTerminateCause);
+      copy.setAcctStartTimeFrom(acctStartTimeFrom);
+      copy.setAcctStartTimeTo(acctStartTimeTo);
+      return copy;
+   }
 
 }
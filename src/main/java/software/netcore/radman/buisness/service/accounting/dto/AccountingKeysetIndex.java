@@ -0,0 +1,67 @@
+package software.netcore.radman.buisness.service.accounting.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Keyset positions remembered while paging through accounting records. Maps a row offset to the sort key of the
+ * row right before it, so the next page can seek past that key instead of letting the database skip the offset.
+ * Offsets shift as records are inserted, so the index is owned by a single grid and must be cleared whenever the
+ * grid recounts its records (its filter or sort changes or its data is refreshed).
+ *
+ * @since v. 1.0.3
+ */
+public class AccountingKeysetIndex implements Serializable {
+
+    private static final long serialVersionUID = -3187390815309475412L;
+
+    private static final int MAX_POSITIONS = 10_000;
+
+    private final NavigableMap<Long, Position> positions = new TreeMap<>();
+    private Sort.Order order;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Position implements Serializable {
+
+        private static final long serialVersionUID = 6245402447470711295L;
+
+        private final Date acctStartTime;
+        private final Long radAcctId;
+
+    }
+
+    public void clear() {
+        positions.clear();
+    }
+
+    /**
+     * Positions are only valid for the order they were recorded with, changing it starts over.
+     */
+    public void useOrder(Sort.Order order) {
+        if (!Objects.equals(this.order, order)) {
+            this.order = order;
+            positions.clear();
+        }
+    }
+
+    public Map.Entry<Long, Position> getFloorPosition(long offset) {
+        return positions.floorEntry(offset);
+    }
+
+    public void putPosition(long offset, Position position) {
+        if (positions.size() >= MAX_POSITIONS) {
+            positions.pollFirstEntry();
+        }
+        positions.put(offset, position);
+    }
+
+}
@@ -0,0 +1,26 @@
+package software.netcore.radman.buisness.service.accounting.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Usage totals of one user or NAS within one period.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = {"subject", "periodStart"})
+public class AccountingUsageDto {
+
+    private String subject;
+    private LocalDate periodStart;
+    private long sessionCount;
+    private long sessionTime;
+    private long inputOctets;
+    private long outputOctets;
+
+}
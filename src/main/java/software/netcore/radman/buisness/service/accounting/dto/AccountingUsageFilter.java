@@ -0,0 +1,25 @@
+package software.netcore.radman.buisness.service.accounting.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import software.netcore.radman.ui.support.Filter;
+
+import java.time.LocalDate;
+
+/**
+ * Search text is matched as subject (username or NAS IP address) prefix. Both from and to days are inclusive.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AccountingUsageFilter extends Filter {
+
+    private UsageSubjectDto subject = UsageSubjectDto.USER;
+    private UsageWindowDto window = UsageWindowDto.DAY;
+    private LocalDate from = LocalDate.now().minusDays(30);
+    private LocalDate to = LocalDate.now();
+
+}
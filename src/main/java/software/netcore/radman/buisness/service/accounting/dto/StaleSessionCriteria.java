@@ -0,0 +1,24 @@
+package software.netcore.radman.buisness.service.accounting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Active session is stale when it matches the NAS IP address (if set) and its last accounting update is older
+ * than max idle seconds or than interim interval multiplier times its interim interval (whichever is set).
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StaleSessionCriteria {
+
+    private String nasIpAddress;
+    private Long maxIdleSeconds;
+    private Integer interimIntervalMultiplier;
+
+}
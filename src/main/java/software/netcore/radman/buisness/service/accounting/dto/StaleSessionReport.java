@@ -0,0 +1,18 @@
+package software.netcore.radman.buisness.service.accounting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StaleSessionReport {
+
+    private final long checkedSessions;
+    private final long closedSessions;
+
+}
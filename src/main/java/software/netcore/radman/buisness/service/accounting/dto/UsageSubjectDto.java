@@ -0,0 +1,11 @@
+package software.netcore.radman.buisness.service.accounting.dto;
+
+/**
+ * @since v. 1.0.3
+ */
+public enum UsageSubjectDto {
+
+    USER,
+    NAS
+
+}
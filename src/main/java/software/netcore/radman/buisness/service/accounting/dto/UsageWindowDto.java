@@ -0,0 +1,12 @@
+package software.netcore.radman.buisness.service.accounting.dto;
+
+/**
+ * @since v. 1.0.3
+ */
+public enum UsageWindowDto {
+
+    DAY,
+    WEEK,
+    MONTH
+
+}
@@ -0,0 +1,102 @@
+package software.netcore.radman.buisness.service.attribute;
+
+import lombok.NonNull;
+import software.netcore.radman.data.internal.entity.RadCheckAttribute;
+import software.netcore.radman.data.internal.entity.RadReplyAttribute;
+import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
+import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of the attributes managed by RadMan, mapped to their "sensitive data" flag in catalog
+ * order. The catalog is read from RadMan DB on first use and kept until invalidated. Every code path
+ * writing to the "radcheck_attribute" / "radreply_attribute" tables must invalidate the matching catalog
+ * once the write is committed.
+ *
+ * @since v. 1.0.3
+ */
+public class AttributeCatalog {
+
+    private final CachedAttributes authenticationAttributes;
+    private final CachedAttributes authorizationAttributes;
+
+    public AttributeCatalog(@NonNull RadCheckAttributeRepo checkAttributeRepo,
+                            @NonNull RadReplyAttributeRepo replyAttributeRepo) {
+        this.authenticationAttributes = new CachedAttributes(() -> {
+            Map<String, Boolean> attributes = new LinkedHashMap<>();
+            for (RadCheckAttribute attribute : checkAttributeRepo.findAll()) {
+                attributes.put(attribute.getName(), attribute.isSensitiveData());
+            }
+            return attributes;
+        });
+        this.authorizationAttributes = new CachedAttributes(() -> {
+            Map<String, Boolean> attributes = new LinkedHashMap<>();
+            for (RadReplyAttribute attribute : replyAttributeRepo.findAll()) {
+                attributes.put(attribute.getName(), attribute.isSensitiveData());
+            }
+            return attributes;
+        });
+    }
+
+    /**
+     * @return unmodifiable map of authentication (check) attribute names to their "sensitive data" flag
+     */
+    public Map<String, Boolean> getAuthenticationAttributes() {
+        return authenticationAttributes.get();
+    }
+
+    /**
+     * @return unmodifiable map of authorization (reply) attribute names to their "sensitive data" flag
+     */
+    public Map<String, Boolean> getAuthorizationAttributes() {
+        return authorizationAttributes.get();
+    }
+
+    public void invalidateAuthenticationAttributes() {
+        authenticationAttributes.invalidate();
+    }
+
+    public void invalidateAuthorizationAttributes() {
+        authorizationAttributes.invalidate();
+    }
+
+    /**
+     * Loads are serialized with invalidations, so an invalidation issued after a committed write can never
+     * be overwritten by a load that read the table before that write.
+     */
+    private static class CachedAttributes {
+
+        private final Supplier<Map<String, Boolean>> loader;
+
+        private volatile Map<String, Boolean> attributes;
+
+        CachedAttributes(Supplier<Map<String, Boolean>> loader) {
+            this.loader = loader;
+        }
+
+        Map<String, Boolean> get() {
+            Map<String, Boolean> current = attributes;
+            if (Objects.isNull(current)) {
+                synchronized (this) {
+                    current = attributes;
+                    if (Objects.isNull(current)) {
+                        current = Collections.unmodifiableMap(loader.get());
+                        attributes = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        synchronized void invalidate() {
+            attributes = null;
+        }
+
+    }
+
+}
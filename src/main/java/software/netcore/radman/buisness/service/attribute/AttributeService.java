@@ -5,17 +5,18 @@ import com.querydsl.core.types.Predicate;
 import lombok.NonNull;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.util.StringUtils;
 import software.netcore.radman.buisness.service.attribute.dto.AttributeFilter;
 import software.netcore.radman.buisness.service.attribute.dto.AuthenticationAttributeDto;
 import software.netcore.radman.buisness.service.attribute.dto.AuthorizationAttributeDto;
 import software.netcore.radman.buisness.service.dto.LoadingResult;
+import software.netcore.radman.buisness.service.loading.NameLoader;
 import software.netcore.radman.data.internal.entity.QRadCheckAttribute;
 import software.netcore.radman.data.internal.entity.QRadReplyAttribute;
 import software.netcore.radman.data.internal.entity.RadCheckAttribute;
 import software.netcore.radman.data.internal.entity.RadReplyAttribute;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
 import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
 import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
 import software.netcore.radman.data.radius.repo.RadCheckRepo;
@@ -24,9 +25,13 @@ import software.netcore.radman.data.radius.repo.RadGroupReplyRepo;
 import software.netcore.radman.data.radius.repo.RadReplyRepo;
 
 import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +41,8 @@ public class AttributeService {
 
     private final RadCheckAttributeRepo checkAttributeRepo;
     private final RadReplyAttributeRepo replyAttributeRepo;
+    private final BulkWriteRepo bulkWriteRepo;
+    private final AttributeCatalog attributeCatalog;
 
     private final RadCheckRepo radCheckRepo;
     private final RadReplyRepo radReplyRepo;
@@ -43,50 +50,62 @@ public class AttributeService {
     private final RadGroupReplyRepo radGroupReplyRepo;
 
     private final ConversionService conversionService;
+    private final Executor discoveryExecutor;
 
     public AttributeService(RadCheckAttributeRepo checkAttributeRepo,
                             RadReplyAttributeRepo replyAttributeRepo,
+                            BulkWriteRepo bulkWriteRepo,
+                            AttributeCatalog attributeCatalog,
                             RadCheckRepo radCheckRepo,
                             RadReplyRepo radReplyRepo,
                             RadGroupCheckRepo radGroupCheckRepo,
                             RadGroupReplyRepo radGroupReplyRepo,
-                            ConversionService conversionService) {
+                            ConversionService conversionService,
+                            Executor discoveryExecutor) {
         this.checkAttributeRepo = checkAttributeRepo;
         this.replyAttributeRepo = replyAttributeRepo;
+        this.bulkWriteRepo = bulkWriteRepo;
+        this.attributeCatalog = attributeCatalog;
         this.radCheckRepo = radCheckRepo;
         this.radReplyRepo = radReplyRepo;
         this.radGroupCheckRepo = radGroupCheckRepo;
         this.radGroupReplyRepo = radGroupReplyRepo;
         this.conversionService = conversionService;
+        this.discoveryExecutor = discoveryExecutor;
     }
 
     public AuthenticationAttributeDto createAuthenticationAttribute(@NonNull AuthenticationAttributeDto attributeDto) {
         RadCheckAttribute attribute = conversionService.convert(attributeDto, RadCheckAttribute.class);
         attribute = checkAttributeRepo.save(attribute);
+        attributeCatalog.invalidateAuthenticationAttributes();
         return conversionService.convert(attribute, AuthenticationAttributeDto.class);
     }
 
     public AuthorizationAttributeDto createAuthorizationAttribute(@NonNull AuthorizationAttributeDto attributeDto) {
         RadReplyAttribute attribute = conversionService.convert(attributeDto, RadReplyAttribute.class);
         attribute = replyAttributeRepo.save(attribute);
+        attributeCatalog.invalidateAuthorizationAttributes();
         return conversionService.convert(attribute, AuthorizationAttributeDto.class);
     }
 
     public AuthenticationAttributeDto updateAuthenticationAttribute(@NotNull AuthenticationAttributeDto attributeDto) {
         RadCheckAttribute attribute = conversionService.convert(attributeDto, RadCheckAttribute.class);
         attribute = checkAttributeRepo.save(attribute);
+        attributeCatalog.invalidateAuthenticationAttributes();
         return conversionService.convert(attribute, AuthenticationAttributeDto.class);
     }
 
     public AuthorizationAttributeDto updateAuthorizationAttribute(@NonNull AuthorizationAttributeDto attributeDto) {
         RadReplyAttribute attribute = conversionService.convert(attributeDto, RadReplyAttribute.class);
         attribute = replyAttributeRepo.save(attribute);
+        attributeCatalog.invalidateAuthorizationAttributes();
         return conversionService.convert(attribute, AuthorizationAttributeDto.class);
     }
 
     public void deleteAuthenticationAttribute(@NonNull AuthenticationAttributeDto attributeDto,
                                               boolean removeFromRadius) {
         checkAttributeRepo.deleteById(attributeDto.getId());
+        attributeCatalog.invalidateAuthenticationAttributes();
         if (removeFromRadius) {
             radCheckRepo.deleteAllByAttribute(attributeDto.getName());
             radGroupCheckRepo.deleteAllByAttribute(attributeDto.getName());
@@ -96,6 +115,7 @@ public class AttributeService {
     public void deleteAuthorizationAttribute(@NonNull AuthorizationAttributeDto attributeDto,
                                              boolean removeFromRadius) {
         replyAttributeRepo.deleteById(attributeDto.getId());
+        attributeCatalog.invalidateAuthorizationAttributes();
         if (removeFromRadius) {
             radReplyRepo.deleteAllByAttribute(attributeDto.getName());
             radGroupReplyRepo.deleteAllByAttribute(attributeDto.getName());
@@ -108,12 +128,9 @@ public class AttributeService {
 
     public Page<AuthenticationAttributeDto> pageAuthenticationAttributeRecords(@NonNull AttributeFilter filter,
                                                                                @NonNull Pageable pageable) {
-        Page<RadCheckAttribute> page = checkAttributeRepo.findAll(
-                buildAuthenticationAttributeSearchPredicate(filter), pageable);
-        List<AuthenticationAttributeDto> attributeDtos = page.stream()
-                .map(attribute -> conversionService.convert(attribute, AuthenticationAttributeDto.class))
-                .collect(Collectors.toList());
-        return new PageImpl<>(attributeDtos, pageable, attributeDtos.size());
+        return checkAttributeRepo.findAll(
+                buildAuthenticationAttributeSearchPredicate(filter), pageable)
+                .map(attribute -> conversionService.convert(attribute, AuthenticationAttributeDto.class));
     }
 
     public long countAuthorizationAttributeRecords(@NonNull AttributeFilter filter) {
@@ -122,67 +139,43 @@ public class AttributeService {
 
     public Page<AuthorizationAttributeDto> pageAuthorizationAttributeRecords(@NonNull AttributeFilter filter,
                                                                              @NonNull Pageable pageable) {
-        Page<RadReplyAttribute> page = replyAttributeRepo.findAll(
-                buildAuthorizationAttributeSearchPredicate(filter), pageable);
-        List<AuthorizationAttributeDto> attributeDtos = page.stream()
-                .map(attribute -> conversionService.convert(attribute, AuthorizationAttributeDto.class))
-                .collect(Collectors.toList());
-        return new PageImpl<>(attributeDtos, pageable, attributeDtos.size());
+        return replyAttributeRepo.findAll(
+                buildAuthorizationAttributeSearchPredicate(filter), pageable)
+                .map(attribute -> conversionService.convert(attribute, AuthorizationAttributeDto.class));
     }
 
 
     public LoadingResult loadAuthorizationAttributesFromRadiusDB() {
-        Set<String> radReplyAttr = radReplyRepo.getAttributes();
-        Set<String> radGroupReplyAttr = radGroupReplyRepo.getAttributes();
-
-        Set<String> attributes = new HashSet<>();
-        attributes.addAll(radReplyAttr);
-        attributes.addAll(radGroupReplyAttr);
-
-        LoadingResult result = new LoadingResult();
-        attributes.forEach(attribute -> {
-            try {
-                if (!replyAttributeRepo.exists(QRadReplyAttribute.radReplyAttribute.name.like(attribute))) {
-                    RadReplyAttribute radReplyAttribute = new RadReplyAttribute();
-                    radReplyAttribute.setSensitiveData(false);
-                    radReplyAttribute.setName(attribute);
-                    replyAttributeRepo.save(radReplyAttribute);
-                    result.incrementLoaded();
-                } else {
-                    result.incrementDuplicate();
-                }
-            } catch (Exception ignored) {
-                result.incrementErrored();
-            }
-        });
-        return result;
+        try {
+            List<Set<String>> names = queryConcurrently(radReplyRepo::getAttributes,
+                    radGroupReplyRepo::getAttributes, replyAttributeRepo::getNames);
+            Set<String> attributes = new HashSet<>(names.get(0));
+            attributes.addAll(names.get(1));
+            return NameLoader.insertMissing(attributes, names.get(2), bulkWriteRepo::insertRadReplyAttributes);
+        } finally {
+            attributeCatalog.invalidateAuthorizationAttributes();
+        }
     }
 
     public LoadingResult loadAuthenticationAttributesFromRadiusDB() {
-        Set<String> radCheckAttr = radCheckRepo.getAttributes();
-        Set<String> radGroupCheckAttr = radGroupCheckRepo.getAttributes();
-
-        Set<String> attributes = new HashSet<>();
-        attributes.addAll(radCheckAttr);
-        attributes.addAll(radGroupCheckAttr);
-
-        LoadingResult result = new LoadingResult();
-        attributes.forEach(attribute -> {
-            try {
-                if (!checkAttributeRepo.exists(QRadCheckAttribute.radCheckAttribute.name.like(attribute))) {
-                    RadCheckAttribute radCheckAttribute = new RadCheckAttribute();
-                    radCheckAttribute.setSensitiveData(false);
-                    radCheckAttribute.setName(attribute);
-                    checkAttributeRepo.save(radCheckAttribute);
-                    result.incrementLoaded();
-                } else {
-                    result.incrementDuplicate();
-                }
-            } catch (Exception ignored) {
-                result.incrementErrored();
-            }
-        });
-        return result;
+        try {
+            List<Set<String>> names = queryConcurrently(radCheckRepo::getAttributes,
+                    radGroupCheckRepo::getAttributes, checkAttributeRepo::getNames);
+            Set<String> attributes = new HashSet<>(names.get(0));
+            attributes.addAll(names.get(1));
+            return NameLoader.insertMissing(attributes, names.get(2), bulkWriteRepo::insertRadCheckAttributes);
+        } finally {
+            attributeCatalog.invalidateAuthenticationAttributes();
+        }
+    }
+
+    @SafeVarargs
+    private final List<Set<String>> queryConcurrently(Supplier<Set<String>>... queries) {
+        List<CompletableFuture<Set<String>>> futures = new ArrayList<>();
+        for (Supplier<Set<String>> query : queries) {
+            futures.add(CompletableFuture.supplyAsync(query, discoveryExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
     }
 
     private Predicate buildAuthenticationAttributeSearchPredicate(AttributeFilter filter) {
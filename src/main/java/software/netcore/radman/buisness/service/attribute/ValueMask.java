@@ -0,0 +1,40 @@
+package software.netcore.radman.buisness.service.attribute;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+
+/**
+ * Length preserving mask of sensitive values (passwords, secrets). Masks of values up to
+ * {@link #PRECOMPUTED_LENGTH} characters, the longest Radius attribute value, are computed once and shared.
+ *
+ * @since v. 1.0.3
+ */
+public final class ValueMask {
+
+    public static final char MASK_CHAR = '*';
+
+    private static final int PRECOMPUTED_LENGTH = 253;
+    private static final String[] MASKS = new String[PRECOMPUTED_LENGTH + 1];
+
+    static {
+        for (int length = 0; length <= PRECOMPUTED_LENGTH; length++) {
+            MASKS[length] = StringUtils.repeat(MASK_CHAR, length);
+        }
+    }
+
+    private ValueMask() {
+    }
+
+    /**
+     * @return mask as long as the value, null for null value
+     */
+    public static String mask(String value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        int length = value.length();
+        return length <= PRECOMPUTED_LENGTH ? MASKS[length] : StringUtils.repeat(MASK_CHAR, length);
+    }
+
+}
@@ -5,11 +5,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
 import software.netcore.radman.buisness.service.attribute.AttributeService;
 import software.netcore.radman.buisness.service.attribute.converter.DtoToRadCheckAttributeConverter;
 import software.netcore.radman.buisness.service.attribute.converter.DtoToRadReplyAttributeConverter;
 import software.netcore.radman.buisness.service.attribute.converter.RadCheckAttributeToDtoConverter;
 import software.netcore.radman.buisness.service.attribute.converter.RadReplyAttributeToDtoConverter;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
 import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
 import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
 import software.netcore.radman.data.radius.repo.RadCheckRepo;
@@ -25,6 +28,7 @@ public class AttributeServiceConfiguration {
 
     private final RadCheckAttributeRepo checkAttributeRepo;
     private final RadReplyAttributeRepo replyAttributeRepo;
+    private final BulkWriteRepo bulkWriteRepo;
 
     private final RadCheckRepo radCheckRepo;
     private final RadReplyRepo radReplyRepo;
@@ -36,6 +40,7 @@ public class AttributeServiceConfiguration {
     @Autowired
     public AttributeServiceConfiguration(RadCheckAttributeRepo checkAttributeRepo,
                                          RadReplyAttributeRepo replyAttributeRepo,
+                                         BulkWriteRepo bulkWriteRepo,
                                          RadCheckRepo radCheckRepo,
                                          RadReplyRepo radReplyRepo,
                                          RadGroupCheckRepo radGroupCheckRepo,
@@ -43,6 +48,7 @@ public class AttributeServiceConfiguration {
                                          DefaultConversionService conversionService) {
         this.checkAttributeRepo = checkAttributeRepo;
         this.replyAttributeRepo = replyAttributeRepo;
+        this.bulkWriteRepo = bulkWriteRepo;
         this.radCheckRepo = radCheckRepo;
         this.radReplyRepo = radReplyRepo;
         this.radGroupCheckRepo = radGroupCheckRepo;
@@ -57,8 +63,26 @@ public class AttributeServiceConfiguration {
 
     @Bean
     AttributeService attributeService() {
-        return new AttributeService(checkAttributeRepo, replyAttributeRepo, radCheckRepo,
-                radReplyRepo, radGroupCheckRepo, radGroupReplyRepo, conversionService);
+        return new AttributeService(checkAttributeRepo, replyAttributeRepo, bulkWriteRepo, attributeCatalog(),
+                radCheckRepo, radReplyRepo, radGroupCheckRepo, radGroupReplyRepo, conversionService,
+                attributeDiscoveryExecutor());
+    }
+
+    @Bean
+    AttributeCatalog attributeCatalog() {
+        return new AttributeCatalog(checkAttributeRepo, replyAttributeRepo);
+    }
+
+    /**
+     * Runs the attribute name queries of a single load concurrently, one thread per queried table.
+     */
+    @Bean
+    ThreadPoolTaskExecutor attributeDiscoveryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setThreadNamePrefix("attribute-discovery-");
+        return executor;
     }
 
 }
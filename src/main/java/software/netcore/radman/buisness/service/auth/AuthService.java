@@ -1,24 +1,36 @@
 package software.netcore.radman.buisness.service.auth;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.core.convert.ConversionService;
-import software.netcore.radman.buisness.service.auth.dto.*;
-import software.netcore.radman.data.internal.entity.RadCheckAttribute;
-import software.netcore.radman.data.internal.entity.RadReplyAttribute;
-import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
-import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
-import software.netcore.radman.data.radius.entity.RadCheck;
-import software.netcore.radman.data.radius.entity.RadGroupCheck;
-import software.netcore.radman.data.radius.entity.RadGroupReply;
-import software.netcore.radman.data.radius.entity.RadReply;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
+import software.netcore.radman.buisness.service.auth.dto.AuthRowDto;
+import software.netcore.radman.buisness.service.auth.dto.AuthTarget;
+import software.netcore.radman.buisness.service.auth.dto.AuthenticationDto;
+import software.netcore.radman.buisness.service.auth.dto.AuthorizationDto;
+import software.netcore.radman.data.radius.entity.*;
 import software.netcore.radman.data.radius.repo.RadCheckRepo;
 import software.netcore.radman.data.radius.repo.RadGroupCheckRepo;
 import software.netcore.radman.data.radius.repo.RadGroupReplyRepo;
 import software.netcore.radman.data.radius.repo.RadReplyRepo;
+import software.netcore.radman.data.spec.BaseRepository;
+import software.netcore.radman.data.spec.OffsetPageRequest;
+import software.netcore.radman.data.spec.ReplicaRead;
 import software.netcore.radman.ui.support.Filter;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @since v. 1.0.0
@@ -28,6 +40,9 @@ public class AuthService {
 
     private static final String NAME_COLUMN_KEY = "name";
     private static final String TYPE_COLUMN_KEY = "type";
+    private static final String ID_PROPERTY = "id";
+    private static final String USERNAME_PROPERTY = "username";
+    private static final String GROUP_NAME_PROPERTY = "groupName";
 
     // radius
     private final RadCheckRepo radCheckRepo;
@@ -36,8 +51,7 @@ public class AuthService {
     private final RadGroupReplyRepo radGroupReplyRepo;
 
     // internal
-    private final RadCheckAttributeRepo radCheckAttributeRepo;
-    private final RadReplyAttributeRepo radReplyAttributeRepo;
+    private final AttributeCatalog attributeCatalog;
 
     private final ConversionService conversionService;
 
@@ -87,258 +101,220 @@ public class AuthService {
         }
     }
 
-    /**
-     * AuthorizationDto is a class that contains a Map and a List of Maps
-     * @param filter (Literally just a class containing a string)
-     * @return
-     */
-    @SuppressWarnings("Duplicates")
-    public AuthorizationsDto getAuthorizations(Filter filter) {
-        // Initialize Map containing name: Name and type: Type
-        Map<String, String> columnsSpec = initCommonColumnsSpec();
+    public Map<String, String> getAuthenticationsColumnsSpec() {
+        return buildColumnsSpec(loadAuthenticationAttributes());
+    }
 
-        // Return all rows in the "radreply" table
-        List<RadReply> radReplies = radReplyRepo.findAll();
-        // Init empty HashMap
-        Map<String, List<RadReply>> radReplyMap = new HashMap<>();
-        // For all rows in "radreply"
-        for (RadReply radReply : radReplies) {
-            // Add the current iterations attribute as the key and a new ArrayList as the value if the key doesn't exist
-            radReplyMap.putIfAbsent(radReply.getAttribute(), new ArrayList<>());
-            // Retrieve the previously added entry and add the current radreply to the List of said entry
-            radReplyMap.get(radReply.getAttribute()).add(radReply);
+    @ReplicaRead
+    public long countAuthentications(@NonNull Filter filter) {
+        Map<String, Boolean> attributes = loadAuthenticationAttributes();
+        if (attributes.isEmpty()) {
+            return 0;
         }
+        QRadCheck radCheck = QRadCheck.radCheck;
+        QRadGroupCheck radGroupCheck = QRadGroupCheck.radGroupCheck;
+        return radCheckRepo.countDistinctValues(USERNAME_PROPERTY, buildAuthSearchPredicate(radCheck.username,
+                radCheck.attribute, radCheck.value, AuthTarget.RADIUS_USER, filter, attributes))
+                + radGroupCheckRepo.countDistinctValues(GROUP_NAME_PROPERTY, buildAuthSearchPredicate(
+                radGroupCheck.groupName, radGroupCheck.attribute, radGroupCheck.value,
+                AuthTarget.RADIUS_GROUP, filter, attributes));
+    }
 
-        // Do exactly the same as the above, except for the "radgroupreply" table
-        List<RadGroupReply> radGroupReplies = radGroupReplyRepo.findAll();
-        Map<String, List<RadGroupReply>> radGroupReplyMap = new HashMap<>();
-        for (RadGroupReply radGroupReply : radGroupReplies) {
-            radGroupReplyMap.putIfAbsent(radGroupReply.getAttribute(), new ArrayList<>());
-            radGroupReplyMap.get(radGroupReply.getAttribute()).add(radGroupReply);
+    @ReplicaRead
+    public Page<AuthRowDto> pageAuthentications(@NonNull Filter filter, @NonNull Pageable pageable) {
+        Map<String, Boolean> attributes = loadAuthenticationAttributes();
+        if (attributes.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
+        QRadCheck radCheck = QRadCheck.radCheck;
+        QRadGroupCheck radGroupCheck = QRadGroupCheck.radGroupCheck;
+        Predicate usersPredicate = buildAuthSearchPredicate(radCheck.username, radCheck.attribute,
+                radCheck.value, AuthTarget.RADIUS_USER, filter, attributes);
+        Predicate groupsPredicate = buildAuthSearchPredicate(radGroupCheck.groupName, radGroupCheck.attribute,
+                radGroupCheck.value, AuthTarget.RADIUS_GROUP, filter, attributes);
+        List<AuthRowDto> rows = pageAuthRows(pageable,
+                usersPageable -> pageNames(radCheckRepo, USERNAME_PROPERTY, usersPredicate, usersPageable),
+                groupsPageable -> pageNames(radGroupCheckRepo, GROUP_NAME_PROPERTY, groupsPredicate,
+                        groupsPageable),
+                usernames -> buildRows(usernames, AuthTarget.RADIUS_USER, radCheckRepo.findAll(
+                        radCheck.username.in(usernames).and(radCheck.attribute.in(attributes.keySet())),
+                        Sort.by(ID_PROPERTY)), RadCheck::getUsername,
+                        check -> buildEntry(check.getId(), check.getAttribute(), check.getOp(), check.getValue(),
+                                attributes)),
+                groupNames -> buildRows(groupNames, AuthTarget.RADIUS_GROUP, radGroupCheckRepo.findAll(
+                        radGroupCheck.groupName.in(groupNames).and(radGroupCheck.attribute.in(attributes.keySet())),
+                        Sort.by(ID_PROPERTY)), RadGroupCheck::getGroupName,
+                        check -> buildEntry(check.getId(), check.getAttribute(), check.getOp(), check.getValue(),
+                                attributes)));
+        return PageableExecutionUtils.getPage(rows, pageable, () -> countAuthentications(filter));
+    }
 
-        // Declare two new HashMaps that store a string as the key and a Map<String, String> as the value
-        Map<String, Map<String, String>> usersData = new HashMap<>();
-        Map<String, Map<String, String>> groupsData = new HashMap<>();
-
-        // Retrieve all rows from the "radreply_attribute" table (Radman)
-        List<RadReplyAttribute> radReplyAttributes = radReplyAttributeRepo.findAll();
-        // Declare empty HashMap with key: String, value: RadReplyAttribute
-        Map<String, RadReplyAttribute> repliesAttrMapping = new HashMap<>();
-        // For every row in "radreply_attribute"
-        for (RadReplyAttribute radReplyAttribute : radReplyAttributes) {
-            // Get name column of current row and place it as the key, place entire row as value
-            repliesAttrMapping.put(radReplyAttribute.getName(), radReplyAttribute);
-            // In columnsSpec, place the name of the attribute as key and the same but capitalized as the key
-            columnsSpec.put(radReplyAttribute.getName(), StringUtils.capitalize(radReplyAttribute.getName()));
-            // If radReplyMap contains the key of the current attributes name
-            if (radReplyMap.containsKey(radReplyAttribute.getName())) {
-                // Get the list of rows in "radreply" that are stored under the key for the current reply attribute
-                // and store in a new list of RadReply's
-                List<RadReply> attrRadReplies = radReplyMap.get(radReplyAttribute.getName());
-                // For every entry in the previously populated List of "radreply's" for a given attribute
-                for (RadReply attrRadReply : attrRadReplies) {
-                    // Retrieve the name and type in a Map from the current row (or set)
-                    Map<String, String> singleUserData = initDefaultRowDataIfRequired(attrRadReply.getUsername(),
-                            AuthTarget.RADIUS_USER.getValue(), usersData);
-                    // If current attribute is sensitive, censor it
-                    String attrValue = radReplyAttribute.isSensitiveData() ?
-                            attrRadReply.getValue().replaceAll(".", "*") : attrRadReply.getValue();
-                    // Merge the current row's operator and value in a string
-                    String finalValue = attrRadReply.getOp() + " " + attrValue;
-                    // Put attribute name as key and finalValue as value in singleUserData.  This is where the overwriting is happening
-                    singleUserData.put(radReplyAttribute.getName(), finalValue);
-                    // singleUserData might (see: does) back-propagate back up to usersData since it's returned from initDefaultRowData
-                    // and referred maps seem to back-propagate?
-                }
-            }
+    public Map<String, String> getAuthorizationsColumnsSpec() {
+        return buildColumnsSpec(loadAuthorizationAttributes());
+    }
 
-            // Same as above, but for groups
-            if (radGroupReplyMap.containsKey(radReplyAttribute.getName())) {
-                List<RadGroupReply> attrRadGroupReplies = radGroupReplyMap.get(radReplyAttribute.getName());
-                for (RadGroupReply attrRadGroupReply : attrRadGroupReplies) {
-                    Map<String, String> singleGroupData = initDefaultRowDataIfRequired(attrRadGroupReply.getGroupName(),
-                            AuthTarget.RADIUS_GROUP.getValue(), groupsData);
-                    String attrValue = radReplyAttribute.isSensitiveData() ?
-                            attrRadGroupReply.getValue().replaceAll(".", "*")
-                            : attrRadGroupReply.getValue();
-                    singleGroupData.put(radReplyAttribute.getName(), attrRadGroupReply.getOp() + " " + attrValue);
-                }
-            }
+    @ReplicaRead
+    public long countAuthorizations(@NonNull Filter filter) {
+        Map<String, Boolean> attributes = loadAuthorizationAttributes();
+        if (attributes.isEmpty()) {
+            return 0;
         }
+        QRadReply radReply = QRadReply.radReply;
+        QRadGroupReply radGroupReply = QRadGroupReply.radGroupReply;
+        return radReplyRepo.countDistinctValues(USERNAME_PROPERTY, buildAuthSearchPredicate(radReply.username,
+                radReply.attribute, radReply.value, AuthTarget.RADIUS_USER, filter, attributes))
+                + radGroupReplyRepo.countDistinctValues(GROUP_NAME_PROPERTY, buildAuthSearchPredicate(
+                radGroupReply.groupName, radGroupReply.attribute, radGroupReply.value,
+                AuthTarget.RADIUS_GROUP, filter, attributes));
+    }
 
-        List<Map<String, String>> data = new ArrayList<>();
-        data.addAll(usersData.values());
-        data.addAll(groupsData.values());
-
-        // apply filter
-        if (!StringUtils.isEmpty(filter.getSearchText())) {
-            Iterator<Map<String, String>> iterator = data.iterator();
-            while (iterator.hasNext()) {
-                Map<String, String> row = iterator.next();
-                boolean pass = false;
-                for (String key : row.keySet()) {
-                    if (Objects.equals(NAME_COLUMN_KEY, key) || Objects.equals(TYPE_COLUMN_KEY, key)) {
-                        String opValue = row.get(key);
-                        if (Objects.nonNull(opValue)) {
-                            pass = pass || StringUtils.contains(opValue, filter.getSearchText());
-                        }
-                    } else {
-                        RadReplyAttribute radReplyAttribute = repliesAttrMapping.get(key);
-                        if (!radReplyAttribute.isSensitiveData()) {
-                            String opValue = row.get(key);
-                            if (Objects.nonNull(opValue)) {
-                                pass = pass || StringUtils.contains(opValue, filter.getSearchText());
-                            }
-                        }
-                    }
-                }
-                if (!pass) {
-                    iterator.remove();
-                }
-            }
+    @ReplicaRead
+    public Page<AuthRowDto> pageAuthorizations(@NonNull Filter filter, @NonNull Pageable pageable) {
+        Map<String, Boolean> attributes = loadAuthorizationAttributes();
+        if (attributes.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
-
-        return new AuthorizationsDto(columnsSpec, data);
+        QRadReply radReply = QRadReply.radReply;
+        QRadGroupReply radGroupReply = QRadGroupReply.radGroupReply;
+        Predicate usersPredicate = buildAuthSearchPredicate(radReply.username, radReply.attribute,
+                radReply.value, AuthTarget.RADIUS_USER, filter, attributes);
+        Predicate groupsPredicate = buildAuthSearchPredicate(radGroupReply.groupName, radGroupReply.attribute,
+                radGroupReply.value, AuthTarget.RADIUS_GROUP, filter, attributes);
+        List<AuthRowDto> rows = pageAuthRows(pageable,
+                usersPageable -> pageNames(radReplyRepo, USERNAME_PROPERTY, usersPredicate, usersPageable),
+                groupsPageable -> pageNames(radGroupReplyRepo, GROUP_NAME_PROPERTY, groupsPredicate,
+                        groupsPageable),
+                usernames -> buildRows(usernames, AuthTarget.RADIUS_USER, radReplyRepo.findAll(
+                        radReply.username.in(usernames).and(radReply.attribute.in(attributes.keySet())),
+                        Sort.by(ID_PROPERTY)), RadReply::getUsername,
+                        reply -> buildEntry(reply.getId(), reply.getAttribute(), reply.getOp(), reply.getValue(),
+                                attributes)),
+                groupNames -> buildRows(groupNames, AuthTarget.RADIUS_GROUP, radGroupReplyRepo.findAll(
+                        radGroupReply.groupName.in(groupNames).and(radGroupReply.attribute.in(attributes.keySet())),
+                        Sort.by(ID_PROPERTY)), RadGroupReply::getGroupName,
+                        reply -> buildEntry(reply.getId(), reply.getAttribute(), reply.getOp(), reply.getValue(),
+                                attributes)));
+        return PageableExecutionUtils.getPage(rows, pageable, () -> countAuthorizations(filter));
     }
 
+    /**
+     * Attributes managed by RadMan mapped to their "sensitive data" flag, in catalog order.
+     */
+    private Map<String, Boolean> loadAuthenticationAttributes() {
+        return attributeCatalog.getAuthenticationAttributes();
+    }
 
-    @SuppressWarnings("Duplicates")
-    public AuthenticationsDto getAuthentications(Filter filter) {
-        Map<String, String> columnsSpec = initCommonColumnsSpec();
+    private Map<String, Boolean> loadAuthorizationAttributes() {
+        return attributeCatalog.getAuthorizationAttributes();
+    }
 
-        List<RadCheck> radChecks = radCheckRepo.findAll();
-        Map<String, List<RadCheck>> radCheckMap = new HashMap<>();
-        for (RadCheck radCheck : radChecks) {
-            radCheckMap.putIfAbsent(radCheck.getAttribute(), new ArrayList<>());
-            radCheckMap.get(radCheck.getAttribute()).add(radCheck);
-        }
+    /**
+     * Name and type columns followed by one column per managed attribute.
+     */
+    private Map<String, String> buildColumnsSpec(Map<String, Boolean> attributes) {
+        Map<String, String> columnsSpec = new LinkedHashMap<>();
+        columnsSpec.put(NAME_COLUMN_KEY, "Name");
+        columnsSpec.put(TYPE_COLUMN_KEY, "Type");
+        attributes.keySet().forEach(attribute -> columnsSpec.put(attribute, StringUtils.capitalize(attribute)));
+        return columnsSpec;
+    }
 
-        List<RadGroupCheck> radGroupChecks = radGroupCheckRepo.findAll();
-        Map<String, List<RadGroupCheck>> radGroupCheckMap = new HashMap<>();
-        for (RadGroupCheck radGroupCheck : radGroupChecks) {
-            radGroupCheckMap.putIfAbsent(radGroupCheck.getAttribute(), new ArrayList<>());
-            radGroupCheckMap.get(radGroupCheck.getAttribute()).add(radGroupCheck);
+    /**
+     * Builds the predicate for one of the radcheck / radgroupcheck / radreply / radgroupreply tables. Only
+     * attributes managed by RadMan are listed. A row matches the search text when its type contains it, or its
+     * name or a value of a non-sensitive attribute starts with it. Prefixes are matched so the name and value
+     * indexes can serve the search.
+     */
+    private Predicate buildAuthSearchPredicate(StringPath name, StringPath attribute, StringPath value,
+                                               AuthTarget authTarget, Filter filter,
+                                               Map<String, Boolean> attributes) {
+        BooleanBuilder booleanBuilder = new BooleanBuilder(attribute.in(attributes.keySet()));
+        String searchText = filter.getSearchText();
+        if (!StringUtils.isEmpty(searchText) && !StringUtils.contains(authTarget.getValue(), searchText)) {
+            Set<String> sensitiveAttributes = attributes.entrySet().stream()
+                    .filter(Map.Entry::getValue)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            BooleanExpression valueMatches = value.startsWith(searchText);
+            BooleanBuilder searchBuilder = new BooleanBuilder();
+            searchBuilder.or(name.startsWith(searchText));
+            searchBuilder.or(sensitiveAttributes.isEmpty() ? valueMatches
+                    : attribute.notIn(sensitiveAttributes).and(valueMatches));
+            booleanBuilder.and(searchBuilder);
         }
+        return booleanBuilder;
+    }
 
-        Map<String, Map<String, String>> usersData = new HashMap<>();
-        Map<String, Map<String, String>> groupsData = new HashMap<>();
-
-        List<RadCheckAttribute> radCheckAttributes = radCheckAttributeRepo.findAll();
-        Map<String, RadCheckAttribute> checksAttrMapping = new HashMap<>();
-        for (RadCheckAttribute radCheckAttribute : radCheckAttributes) {
-            checksAttrMapping.put(radCheckAttribute.getName(), radCheckAttribute);
-            columnsSpec.put(radCheckAttribute.getName(), StringUtils.capitalize(radCheckAttribute.getName()));
-
-            if (radCheckMap.containsKey(radCheckAttribute.getName())) {
-                List<RadCheck> attrRadChecks = radCheckMap.get(radCheckAttribute.getName());
-                for (RadCheck attrRadCheck : attrRadChecks) {
-                    Map<String, String> singleUserData = initDefaultRowDataIfRequired(attrRadCheck.getUsername(),
-                            AuthTarget.RADIUS_USER.getValue(), usersData);
-                    String attrValue = radCheckAttribute.isSensitiveData() ?
-                            attrRadCheck.getValue().replaceAll(".", "*") :
-                            attrRadCheck.getValue();
-                    singleUserData.put(radCheckAttribute.getName(), attrRadCheck.getOp() + " " + attrValue);
-                }
-            }
-
-            if (radGroupCheckMap.containsKey(radCheckAttribute.getName())) {
-                List<RadGroupCheck> attrRadGroupChecks = radGroupCheckMap.get(radCheckAttribute.getName());
-                for (RadGroupCheck attrRadGroupCheck : attrRadGroupChecks) {
-                    Map<String, String> singleGroupData = initDefaultRowDataIfRequired(attrRadGroupCheck.getGroupName(),
-                            AuthTarget.RADIUS_GROUP.getValue(), groupsData);
-                    String attrValue = radCheckAttribute.isSensitiveData() ?
-                            attrRadGroupCheck.getValue().replaceAll(".", "*")
-                            : attrRadGroupCheck.getValue();
-                    singleGroupData.put(radCheckAttribute.getName(), attrRadGroupCheck.getOp() + " " + attrValue);
-                }
-            }
+    /**
+     * Users and groups live in separate tables, so the requested page of names is stitched from the end of the
+     * first table and the beginning of the second one, then the records of the paged names are loaded into
+     * their rows. Users are listed first unless ascending order by type is requested ("group" sorts before
+     * "user").
+     */
+    private List<AuthRowDto> pageAuthRows(Pageable pageable,
+                                          Function<Pageable, Page<String>> usernamesPager,
+                                          Function<Pageable, Page<String>> groupNamesPager,
+                                          Function<List<String>, List<AuthRowDto>> usersLoader,
+                                          Function<List<String>, List<AuthRowDto>> groupsLoader) {
+        Sort.Order typeOrder = pageable.getSort().getOrderFor(TYPE_COLUMN_KEY);
+        Sort.Order nameOrder = pageable.getSort().getOrderFor(NAME_COLUMN_KEY);
+        Sort.Direction nameDirection = Objects.isNull(nameOrder) ? Sort.Direction.ASC : nameOrder.getDirection();
+        Sort usersSort = Sort.by(nameDirection, USERNAME_PROPERTY);
+        Sort groupsSort = Sort.by(nameDirection, GROUP_NAME_PROPERTY);
+
+        boolean groupsFirst = Objects.nonNull(typeOrder) && typeOrder.isAscending();
+        Function<Pageable, Page<String>> firstPager = groupsFirst ? groupNamesPager : usernamesPager;
+        Function<Pageable, Page<String>> secondPager = groupsFirst ? usernamesPager : groupNamesPager;
+        Function<List<String>, List<AuthRowDto>> firstLoader = groupsFirst ? groupsLoader : usersLoader;
+        Function<List<String>, List<AuthRowDto>> secondLoader = groupsFirst ? usersLoader : groupsLoader;
+        Sort firstSort = groupsFirst ? groupsSort : usersSort;
+        Sort secondSort = groupsFirst ? usersSort : groupsSort;
+
+        List<AuthRowDto> rows = new ArrayList<>(pageable.getPageSize());
+        Page<String> firstPage = firstPager.apply(
+                new OffsetPageRequest(pageable.getOffset(), pageable.getPageSize(), firstSort));
+        if (firstPage.hasContent()) {
+            rows.addAll(firstLoader.apply(firstPage.getContent()));
         }
-
-        List<Map<String, String>> data = new ArrayList<>();
-        data.addAll(usersData.values());
-        data.addAll(groupsData.values());
-
-        // apply filter
-        if (!StringUtils.isEmpty(filter.getSearchText())) {
-            Iterator<Map<String, String>> iterator = data.iterator();
-            while (iterator.hasNext()) {
-                Map<String, String> row = iterator.next();
-                boolean pass = false;
-                for (String key : row.keySet()) {
-                    if (Objects.equals(NAME_COLUMN_KEY, key) || Objects.equals(TYPE_COLUMN_KEY, key)) {
-                        String opValue = row.get(key);
-                        if (Objects.nonNull(opValue)) {
-                            pass = pass || StringUtils.contains(opValue, filter.getSearchText());
-                        }
-                    } else {
-                        RadCheckAttribute radReplyAttribute = checksAttrMapping.get(key);
-                        if (!radReplyAttribute.isSensitiveData()) {
-                            String opValue = row.get(key);
-                            if (Objects.nonNull(opValue)) {
-                                pass = pass || StringUtils.contains(opValue, filter.getSearchText());
-                            }
-                        }
-                    }
-                }
-                if (!pass) {
-                    iterator.remove();
-                }
+        if (rows.size() < pageable.getPageSize()) {
+            long secondOffset = Math.max(0, pageable.getOffset() - firstPage.getTotalElements());
+            Page<String> secondPage = secondPager.apply(
+                    new OffsetPageRequest(secondOffset, pageable.getPageSize() - rows.size(), secondSort));
+            if (secondPage.hasContent()) {
+                rows.addAll(secondLoader.apply(secondPage.getContent()));
             }
         }
-
-        return new AuthenticationsDto(columnsSpec, data);
+        return rows;
     }
 
-    /**
-     *
-     * Create HashMap (K:V Pair) with name and type as column key.  HashMap where each entry is part of a doubly-
-     * linked-list - allows linear traversal
-     * @return LinkedHashMap<String, String>
-     */
-
-    private Map<String, String> initCommonColumnsSpec() {
-        Map<String, String> columnsSpec = new LinkedHashMap<>();
-        columnsSpec.put(NAME_COLUMN_KEY, "Name");
-        columnsSpec.put(TYPE_COLUMN_KEY, "Type");
-        return columnsSpec;
+    private Page<String> pageNames(BaseRepository<?, ?> repo, String property, Predicate predicate,
+                                   Pageable pageable) {
+        return PageableExecutionUtils.getPage(repo.findDistinctValues(property, predicate, pageable), pageable,
+                () -> repo.countDistinctValues(property, predicate));
     }
 
     /**
-     * Takes a name, user type (user or group) and a Map with key: Map and value: Map<String, String>.  If
-     * combination of name and user doesn't exist in the provided Map, initialize an entry and return a
-     * Map<String, String> with K:V as name:<provided name> and type:<provided type>
-     * @param name
-     * @param type
-     * @param data
-     * @return Map<String, String>
+     * Rows of the names in the given order. Records are matched to the names exactly, names differing in letter
+     * case only are distinct rows, each with its own records.
      */
-    private static int row_counter = 0;
-    private Map<String, String> initDefaultRowDataIfRequired(String name, String type,
-                                                             Map<String, Map<String, String>> data) {
-        // Set key to a combination of the name (normally username) and user type (either user or group) and, per my addition,
-        // the `row_counter` variable.  This stops multivalued attributes being added to the same row which breaks Vaadin and instead
-        // pushes them to a separate row.  Yes it's hacky and the if statement could be removed, might refactor but it's perfectly performant
-        // for it's purpose
-        String key = name + ":" + type + ":" + row_counter;
-        row_counter++;
-        // Create an object of type Map
-        Map<String, String> singleData;
-        // If the referred data doesn't contain the above key
-        if (!data.containsKey(key)) {
-            // Initialize previously declared Map as HashMap
-            singleData = new HashMap<>();
-            // Put key and empty HashMap into referred data
-            data.put(key, singleData);
-            //  Add name and type to initialized HashMap, Java references are weird.  Post-addition seems to propagate
-            //  to all referees
-            singleData.put(NAME_COLUMN_KEY, name);
-            singleData.put(TYPE_COLUMN_KEY, type);
-        } else {
-            // If key exists, return existing data from referred data
-            singleData = data.get(key);
+    static <E> List<AuthRowDto> buildRows(List<String> names, AuthTarget authTarget, Iterable<E> records,
+                                          Function<E, String> nameOf, Function<E, AuthRowDto.Entry> entryOf) {
+        Map<String, List<AuthRowDto.Entry>> entries = new HashMap<>(names.size() * 2);
+        names.forEach(name -> entries.put(name, new ArrayList<>()));
+        for (E record : records) {
+            List<AuthRowDto.Entry> nameEntries = entries.get(nameOf.apply(record));
+            if (Objects.nonNull(nameEntries)) {
+                nameEntries.add(entryOf.apply(record));
+            }
         }
-        return singleData;
+        List<AuthRowDto> rows = new ArrayList<>(names.size());
+        names.forEach(name -> rows.add(new AuthRowDto(name, authTarget, entries.get(name))));
+        return rows;
+    }
+
+    private AuthRowDto.Entry buildEntry(Integer id, String attribute, String op, String value,
+                                        Map<String, Boolean> attributes) {
+        return new AuthRowDto.Entry(id, attribute, op, value, Boolean.TRUE.equals(attributes.get(attribute)));
     }
 
 }
@@ -5,13 +5,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
 import software.netcore.radman.buisness.service.auth.AuthService;
 import software.netcore.radman.buisness.service.auth.converter.DtoToRadCheckConverter;
 import software.netcore.radman.buisness.service.auth.converter.DtoToRadGroupCheckConverter;
 import software.netcore.radman.buisness.service.auth.converter.DtoToRadGroupReplyConverter;
 import software.netcore.radman.buisness.service.auth.converter.DtoToRadReplyConverter;
-import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
-import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
 import software.netcore.radman.data.radius.repo.RadCheckRepo;
 import software.netcore.radman.data.radius.repo.RadGroupCheckRepo;
 import software.netcore.radman.data.radius.repo.RadGroupReplyRepo;
@@ -27,8 +26,7 @@ public class AuthServiceConfiguration {
     private final RadReplyRepo radReplyRepo;
     private final RadGroupCheckRepo radGroupCheckRepo;
     private final RadGroupReplyRepo radGroupReplyRepo;
-    private final RadCheckAttributeRepo radCheckAttributeRepo;
-    private final RadReplyAttributeRepo radReplyAttributeRepo;
+    private final AttributeCatalog attributeCatalog;
     private final ConversionService conversionService;
 
     @Autowired
@@ -36,15 +34,13 @@ public class AuthServiceConfiguration {
                                     RadReplyRepo radReplyRepo,
                                     RadGroupCheckRepo radGroupCheckRepo,
                                     RadGroupReplyRepo radGroupReplyRepo,
-                                    RadCheckAttributeRepo radCheckAttributeRepo,
-                                    RadReplyAttributeRepo radReplyAttributeRepo,
+                                    AttributeCatalog attributeCatalog,
                                     DefaultConversionService conversionService) {
         this.radCheckRepo = radCheckRepo;
         this.radReplyRepo = radReplyRepo;
         this.radGroupCheckRepo = radGroupCheckRepo;
         this.radGroupReplyRepo = radGroupReplyRepo;
-        this.radCheckAttributeRepo = radCheckAttributeRepo;
-        this.radReplyAttributeRepo = radReplyAttributeRepo;
+        this.attributeCatalog = attributeCatalog;
         this.conversionService = conversionService;
 
         conversionService.addConverter(new DtoToRadCheckConverter());
@@ -56,7 +52,7 @@ public class AuthServiceConfiguration {
     @Bean
     AuthService authService() {
         return new AuthService(radCheckRepo, radReplyRepo, radGroupCheckRepo,
-                radGroupReplyRepo, radCheckAttributeRepo, radReplyAttributeRepo, conversionService);
+                radGroupReplyRepo, attributeCatalog, conversionService);
     }
 
 }
@@ -0,0 +1,64 @@
+package software.netcore.radman.buisness.service.auth.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import software.netcore.radman.buisness.service.attribute.ValueMask;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Single user or group row of the authentication or authorization grid, pivoted from its "radcheck" /
+ * "radgroupcheck" / "radreply" / "radgroupreply" records. Each managed attribute is a column, all values of a
+ * multi-valued attribute are joined in its cell. Rows are keyed by their name and type, so the key of a row is
+ * the same in every page load and every session.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode(of = {"authTarget", "name"})
+public class AuthRowDto {
+
+    private static final String VALUES_SEPARATOR = ", ";
+
+    /**
+     * Single record of the row.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+
+        private final Integer id;
+        private final String attribute;
+        private final String op;
+        private final String value;
+        private final boolean sensitive;
+
+        /**
+         * @return "op value" of the record, the value masked if sensitive
+         */
+        public String getOpValue() {
+            return op + " " + (sensitive ? ValueMask.mask(value) : value);
+        }
+
+    }
+
+    private final String name;
+    private final AuthTarget authTarget;
+    private final List<Entry> entries;
+
+    /**
+     * @return "op value" of the records of the attribute in their id order, null if the row has none
+     */
+    public String getCell(String attribute) {
+        String cell = entries.stream()
+                .filter(entry -> Objects.equals(entry.getAttribute(), attribute))
+                .map(Entry::getOpValue)
+                .collect(Collectors.joining(VALUES_SEPARATOR));
+        return cell.isEmpty() ? null : cell;
+    }
+
+}
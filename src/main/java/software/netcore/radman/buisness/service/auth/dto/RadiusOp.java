@@ -3,6 +3,8 @@ package software.netcore.radman.buisness.service.auth.dto;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Objects;
+
 /**
  * @see <a href='https://wiki.freeradius.org/config/Operators'>FreeRadius operators documentation</a>
  * @since v. 1.0.0
@@ -19,4 +21,13 @@ public enum RadiusOp {
 
     private final String value;
 
+    public static RadiusOp fromValue(String value) {
+        for (RadiusOp op : values()) {
+            if (Objects.equals(op.value, value)) {
+                return op;
+            }
+        }
+        throw new IllegalStateException("No such enum with value '" + value + "'!");
+    }
+
 }
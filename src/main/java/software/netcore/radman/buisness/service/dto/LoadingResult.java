@@ -3,7 +3,9 @@ package software.netcore.radman.buisness.service.dto;
 import lombok.Getter;
 
 /**
+ * Counts of a load of names into RadMan DB: loaded names, names already present and names the database rejected.
  *
+ * @since v. 1.0.0
  */
 @Getter
 public class LoadingResult {
@@ -24,4 +26,16 @@ public class LoadingResult {
         errored++;
     }
 
+    public void addLoaded(int count) {
+        loaded += count;
+    }
+
+    public void addDuplicate(int count) {
+        duplicate += count;
+    }
+
+    public void addErrored(int count) {
+        errored += count;
+    }
+
 }
@@ -0,0 +1,68 @@
+package software.netcore.radman.buisness.service.export;
+
+import software.netcore.radman.buisness.service.export.dto.ExportFormat;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * RFC 4180 CSV writer, optionally gzip compressed. Rows are buffered in chunks of {@link #BUFFER_SIZE}
+ * characters and written to the underlying stream as each chunk fills up. Text values starting with a character
+ * spreadsheets read as a formula ({@code = + - @}, tab or carriage return) are prefixed with {@code '}, so an
+ * opened export never evaluates values stored by Radius clients or users. Numbers and dates are written as they are.
+ *
+ * @since v. 1.0.3
+ */
+class CsvExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream out, ExportFormat format) throws IOException {
+        OutputStream target = format == ExportFormat.CSV_GZIP ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        this.writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (Objects.isNull(value)) {
+            return;
+        }
+        String text = value instanceof Date ? ((Date) value).toInstant().toString() : value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quoted = false;
+        for (int i = 0; i < text.length() && !quoted; i++) {
+            char c = text.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (quoted) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+}
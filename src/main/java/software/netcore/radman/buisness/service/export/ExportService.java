@@ -0,0 +1,145 @@
+package software.netcore.radman.buisness.service.export;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import software.netcore.radman.buisness.service.accounting.AccountingService;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingDto;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingFilter;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
+import software.netcore.radman.buisness.service.attribute.ValueMask;
+import software.netcore.radman.buisness.service.auth.dto.AuthTarget;
+import software.netcore.radman.buisness.service.export.dto.ExportFormat;
+import software.netcore.radman.buisness.service.export.dto.ExportTable;
+import software.netcore.radman.data.internal.repo.RadiusGroupRepo;
+import software.netcore.radman.data.internal.repo.RadiusUserRepo;
+import software.netcore.radman.data.radius.repo.*;
+import software.netcore.radman.data.spec.ReplicaRead;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Exports accounting records and Radius / RadMan tables to CSV. Records are read through forward-only
+ * cursors and written as they are read, so memory use does not depend on the number of exported records.
+ * Values of sensitive attributes are masked, same as in the views.
+ *
+ * @since v. 1.0.3
+ */
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final Object[] ACCOUNTING_HEADER = {"radacctid", "acctsessionid", "acctuniqueid", "username",
+            "realm", "nasipaddress", "nasportid", "nasporttype", "acctstarttime", "acctupdatetime", "acctstoptime",
+            "acctinterval", "acctsessiontime", "acctauthentic", "connectinfo_start", "connectinfo_stop",
+            "acctinputoctets", "acctoutputoctets", "calledstationid", "callingstationid", "acctterminatecause",
+            "servicetype", "framedprotocol", "framedipaddress"};
+    private static final Object[] AUTH_HEADER = {"name", "type", "attribute", "op", "value"};
+    private static final Object[] USER_TO_GROUP_HEADER = {"username", "groupname", "priority"};
+    private static final Object[] NAME_HEADER = {"name", "description"};
+
+    // radius
+    private final RadCheckRepo radCheckRepo;
+    private final RadReplyRepo radReplyRepo;
+    private final RadGroupCheckRepo radGroupCheckRepo;
+    private final RadGroupReplyRepo radGroupReplyRepo;
+    private final RadUserGroupRepo radUserGroupRepo;
+
+    // internal
+    private final RadiusUserRepo radiusUserRepo;
+    private final RadiusGroupRepo radiusGroupRepo;
+    private final AttributeCatalog attributeCatalog;
+
+    private final AccountingService accountingService;
+
+    @ReplicaRead
+    public void exportAccounting(@NonNull AccountingFilter filter, @NonNull ExportFormat format,
+                                 @NonNull OutputStream out) {
+        export(() -> accountingService.streamAccountingRecords(filter).map(this::toRow),
+                ACCOUNTING_HEADER, format, out);
+    }
+
+    @ReplicaRead
+    public void exportTable(@NonNull ExportTable table, @NonNull ExportFormat format, @NonNull OutputStream out) {
+        Sort sort = Sort.by(ID_PROPERTY);
+        switch (table) {
+            case AUTHENTICATIONS:
+                Map<String, Boolean> checkAttributes = attributeCatalog.getAuthenticationAttributes();
+                // the second table is opened only after the first one is exported and closed
+                export(() -> Stream.<Supplier<Stream<Object[]>>>of(
+                        () -> radCheckRepo.streamAll(sort).map(check -> toAuthRow(check.getUsername(),
+                                AuthTarget.RADIUS_USER, check.getAttribute(), check.getOp(), check.getValue(),
+                                checkAttributes)),
+                        () -> radGroupCheckRepo.streamAll(sort).map(check -> toAuthRow(check.getGroupName(),
+                                AuthTarget.RADIUS_GROUP, check.getAttribute(), check.getOp(), check.getValue(),
+                                checkAttributes)))
+                        .flatMap(Supplier::get), AUTH_HEADER, format, out);
+                break;
+            case AUTHORIZATIONS:
+                Map<String, Boolean> replyAttributes = attributeCatalog.getAuthorizationAttributes();
+                export(() -> Stream.<Supplier<Stream<Object[]>>>of(
+                        () -> radReplyRepo.streamAll(sort).map(reply -> toAuthRow(reply.getUsername(),
+                                AuthTarget.RADIUS_USER, reply.getAttribute(), reply.getOp(), reply.getValue(),
+                                replyAttributes)),
+                        () -> radGroupReplyRepo.streamAll(sort).map(reply -> toAuthRow(reply.getGroupName(),
+                                AuthTarget.RADIUS_GROUP, reply.getAttribute(), reply.getOp(), reply.getValue(),
+                                replyAttributes)))
+                        .flatMap(Supplier::get), AUTH_HEADER, format, out);
+                break;
+            case USERS_TO_GROUPS:
+                export(() -> radUserGroupRepo.streamAll(sort).map(userGroup -> new Object[]{
+                        userGroup.getUsername(), userGroup.getGroupName(), userGroup.getPriority()}),
+                        USER_TO_GROUP_HEADER, format, out);
+                break;
+            case USERS:
+                export(() -> radiusUserRepo.streamAll(sort).map(user -> new Object[]{
+                        user.getUsername(), user.getDescription()}), NAME_HEADER, format, out);
+                break;
+            case GROUPS:
+                export(() -> radiusGroupRepo.streamAll(sort).map(group -> new Object[]{
+                        group.getName(), group.getDescription()}), NAME_HEADER, format, out);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported export table " + table);
+        }
+    }
+
+    private void export(Supplier<Stream<Object[]>> rows, Object[] header, ExportFormat format, OutputStream out) {
+        try (CsvExportWriter writer = new CsvExportWriter(out, format);
+             Stream<Object[]> stream = rows.get()) {
+            writer.writeRow(header);
+            Iterator<Object[]> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(iterator.next());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object[] toAuthRow(String name, AuthTarget authTarget, String attribute, String op, String value,
+                               Map<String, Boolean> attributes) {
+        String exportedValue = Boolean.TRUE.equals(attributes.get(attribute)) ? ValueMask.mask(value) : value;
+        return new Object[]{name, authTarget.getValue(), attribute, op, exportedValue};
+    }
+
+    private Object[] toRow(AccountingDto accounting) {
+        return new Object[]{accounting.getRadAcctId(), accounting.getAcctSessionId(), accounting.getAcctUniqueId(),
+                accounting.getUsername(), accounting.getRealm(), accounting.getNasIpAddress(),
+                accounting.getNasPortId(), accounting.getNasPortType(), accounting.getAcctStartTime(),
+                accounting.getAcctUpdateTime(), accounting.getAcctStopTime(), accounting.getAcctInterval(),
+                accounting.getAcctSessionTime(), accounting.getAcctAuthentic(), accounting.getConnectInfoStart(),
+                accounting.getConnectInfoStop(), accounting.getAcctInputOctets(), accounting.getAcctOutputOctets(),
+                accounting.getCalledStationId(), accounting.getCallingStationId(),
+                accounting.getAcctTerminateCause(), accounting.getServiceType(), accounting.getFramedProtocol(),
+                accounting.getFramedIpAddress()};
+    }
+
+}
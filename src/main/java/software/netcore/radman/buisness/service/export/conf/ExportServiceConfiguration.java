@@ -0,0 +1,58 @@
+package software.netcore.radman.buisness.service.export.conf;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.netcore.radman.buisness.service.accounting.AccountingService;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
+import software.netcore.radman.buisness.service.export.ExportService;
+import software.netcore.radman.data.internal.repo.RadiusGroupRepo;
+import software.netcore.radman.data.internal.repo.RadiusUserRepo;
+import software.netcore.radman.data.radius.repo.*;
+
+/**
+ * @since v. 1.0.3
+ */
+@Configuration
+public class ExportServiceConfiguration {
+
+    private final RadCheckRepo radCheckRepo;
+    private final RadReplyRepo radReplyRepo;
+    private final RadGroupCheckRepo radGroupCheckRepo;
+    private final RadGroupReplyRepo radGroupReplyRepo;
+    private final RadUserGroupRepo radUserGroupRepo;
+
+    private final RadiusUserRepo radiusUserRepo;
+    private final RadiusGroupRepo radiusGroupRepo;
+    private final AttributeCatalog attributeCatalog;
+
+    private final AccountingService accountingService;
+
+    @Autowired
+    public ExportServiceConfiguration(RadCheckRepo radCheckRepo,
+                                      RadReplyRepo radReplyRepo,
+                                      RadGroupCheckRepo radGroupCheckRepo,
+                                      RadGroupReplyRepo radGroupReplyRepo,
+                                      RadUserGroupRepo radUserGroupRepo,
+                                      RadiusUserRepo radiusUserRepo,
+                                      RadiusGroupRepo radiusGroupRepo,
+                                      AttributeCatalog attributeCatalog,
+                                      AccountingService accountingService) {
+        this.radCheckRepo = radCheckRepo;
+        this.radReplyRepo = radReplyRepo;
+        this.radGroupCheckRepo = radGroupCheckRepo;
+        this.radGroupReplyRepo = radGroupReplyRepo;
+        this.radUserGroupRepo = radUserGroupRepo;
+        this.radiusUserRepo = radiusUserRepo;
+        this.radiusGroupRepo = radiusGroupRepo;
+        this.attributeCatalog = attributeCatalog;
+        this.accountingService = accountingService;
+    }
+
+    @Bean
+    ExportService exportService() {
+        return new ExportService(radCheckRepo, radReplyRepo, radGroupCheckRepo, radGroupReplyRepo,
+                radUserGroupRepo, radiusUserRepo, radiusGroupRepo, attributeCatalog, accountingService);
+    }
+
+}
@@ -0,0 +1,19 @@
+package software.netcore.radman.buisness.service.export.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    CSV("csv", "text/csv"),
+    CSV_GZIP("csv.gz", "application/gzip");
+
+    private final String fileExtension;
+    private final String contentType;
+
+}
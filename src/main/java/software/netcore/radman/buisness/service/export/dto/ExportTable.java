@@ -0,0 +1,36 @@
+package software.netcore.radman.buisness.service.export.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportTable {
+
+    /**
+     * "radcheck" and "radgroupcheck" tables.
+     */
+    AUTHENTICATIONS("authentications"),
+    /**
+     * "radreply" and "radgroupreply" tables.
+     */
+    AUTHORIZATIONS("authorizations"),
+    /**
+     * "radusergroup" table.
+     */
+    USERS_TO_GROUPS("users_to_groups"),
+    /**
+     * RadMan users.
+     */
+    USERS("users"),
+    /**
+     * RadMan groups.
+     */
+    GROUPS("groups");
+
+    private final String fileName;
+
+}
@@ -0,0 +1,62 @@
+package software.netcore.radman.buisness.service.loading;
+
+import lombok.NonNull;
+import software.netcore.radman.buisness.service.dto.LoadingResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Loads names found in Radius DB into RadMan DB, skipping the names RadMan DB already contains. Names are compared
+ * case-insensitively, as the RadMan DB unique keys do.
+ *
+ * @since v. 1.0.3
+ */
+public final class NameLoader {
+
+    private NameLoader() {
+    }
+
+    /**
+     * Diffs the loaded names against the already existing names in memory and inserts the missing ones. Names
+     * differing in letter case only (also within the loaded names) count as duplicates.
+     *
+     * @param inserter inserts the given names, returns the number of inserted ones
+     */
+    public static LoadingResult insertMissing(@NonNull Collection<String> names,
+                                              @NonNull Collection<String> existingNames,
+                                              @NonNull ToIntFunction<Collection<String>> inserter) {
+        LoadingResult result = new LoadingResult();
+        Set<String> knownNames = new HashSet<>(existingNames.size() + names.size());
+        existingNames.forEach(name -> knownNames.add(normalizeName(name)));
+        List<String> missingNames = new ArrayList<>();
+        for (String name : names) {
+            if (Objects.isNull(name)) {
+                continue;
+            }
+            if (knownNames.add(normalizeName(name))) {
+                missingNames.add(name);
+            } else {
+                result.incrementDuplicate();
+            }
+        }
+        int loaded = inserter.applyAsInt(missingNames);
+        result.addLoaded(loaded);
+        result.addErrored(missingNames.size() - loaded);
+        return result;
+    }
+
+    /**
+     * @return name in the form names are compared in, letter case is not significant
+     */
+    public static String normalizeName(@NonNull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+}
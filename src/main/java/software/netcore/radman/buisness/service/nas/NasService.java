@@ -7,9 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import software.netcore.radman.buisness.service.nas.dto.NasDto;
 import software.netcore.radman.buisness.service.nas.dto.NasGroupDto;
@@ -19,10 +17,10 @@ import software.netcore.radman.data.radius.entity.QRadHuntGroup;
 import software.netcore.radman.data.radius.entity.RadHuntGroup;
 import software.netcore.radman.data.radius.repo.NasRepo;
 import software.netcore.radman.data.radius.repo.RadHuntGroupRepo;
+import software.netcore.radman.data.spec.ReplicaRead;
 
 import javax.annotation.Nullable;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.LongSupplier;
 
 /**
  * @since v. 1.0.0
@@ -75,28 +73,37 @@ public class NasService {
         radHuntGroupRepo.deleteById(nasGroupDto.getId());
     }
 
+    @ReplicaRead
     public long countNasRecords(@Nullable String searchText) {
         return nasRepo.count(buildNasSearchPredicate(searchText));
     }
 
+    @ReplicaRead
     public Page<NasDto> pageNasRecords(@Nullable String searchText, @NonNull Pageable pageable) {
-        Page<Nas> page = nasRepo.findAll(buildNasSearchPredicate(searchText), pageable);
-        List<NasDto> nasDtos = page.stream()
-                .map(nas -> conversionService.convert(nas, NasDto.class))
-                .collect(Collectors.toList());
-        return new PageImpl<>(nasDtos, pageable, nasDtos.size());
+        return nasRepo.findAll(buildNasSearchPredicate(searchText), pageable)
+                .map(nas -> conversionService.convert(nas, NasDto.class));
     }
 
+    /**
+     * Same as {@link #pageNasRecords(String, Pageable)}, but the total is taken from the supplier, e.g. the count
+     * the grid already made for the same search text.
+     */
+    @ReplicaRead
+    public Page<NasDto> pageNasRecords(@Nullable String searchText, @NonNull Pageable pageable,
+                                       @NonNull LongSupplier totalSupplier) {
+        return nasRepo.findAll(buildNasSearchPredicate(searchText), pageable, totalSupplier)
+                .map(nas -> conversionService.convert(nas, NasDto.class));
+    }
+
+    @ReplicaRead
     public long countNasGroupRecords(@Nullable String searchText) {
         return radHuntGroupRepo.count(buildNasGroupSearchPredicate(searchText));
     }
 
+    @ReplicaRead
     public Page<NasGroupDto> pageNasGroupRecords(@Nullable String searchText, @NonNull Pageable pageable) {
-        Page<RadHuntGroup> page = radHuntGroupRepo.findAll(buildNasGroupSearchPredicate(searchText), pageable);
-        List<NasGroupDto> nasGroupDtos = page.stream()
-                .map(radHuntGroup -> conversionService.convert(radHuntGroup, NasGroupDto.class))
-                .collect(Collectors.toList());
-        return new PageImpl<>(nasGroupDtos, pageable, nasGroupDtos.size());
+        return radHuntGroupRepo.findAll(buildNasGroupSearchPredicate(searchText), pageable)
+                .map(radHuntGroup -> conversionService.convert(radHuntGroup, NasGroupDto.class));
     }
 
     private Predicate buildNasSearchPredicate(@Nullable String searchText) {
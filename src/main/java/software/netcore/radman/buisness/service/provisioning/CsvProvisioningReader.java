@@ -0,0 +1,150 @@
+package software.netcore.radman.buisness.service.provisioning;
+
+import software.netcore.radman.buisness.service.provisioning.dto.ProvisioningRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * RFC 4180 CSV reader. The first row names the columns, in any order, by the {@link ProvisioningRow}
+ * property names. Quoted values may contain separators, quotes (doubled) and line breaks. Row numbers
+ * are the line numbers the rows start on.
+ *
+ * @since v. 1.0.3
+ */
+class CsvProvisioningReader implements ProvisioningReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private static final Map<String, BiConsumer<ProvisioningRow, String>> COLUMNS = new HashMap<>();
+
+    static {
+        COLUMNS.put("type", ProvisioningRow::setType);
+        COLUMNS.put("target", ProvisioningRow::setTarget);
+        COLUMNS.put("name", ProvisioningRow::setName);
+        COLUMNS.put("group", ProvisioningRow::setGroup);
+        COLUMNS.put("attribute", ProvisioningRow::setAttribute);
+        COLUMNS.put("op", ProvisioningRow::setOp);
+        COLUMNS.put("value", ProvisioningRow::setValue);
+    }
+
+    private final BufferedReader reader;
+    private final List<BiConsumer<ProvisioningRow, String>> columns = new ArrayList<>();
+
+    private long lineNumber = 1;
+    private long rowNumber;
+    private List<String> values;
+    private boolean unterminated;
+
+    CsvProvisioningReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+        readRecord();
+        if (Objects.isNull(values)) {
+            throw new IllegalArgumentException("CSV header row is missing");
+        }
+        for (String header : values) {
+            BiConsumer<ProvisioningRow, String> column = COLUMNS.get(header.trim().toLowerCase(Locale.ROOT));
+            if (Objects.isNull(column)) {
+                throw new IllegalArgumentException("Unknown CSV column '" + header + "', supported columns are "
+                        + COLUMNS.keySet());
+            }
+            columns.add(column);
+        }
+        readRecord();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return Objects.nonNull(values);
+    }
+
+    @Override
+    public ProvisioningRow next() {
+        if (Objects.isNull(values)) {
+            throw new NoSuchElementException();
+        }
+        List<String> rowValues = values;
+        long number = rowNumber;
+        boolean invalid = unterminated;
+        readRecord();
+        if (invalid) {
+            throw new InvalidRowException(number, "Quoted value is not terminated");
+        }
+        if (rowValues.size() != columns.size()) {
+            throw new InvalidRowException(number, "Expected " + columns.size() + " values, found "
+                    + rowValues.size());
+        }
+        ProvisioningRow row = new ProvisioningRow();
+        row.setRowNumber(number);
+        for (int i = 0; i < columns.size(); i++) {
+            String value = rowValues.get(i).trim();
+            columns.get(i).accept(row, value.isEmpty() ? null : value);
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next non-blank record into {@link #values}, null at the end of input.
+     */
+    private void readRecord() {
+        try {
+            do {
+                values = null;
+                unterminated = false;
+                rowNumber = lineNumber;
+                int c = reader.read();
+                if (c == -1) {
+                    return;
+                }
+                values = new ArrayList<>();
+                StringBuilder value = new StringBuilder();
+                boolean quoted = false;
+                while (c != -1) {
+                    if (quoted) {
+                        if (c == QUOTE) {
+                            reader.mark(1);
+                            int following = reader.read();
+                            if (following == QUOTE) {
+                                value.append(QUOTE);
+                            } else {
+                                quoted = false;
+                                reader.reset();
+                            }
+                        } else {
+                            if (c == '\n') {
+                                lineNumber++;
+                            }
+                            value.append((char) c);
+                        }
+                    } else if (c == QUOTE) {
+                        quoted = true;
+                    } else if (c == SEPARATOR) {
+                        values.add(value.toString());
+                        value.setLength(0);
+                    } else if (c == '\n') {
+                        lineNumber++;
+                        break;
+                    } else if (c != '\r') {
+                        value.append((char) c);
+                    }
+                    c = reader.read();
+                }
+                values.add(value.toString());
+                unterminated = quoted;
+            } while (values.size() == 1 && values.get(0).trim().isEmpty() && !unterminated);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package software.netcore.radman.buisness.service.provisioning;
+
+import lombok.Getter;
+
+/**
+ * Row which cannot be read or provisioned, reported and skipped.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+class InvalidRowException extends RuntimeException {
+
+    private final long rowNumber;
+
+    InvalidRowException(long rowNumber, String message) {
+        super(message);
+        this.rowNumber = rowNumber;
+    }
+
+}
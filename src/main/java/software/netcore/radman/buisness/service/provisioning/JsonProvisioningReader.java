@@ -0,0 +1,80 @@
+package software.netcore.radman.buisness.service.provisioning;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.netcore.radman.buisness.service.provisioning.dto.ProvisioningRow;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Reads a JSON array of objects keyed by the {@link ProvisioningRow} property names, element by element.
+ * Row numbers are the 1-based array indexes. Malformed JSON ends the reading, as the parser cannot
+ * recover from it.
+ *
+ * @since v. 1.0.3
+ */
+class JsonProvisioningReader implements ProvisioningReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final MappingIterator<ProvisioningRow> rows;
+
+    private long rowNumber = 0;
+    private InvalidRowException failure;
+
+    JsonProvisioningReader(Reader reader) {
+        try {
+            // elements of a root level array are iterated one by one
+            this.rows = OBJECT_MAPPER.readerFor(ProvisioningRow.class).readValues(reader);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.nonNull(failure)) {
+            return true;
+        }
+        if (rowNumber < 0) {
+            return false;
+        }
+        try {
+            return rows.hasNextValue();
+        } catch (IOException | RuntimeException e) {
+            failure = new InvalidRowException(rowNumber + 1, "Malformed JSON: " + e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public ProvisioningRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (Objects.isNull(failure)) {
+            try {
+                ProvisioningRow row = rows.nextValue();
+                row.setRowNumber(++rowNumber);
+                return row;
+            } catch (IOException | RuntimeException e) {
+                failure = new InvalidRowException(rowNumber + 1, "Malformed JSON: " + e.getMessage());
+            }
+        }
+        InvalidRowException exception = failure;
+        failure = null;
+        rowNumber = -1;
+        throw exception;
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+
+}
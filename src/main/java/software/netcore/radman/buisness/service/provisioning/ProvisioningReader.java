@@ -0,0 +1,16 @@
+package software.netcore.radman.buisness.service.provisioning;
+
+import software.netcore.radman.buisness.service.provisioning.dto.ProvisioningRow;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * Forward-only reader of a provisioning file, holds a single row in memory. {@link #next()} throws
+ * {@link InvalidRowException} for a row which cannot be read, reading continues with the next row
+ * unless {@link #hasNext()} says otherwise.
+ *
+ * @since v. 1.0.3
+ */
+interface ProvisioningReader extends Iterator<ProvisioningRow>, Closeable {
+}
@@ -0,0 +1,341 @@
+package software.netcore.radman.buisness.service.provisioning;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.convert.ConversionService;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
+import software.netcore.radman.buisness.service.auth.dto.AuthDto;
+import software.netcore.radman.buisness.service.auth.dto.AuthTarget;
+import software.netcore.radman.buisness.service.auth.dto.AuthenticationDto;
+import software.netcore.radman.buisness.service.auth.dto.AuthorizationDto;
+import software.netcore.radman.buisness.service.auth.dto.RadiusOp;
+import software.netcore.radman.buisness.service.loading.NameLoader;
+import software.netcore.radman.buisness.service.provisioning.dto.*;
+import software.netcore.radman.buisness.service.user.radius.dto.RadiusUserToGroupDto;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
+import software.netcore.radman.data.internal.repo.RadCheckAttributeRepo;
+import software.netcore.radman.data.internal.repo.RadReplyAttributeRepo;
+import software.netcore.radman.data.internal.repo.RadiusGroupRepo;
+import software.netcore.radman.data.internal.repo.RadiusUserRepo;
+import software.netcore.radman.data.radius.entity.*;
+import software.netcore.radman.data.radius.repo.*;
+import software.netcore.radman.data.spec.BaseBatchRepository;
+import software.netcore.radman.data.spec.BaseBatchRepository.RowErrorHandler;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Provisions users, groups, memberships and check / reply attributes from a CSV or JSON file. The file is
+ * streamed row by row, valid rows are grouped per table and written in JDBC batches, invalid and rejected
+ * rows are reported by their row number. Batches are committed as written, a failed row does not roll back
+ * the others. Users and groups already known to RadMan, memberships already in the Radius DB and attributes
+ * already assigned with the same operator and value are looked up per batch (names case-insensitively),
+ * skipped and counted as provisioned, so a file can be provisioned repeatedly. Attributes not yet in the RadMan
+ * attribute catalog are added to it.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ProvisioningService {
+
+    private static final int MAX_NAME_LENGTH = 64;
+    private static final int MAX_VALUE_LENGTH = 253;
+
+    @FunctionalInterface
+    private interface BatchWriter<E> {
+
+        int write(List<E> entities, RowErrorHandler errorHandler);
+
+    }
+
+    private final RadiusUserRepo radiusUserRepo;
+    private final RadiusGroupRepo radiusGroupRepo;
+    private final RadCheckAttributeRepo checkAttributeRepo;
+    private final RadReplyAttributeRepo replyAttributeRepo;
+    private final BulkWriteRepo bulkWriteRepo;
+    private final RadiusBulkWriteRepo radiusBulkWriteRepo;
+    private final RadUserGroupRepo radUserGroupRepo;
+    private final RadCheckRepo radCheckRepo;
+    private final RadGroupCheckRepo radGroupCheckRepo;
+    private final RadReplyRepo radReplyRepo;
+    private final RadGroupReplyRepo radGroupReplyRepo;
+    private final AttributeCatalog attributeCatalog;
+    private final ConversionService conversionService;
+    private final Executor provisioningExecutor;
+
+    /**
+     * Provisions from the file in the background, files are provisioned one at a time in the upload order.
+     */
+    public CompletableFuture<ProvisioningReport> provisionAsync(@NonNull File file,
+                                                                @NonNull ProvisioningFormat format) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream input = new FileInputStream(file)) {
+                return provision(input, format);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, provisioningExecutor);
+    }
+
+    public ProvisioningReport provision(@NonNull InputStream input, @NonNull ProvisioningFormat format) {
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        ProvisioningReport report = new ProvisioningReport();
+        Batches batches = new Batches(report);
+        try (ProvisioningReader rows = format == ProvisioningFormat.CSV
+                ? new CsvProvisioningReader(reader) : new JsonProvisioningReader(reader)) {
+            while (rows.hasNext()) {
+                report.incrementRows();
+                try {
+                    batches.add(rows.next());
+                } catch (InvalidRowException e) {
+                    report.addError(new ProvisioningError(e.getRowNumber(), e.getMessage()));
+                }
+            }
+            batches.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        NameLoader.insertMissing(batches.checkAttributes, checkAttributeRepo.getNames(),
+                bulkWriteRepo::insertRadCheckAttributes);
+        NameLoader.insertMissing(batches.replyAttributes, replyAttributeRepo.getNames(),
+                bulkWriteRepo::insertRadReplyAttributes);
+        attributeCatalog.invalidateAuthenticationAttributes();
+        attributeCatalog.invalidateAuthorizationAttributes();
+        log.info("Provisioning finished: {}", report);
+        return report;
+    }
+
+    /**
+     * Inserts only entities whose key is neither returned by the existing keys lookup nor repeated within the
+     * written entities, the skipped ones are counted as inserted.
+     */
+    private <E, K> int insertNew(List<E> entities, Function<E, K> key,
+                                 Function<List<E>, Set<K>> existingKeysLookup,
+                                 BatchWriter<E> writer, RowErrorHandler errorHandler) {
+        Set<K> keys = new HashSet<>(existingKeysLookup.apply(entities));
+        List<E> newEntities = new ArrayList<>(entities.size());
+        List<Integer> newIndexes = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            if (keys.add(key.apply(entities.get(i)))) {
+                newEntities.add(entities.get(i));
+                newIndexes.add(i);
+            }
+        }
+        if (newEntities.isEmpty()) {
+            return entities.size();
+        }
+        int written = writer.write(newEntities, (index, e) -> errorHandler.onError(newIndexes.get(index), e));
+        return written + entities.size() - newEntities.size();
+    }
+
+    private <E, K> Set<K> collectKeys(Iterable<E> entities, Function<E, K> key) {
+        Set<K> keys = new HashSet<>();
+        entities.forEach(entity -> keys.add(key.apply(entity)));
+        return keys;
+    }
+
+    private List<String> membershipKey(RadUserGroup radUserGroup) {
+        return Arrays.asList(normalizeName(radUserGroup.getUsername()), normalizeName(radUserGroup.getGroupName()));
+    }
+
+    /**
+     * Names and attributes compare case-insensitively as in the Radius DB, operators and values exactly.
+     */
+    private List<String> attributeKey(String name, String attribute, String op, String value) {
+        return Arrays.asList(normalizeName(name), normalizeName(attribute), op, value);
+    }
+
+    private String normalizeName(String name) {
+        return NameLoader.normalizeName(name);
+    }
+
+    /**
+     * Rows waiting to be written, one batch per table.
+     */
+    private class Batches {
+
+        private final Batch<String> users;
+        private final Batch<String> groups;
+        private final Batch<RadUserGroup> memberships;
+        private final Batch<RadCheck> radChecks;
+        private final Batch<RadGroupCheck> radGroupChecks;
+        private final Batch<RadReply> radReplies;
+        private final Batch<RadGroupReply> radGroupReplies;
+
+        private final Set<String> checkAttributes = new HashSet<>();
+        private final Set<String> replyAttributes = new HashSet<>();
+
+        Batches(ProvisioningReport report) {
+            // existing rows are looked up by lower-cased names, matching the keys on every database collation
+            Function<String, String> nameKey = ProvisioningService.this::normalizeName;
+            users = new Batch<>(report, (names, errorHandler) -> insertNew(names, nameKey,
+                    batch -> collectKeys(radiusUserRepo.findExistingUsernames(collectKeys(batch, nameKey)),
+                            nameKey),
+                    bulkWriteRepo::insertRadiusUsers, errorHandler));
+            groups = new Batch<>(report, (names, errorHandler) -> insertNew(names, nameKey,
+                    batch -> collectKeys(radiusGroupRepo.findExistingNames(collectKeys(batch, nameKey)), nameKey),
+                    bulkWriteRepo::insertRadiusGroups, errorHandler));
+            Function<RadUserGroup, List<String>> membershipKey = ProvisioningService.this::membershipKey;
+            memberships = new Batch<>(report, (entities, errorHandler) -> insertNew(entities, membershipKey,
+                    batch -> collectKeys(radUserGroupRepo.findAll(QRadUserGroup.radUserGroup.username.lower()
+                            .in(collectKeys(batch, radUserGroup -> normalizeName(radUserGroup.getUsername())))),
+                            membershipKey),
+                    radiusBulkWriteRepo::insertRadUserGroups, errorHandler), users, groups);
+            Function<RadCheck, List<String>> radCheckKey = radCheck -> attributeKey(radCheck.getUsername(),
+                    radCheck.getAttribute(), radCheck.getOp(), radCheck.getValue());
+            radChecks = new Batch<>(report, (entities, errorHandler) -> insertNew(entities, radCheckKey,
+                    batch -> collectKeys(radCheckRepo.findAll(QRadCheck.radCheck.username.lower()
+                            .in(collectKeys(batch, radCheck -> normalizeName(radCheck.getUsername())))),
+                            radCheckKey),
+                    radiusBulkWriteRepo::insertRadChecks, errorHandler), users);
+            Function<RadGroupCheck, List<String>> radGroupCheckKey = radGroupCheck -> attributeKey(
+                    radGroupCheck.getGroupName(), radGroupCheck.getAttribute(), radGroupCheck.getOp(),
+                    radGroupCheck.getValue());
+            radGroupChecks = new Batch<>(report, (entities, errorHandler) -> insertNew(entities, radGroupCheckKey,
+                    batch -> collectKeys(radGroupCheckRepo.findAll(QRadGroupCheck.radGroupCheck.groupName.lower()
+                            .in(collectKeys(batch, radGroupCheck -> normalizeName(radGroupCheck.getGroupName())))),
+                            radGroupCheckKey),
+                    radiusBulkWriteRepo::insertRadGroupChecks, errorHandler), groups);
+            Function<RadReply, List<String>> radReplyKey = radReply -> attributeKey(radReply.getUsername(),
+                    radReply.getAttribute(), radReply.getOp(), radReply.getValue());
+            radReplies = new Batch<>(report, (entities, errorHandler) -> insertNew(entities, radReplyKey,
+                    batch -> collectKeys(radReplyRepo.findAll(QRadReply.radReply.username.lower()
+                            .in(collectKeys(batch, radReply -> normalizeName(radReply.getUsername())))),
+                            radReplyKey),
+                    radiusBulkWriteRepo::insertRadReplies, errorHandler), users);
+            Function<RadGroupReply, List<String>> radGroupReplyKey = radGroupReply -> attributeKey(
+                    radGroupReply.getGroupName(), radGroupReply.getAttribute(), radGroupReply.getOp(),
+                    radGroupReply.getValue());
+            radGroupReplies = new Batch<>(report, (entities, errorHandler) -> insertNew(entities, radGroupReplyKey,
+                    batch -> collectKeys(radGroupReplyRepo.findAll(QRadGroupReply.radGroupReply.groupName.lower()
+                            .in(collectKeys(batch, radGroupReply -> normalizeName(radGroupReply.getGroupName())))),
+                            radGroupReplyKey),
+                    radiusBulkWriteRepo::insertRadGroupReplies, errorHandler), groups);
+        }
+
+        void add(ProvisioningRow row) {
+            ProvisioningRecordType type = parse(row, "type", row.getType(), ProvisioningRecordType::fromValue);
+            String name = required(row, "name", row.getName(), MAX_NAME_LENGTH);
+            switch (type) {
+                case USER:
+                    users.add(row, name);
+                    break;
+                case GROUP:
+                    groups.add(row, name);
+                    break;
+                case MEMBERSHIP:
+                    RadiusUserToGroupDto userToGroupDto = new RadiusUserToGroupDto();
+                    userToGroupDto.setUsername(name);
+                    userToGroupDto.setGroupName(required(row, "group", row.getGroup(), MAX_NAME_LENGTH));
+                    memberships.add(row, conversionService.convert(userToGroupDto, RadUserGroup.class));
+                    break;
+                case AUTHENTICATION:
+                    AuthenticationDto authenticationDto = buildAuthDto(new AuthenticationDto(), row);
+                    checkAttributes.add(authenticationDto.getAttribute());
+                    if (authenticationDto.getAuthTarget() == AuthTarget.RADIUS_USER) {
+                        radChecks.add(row, conversionService.convert(authenticationDto, RadCheck.class));
+                    } else {
+                        radGroupChecks.add(row, conversionService.convert(authenticationDto, RadGroupCheck.class));
+                    }
+                    break;
+                case AUTHORIZATION:
+                    AuthorizationDto authorizationDto = buildAuthDto(new AuthorizationDto(), row);
+                    replyAttributes.add(authorizationDto.getAttribute());
+                    if (authorizationDto.getAuthTarget() == AuthTarget.RADIUS_USER) {
+                        radReplies.add(row, conversionService.convert(authorizationDto, RadReply.class));
+                    } else {
+                        radGroupReplies.add(row, conversionService.convert(authorizationDto, RadGroupReply.class));
+                    }
+                    break;
+            }
+        }
+
+        void flush() {
+            users.flush();
+            groups.flush();
+            memberships.flush();
+            radChecks.flush();
+            radGroupChecks.flush();
+            radReplies.flush();
+            radGroupReplies.flush();
+        }
+
+        private <T extends AuthDto> T buildAuthDto(T authDto, ProvisioningRow row) {
+            authDto.setName(row.getName());
+            authDto.setAuthTarget(parse(row, "target", row.getTarget(), AuthTarget::fromValue));
+            authDto.setAttribute(required(row, "attribute", row.getAttribute(), MAX_NAME_LENGTH));
+            authDto.setOp(parse(row, "op", row.getOp(), RadiusOp::fromValue));
+            authDto.setValue(required(row, "value", row.getValue(), MAX_VALUE_LENGTH));
+            return authDto;
+        }
+
+        private String required(ProvisioningRow row, String column, String value, int maxLength) {
+            if (Objects.isNull(value) || value.isEmpty()) {
+                throw new InvalidRowException(row.getRowNumber(), "Value of '" + column + "' is required");
+            }
+            if (value.length() > maxLength) {
+                throw new InvalidRowException(row.getRowNumber(), "Value of '" + column + "' is longer than "
+                        + maxLength + " characters");
+            }
+            return value;
+        }
+
+        private <V> V parse(ProvisioningRow row, String column, String value, Function<String, V> parser) {
+            try {
+                return parser.apply(required(row, column, value, MAX_NAME_LENGTH));
+            } catch (IllegalStateException e) {
+                throw new InvalidRowException(row.getRowNumber(), "Unsupported value '" + value + "' of '"
+                        + column + "'");
+            }
+        }
+
+    }
+
+    /**
+     * Rows of a single table, written once {@link BaseBatchRepository#BATCH_SIZE} rows are collected. The batches
+     * of the users and groups the rows reference are written first, so the referenced rows always precede them.
+     */
+    private static class Batch<E> {
+
+        private final ProvisioningReport report;
+        private final BatchWriter<E> writer;
+        private final List<Batch<?>> referenced;
+        private final List<ProvisioningRow> rows = new ArrayList<>();
+        private final List<E> entities = new ArrayList<>();
+
+        Batch(ProvisioningReport report, BatchWriter<E> writer, Batch<?>... referenced) {
+            this.report = report;
+            this.writer = writer;
+            this.referenced = Arrays.asList(referenced);
+        }
+
+        void add(ProvisioningRow row, E entity) {
+            rows.add(row);
+            entities.add(entity);
+            if (entities.size() == BaseBatchRepository.BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (entities.isEmpty()) {
+                return;
+            }
+            referenced.forEach(Batch::flush);
+            int written = writer.write(entities, (index, e) -> report.addError(new ProvisioningError(
+                    rows.get(index).getRowNumber(), e.getMostSpecificCause().getMessage())));
+            report.addProvisioned(written);
+            rows.clear();
+            entities.clear();
+        }
+
+    }
+
+}
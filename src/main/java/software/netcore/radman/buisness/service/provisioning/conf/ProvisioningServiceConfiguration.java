@@ -0,0 +1,81 @@
+package software.netcore.radman.buisness.service.provisioning.conf;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import software.netcore.radman.buisness.service.attribute.AttributeCatalog;
+import software.netcore.radman.buisness.service.provisioning.ProvisioningService;
+import software.netcore.radman.data.internal.repo.*;
+import software.netcore.radman.data.radius.repo.*;
+
+/**
+ * @since v. 1.0.3
+ */
+@Configuration
+public class ProvisioningServiceConfiguration {
+
+    private final RadiusUserRepo radiusUserRepo;
+    private final RadiusGroupRepo radiusGroupRepo;
+    private final RadCheckAttributeRepo checkAttributeRepo;
+    private final RadReplyAttributeRepo replyAttributeRepo;
+    private final BulkWriteRepo bulkWriteRepo;
+
+    private final RadiusBulkWriteRepo radiusBulkWriteRepo;
+    private final RadUserGroupRepo radUserGroupRepo;
+    private final RadCheckRepo radCheckRepo;
+    private final RadGroupCheckRepo radGroupCheckRepo;
+    private final RadReplyRepo radReplyRepo;
+    private final RadGroupReplyRepo radGroupReplyRepo;
+    private final AttributeCatalog attributeCatalog;
+
+    private final ConversionService conversionService;
+
+    @Autowired
+    public ProvisioningServiceConfiguration(RadiusUserRepo radiusUserRepo,
+                                            RadiusGroupRepo radiusGroupRepo,
+                                            RadCheckAttributeRepo checkAttributeRepo,
+                                            RadReplyAttributeRepo replyAttributeRepo,
+                                            BulkWriteRepo bulkWriteRepo,
+                                            RadiusBulkWriteRepo radiusBulkWriteRepo,
+                                            RadUserGroupRepo radUserGroupRepo,
+                                            RadCheckRepo radCheckRepo,
+                                            RadGroupCheckRepo radGroupCheckRepo,
+                                            RadReplyRepo radReplyRepo,
+                                            RadGroupReplyRepo radGroupReplyRepo,
+                                            AttributeCatalog attributeCatalog,
+                                            DefaultConversionService conversionService) {
+        this.radiusUserRepo = radiusUserRepo;
+        this.radiusGroupRepo = radiusGroupRepo;
+        this.checkAttributeRepo = checkAttributeRepo;
+        this.replyAttributeRepo = replyAttributeRepo;
+        this.bulkWriteRepo = bulkWriteRepo;
+        this.radiusBulkWriteRepo = radiusBulkWriteRepo;
+        this.radUserGroupRepo = radUserGroupRepo;
+        this.radCheckRepo = radCheckRepo;
+        this.radGroupCheckRepo = radGroupCheckRepo;
+        this.radReplyRepo = radReplyRepo;
+        this.radGroupReplyRepo = radGroupReplyRepo;
+        this.attributeCatalog = attributeCatalog;
+        this.conversionService = conversionService;
+    }
+
+    @Bean
+    ProvisioningService provisioningService() {
+        return new ProvisioningService(radiusUserRepo, radiusGroupRepo, checkAttributeRepo, replyAttributeRepo,
+                bulkWriteRepo, radiusBulkWriteRepo, radUserGroupRepo, radCheckRepo, radGroupCheckRepo, radReplyRepo,
+                radGroupReplyRepo, attributeCatalog, conversionService, provisioningExecutor());
+    }
+
+    @Bean
+    ThreadPoolTaskExecutor provisioningExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("provisioning-");
+        return executor;
+    }
+
+}
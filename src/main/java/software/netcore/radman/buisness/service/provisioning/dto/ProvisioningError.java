@@ -0,0 +1,18 @@
+package software.netcore.radman.buisness.service.provisioning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ProvisioningError {
+
+    private final long rowNumber;
+    private final String message;
+
+}
@@ -0,0 +1,17 @@
+package software.netcore.radman.buisness.service.provisioning.dto;
+
+/**
+ * @since v. 1.0.3
+ */
+public enum ProvisioningFormat {
+
+    /**
+     * Comma separated values with a header row naming the columns.
+     */
+    CSV,
+    /**
+     * Array of objects with the same keys as the CSV columns.
+     */
+    JSON
+
+}
@@ -0,0 +1,47 @@
+package software.netcore.radman.buisness.service.provisioning.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProvisioningRecordType {
+
+    /**
+     * RadMan user, requires "name".
+     */
+    USER("user"),
+    /**
+     * RadMan group, requires "name".
+     */
+    GROUP("group"),
+    /**
+     * Radius user to group assignment, requires "name" (username) and "group".
+     */
+    MEMBERSHIP("membership"),
+    /**
+     * Radius check attribute, requires "target", "name", "attribute", "op" and "value".
+     */
+    AUTHENTICATION("authentication"),
+    /**
+     * Radius reply attribute, requires "target", "name", "attribute", "op" and "value".
+     */
+    AUTHORIZATION("authorization");
+
+    private final String value;
+
+    public static ProvisioningRecordType fromValue(String value) {
+        for (ProvisioningRecordType type : values()) {
+            if (Objects.equals(type.value, value)) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("No such enum with value '" + value + "'!");
+    }
+
+}
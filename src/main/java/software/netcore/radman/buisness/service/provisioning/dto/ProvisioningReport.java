@@ -0,0 +1,42 @@
+package software.netcore.radman.buisness.service.provisioning.dto;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Only the first {@link #MAX_ERRORS} row errors are kept, so the report stays small regardless
+ * of the file size.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@ToString(exclude = "errors")
+public class ProvisioningReport {
+
+    public static final int MAX_ERRORS = 1000;
+
+    private long rows = 0;
+    private long provisioned = 0;
+    private long errored = 0;
+    private final List<ProvisioningError> errors = new ArrayList<>();
+
+    public void incrementRows() {
+        rows++;
+    }
+
+    public void addProvisioned(long count) {
+        provisioned += count;
+    }
+
+    public void addError(@NonNull ProvisioningError error) {
+        errored++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+}
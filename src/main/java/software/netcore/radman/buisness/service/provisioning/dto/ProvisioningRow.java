@@ -0,0 +1,26 @@
+package software.netcore.radman.buisness.service.provisioning.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Raw provisioning file row, values are validated when provisioned.
+ *
+ * @since v. 1.0.3
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class ProvisioningRow {
+
+    private long rowNumber;
+    private String type;
+    private String target;
+    private String name;
+    private String group;
+    private String attribute;
+    private String op;
+    private String value;
+
+}
@@ -0,0 +1,186 @@
+package software.netcore.radman.buisness.service.reconciliation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.netcore.radman.buisness.service.reconciliation.dto.NameDiff;
+import software.netcore.radman.buisness.service.reconciliation.dto.NameDiffType;
+import software.netcore.radman.buisness.service.reconciliation.dto.ReconciliationReport;
+import software.netcore.radman.buisness.service.reconciliation.dto.ReconciliationSubject;
+import software.netcore.radman.data.internal.repo.*;
+import software.netcore.radman.data.radius.repo.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Reconciles the users, groups and attributes kept in RadMan DB with the names actually used in Radius DB.
+ * Distinct names of every table are streamed in a common order and merge-joined, chosen fixes are applied
+ * in batches while the diff is computed. Orphaned names are only reported, a name unused in Radius DB may
+ * just have been created in RadMan and not assigned yet. Callers reconciling attributes invalidate
+ * the attribute catalog. Memory use is bounded by the batch and report sample sizes,
+ * regardless of row counts. Fixes are written while the read cursors are open, so both databases must
+ * provide non-blocking reads (MVCC), as MySQL InnoDB and PostgreSQL do.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReconciliationService {
+
+    private final RadiusUserRepo radiusUserRepo;
+    private final RadiusGroupRepo radiusGroupRepo;
+    private final RadCheckAttributeRepo checkAttributeRepo;
+    private final RadReplyAttributeRepo replyAttributeRepo;
+    private final BulkWriteRepo bulkWriteRepo;
+
+    private final RadCheckRepo radCheckRepo;
+    private final RadReplyRepo radReplyRepo;
+    private final RadGroupCheckRepo radGroupCheckRepo;
+    private final RadGroupReplyRepo radGroupReplyRepo;
+    private final RadUserGroupRepo radUserGroupRepo;
+
+    public ReconciliationReport diff(@NonNull ReconciliationSubject subject) {
+        return reconcile(subject, EnumSet.noneOf(NameDiffType.class));
+    }
+
+    /**
+     * @param fixes types of differences to fix, missing names are inserted and renamed ones renamed to their
+     *              Radius DB name, orphaned names cannot be fixed
+     */
+    public ReconciliationReport reconcile(@NonNull ReconciliationSubject subject, @NonNull Set<NameDiffType> fixes) {
+        if (fixes.contains(NameDiffType.ORPHANED)) {
+            throw new IllegalArgumentException("Orphaned names are only reported, they cannot be fixed");
+        }
+        ReconciliationReport report = new ReconciliationReport(subject);
+        FixBatch fixBatch = new FixBatch(subject, fixes, report);
+        List<Stream<String>> streams = new ArrayList<>();
+        try {
+            List<Iterator<String>> radiusNames = new ArrayList<>();
+            for (Supplier<Stream<String>> source : getRadiusSources(subject)) {
+                Stream<String> stream = source.get();
+                streams.add(stream);
+                radiusNames.add(stream.iterator());
+            }
+            Stream<String> radmanNames = getRadmanSource(subject).get();
+            streams.add(radmanNames);
+            long matched = SortedMergeJoin.diff(SortedMergeJoin.union(radiusNames), radmanNames.iterator(), diff -> {
+                report.addFound(diff);
+                fixBatch.add(diff);
+            });
+            report.addMatched(matched);
+            fixBatch.flush();
+        } finally {
+            streams.forEach(Stream::close);
+        }
+        log.info("Reconciliation finished: {}", report);
+        return report;
+    }
+
+    private List<Supplier<Stream<String>>> getRadiusSources(ReconciliationSubject subject) {
+        switch (subject) {
+            case USERS:
+                return Arrays.asList(() -> radCheckRepo.streamDistinctValues("username"),
+                        () -> radReplyRepo.streamDistinctValues("username"),
+                        () -> radUserGroupRepo.streamDistinctValues("username"));
+            case GROUPS:
+                return Arrays.asList(() -> radGroupCheckRepo.streamDistinctValues("groupName"),
+                        () -> radGroupReplyRepo.streamDistinctValues("groupName"),
+                        () -> radUserGroupRepo.streamDistinctValues("groupName"));
+            case AUTHENTICATION_ATTRIBUTES:
+                return Arrays.asList(() -> radCheckRepo.streamDistinctValues("attribute"),
+                        () -> radGroupCheckRepo.streamDistinctValues("attribute"));
+            case AUTHORIZATION_ATTRIBUTES:
+                return Arrays.asList(() -> radReplyRepo.streamDistinctValues("attribute"),
+                        () -> radGroupReplyRepo.streamDistinctValues("attribute"));
+            default:
+                throw new IllegalArgumentException("Unsupported reconciliation subject " + subject);
+        }
+    }
+
+    private Supplier<Stream<String>> getRadmanSource(ReconciliationSubject subject) {
+        switch (subject) {
+            case USERS:
+                return () -> radiusUserRepo.streamDistinctValues("username");
+            case GROUPS:
+                return () -> radiusGroupRepo.streamDistinctValues("name");
+            case AUTHENTICATION_ATTRIBUTES:
+                return () -> checkAttributeRepo.streamDistinctValues("name");
+            case AUTHORIZATION_ATTRIBUTES:
+                return () -> replyAttributeRepo.streamDistinctValues("name");
+            default:
+                throw new IllegalArgumentException("Unsupported reconciliation subject " + subject);
+        }
+    }
+
+    /**
+     * Collects the differences chosen to be fixed and writes them once a batch is full.
+     */
+    private class FixBatch {
+
+        private final Set<NameDiffType> fixes;
+        private final ReconciliationReport report;
+        private final ToIntFunction<Collection<String>> inserter;
+        private final ToIntFunction<Map<String, String>> renamer;
+
+        private final List<String> missing = new ArrayList<>();
+        private final Map<String, String> renamed = new LinkedHashMap<>();
+
+        FixBatch(ReconciliationSubject subject, Set<NameDiffType> fixes, ReconciliationReport report) {
+            this.fixes = fixes;
+            this.report = report;
+            switch (subject) {
+                case USERS:
+                    inserter = bulkWriteRepo::insertRadiusUsers;
+                    renamer = bulkWriteRepo::renameRadiusUsers;
+                    break;
+                case GROUPS:
+                    inserter = bulkWriteRepo::insertRadiusGroups;
+                    renamer = bulkWriteRepo::renameRadiusGroups;
+                    break;
+                case AUTHENTICATION_ATTRIBUTES:
+                    inserter = bulkWriteRepo::insertRadCheckAttributes;
+                    renamer = bulkWriteRepo::renameRadCheckAttributes;
+                    break;
+                case AUTHORIZATION_ATTRIBUTES:
+                    inserter = bulkWriteRepo::insertRadReplyAttributes;
+                    renamer = bulkWriteRepo::renameRadReplyAttributes;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported reconciliation subject " + subject);
+            }
+        }
+
+        void add(NameDiff diff) {
+            if (!fixes.contains(diff.getType())) {
+                return;
+            }
+            switch (diff.getType()) {
+                case MISSING:
+                    missing.add(diff.getRadiusName());
+                    break;
+                case RENAMED:
+                    renamed.put(diff.getRadmanName(), diff.getRadiusName());
+                    break;
+            }
+            if (missing.size() + renamed.size() >= BulkWriteRepo.BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!missing.isEmpty()) {
+                report.addFixed(NameDiffType.MISSING, inserter.applyAsInt(missing));
+                missing.clear();
+            }
+            if (!renamed.isEmpty()) {
+                report.addFixed(NameDiffType.RENAMED, renamer.applyAsInt(renamed));
+                renamed.clear();
+            }
+        }
+
+    }
+
+}
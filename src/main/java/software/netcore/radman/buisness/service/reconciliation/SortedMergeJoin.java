@@ -0,0 +1,184 @@
+package software.netcore.radman.buisness.service.reconciliation;
+
+import software.netcore.radman.buisness.service.reconciliation.dto.NameDiff;
+import software.netcore.radman.buisness.service.reconciliation.dto.NameDiffType;
+import software.netcore.radman.data.spec.BaseRepository;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Merge-joins of name sources ordered by {@link #ORDER}, the code point order of
+ * {@link BaseRepository#streamDistinctValues(String)}. Only the current head of every source is held
+ * in memory. Sources are verified to be ordered while read, a source in a different order (e.g. a database
+ * upper casing a character differently, or one ordering by its default collation) fails the join instead of
+ * producing a wrong diff.
+ *
+ * @since v. 1.0.3
+ */
+class SortedMergeJoin {
+
+    static final Comparator<String> ORDER = Comparator.comparing(SortedMergeJoin::toUpperCase,
+            SortedMergeJoin::compareCodePoints).thenComparing(SortedMergeJoin::compareCodePoints);
+
+    private SortedMergeJoin() {
+    }
+
+    /**
+     * @return ordered distinct union of the ordered sources
+     */
+    static Iterator<String> union(List<Iterator<String>> sources) {
+        PriorityQueue<OrderedSource> heads = new PriorityQueue<>((first, second) ->
+                ORDER.compare(first.peek(), second.peek()));
+        for (Iterator<String> source : sources) {
+            OrderedSource orderedSource = new OrderedSource(source);
+            if (orderedSource.hasNext()) {
+                heads.add(orderedSource);
+            }
+        }
+        return new Iterator<String>() {
+
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public String next() {
+                if (heads.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                String name = heads.peek().peek();
+                while (!heads.isEmpty() && ORDER.compare(heads.peek().peek(), name) == 0) {
+                    OrderedSource source = heads.poll();
+                    source.next();
+                    if (source.hasNext()) {
+                        heads.add(source);
+                    }
+                }
+                return name;
+            }
+
+        };
+    }
+
+    /**
+     * Passes every difference of the ordered Radius DB and RadMan DB names to the consumer, in order.
+     *
+     * @return number of names equal in both sources
+     */
+    static long diff(Iterator<String> radiusNames, Iterator<String> radmanNames, Consumer<NameDiff> consumer) {
+        OrderedSource radius = new OrderedSource(radiusNames);
+        OrderedSource radman = new OrderedSource(radmanNames);
+        long matched = 0;
+        while (radius.hasNext() || radman.hasNext()) {
+            if (!radman.hasNext()) {
+                consumer.accept(new NameDiff(NameDiffType.MISSING, radius.next(), null));
+            } else if (!radius.hasNext()) {
+                consumer.accept(new NameDiff(NameDiffType.ORPHANED, null, radman.next()));
+            } else {
+                String radiusName = radius.peek();
+                String radmanName = radman.peek();
+                int comparison = ORDER.compare(radiusName, radmanName);
+                if (comparison == 0) {
+                    radius.next();
+                    radman.next();
+                    matched++;
+                } else if (compareCodePoints(toUpperCase(radiusName), toUpperCase(radmanName)) == 0) {
+                    consumer.accept(new NameDiff(NameDiffType.RENAMED, radius.next(), radman.next()));
+                } else if (comparison < 0) {
+                    consumer.accept(new NameDiff(NameDiffType.MISSING, radius.next(), null));
+                } else {
+                    consumer.accept(new NameDiff(NameDiffType.ORPHANED, null, radman.next()));
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Upper case form by the simple (one to one) case mapping of every code point, the way databases
+     * upper case strings.
+     */
+    private static String toUpperCase(String name) {
+        return name.codePoints()
+                .map(Character::toUpperCase)
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+    }
+
+    /**
+     * Binary collation order, {@link String#compareTo(String)} compares UTF-16 code units instead, which
+     * differs for characters outside of the basic multilingual plane.
+     */
+    private static int compareCodePoints(String first, String second) {
+        int firstIndex = 0;
+        int secondIndex = 0;
+        while (firstIndex < first.length() && secondIndex < second.length()) {
+            int firstCodePoint = first.codePointAt(firstIndex);
+            int secondCodePoint = second.codePointAt(secondIndex);
+            if (firstCodePoint != secondCodePoint) {
+                return Integer.compare(firstCodePoint, secondCodePoint);
+            }
+            firstIndex += Character.charCount(firstCodePoint);
+            secondIndex += Character.charCount(secondCodePoint);
+        }
+        return Integer.compare(first.length() - firstIndex, second.length() - secondIndex);
+    }
+
+    /**
+     * Peekable source skipping duplicates and failing on names out of {@link #ORDER}.
+     */
+    private static class OrderedSource implements Iterator<String> {
+
+        private final Iterator<String> source;
+        private String head;
+        private String previous;
+
+        OrderedSource(Iterator<String> source) {
+            this.source = source;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return Objects.nonNull(head);
+        }
+
+        @Override
+        public String next() {
+            if (Objects.isNull(head)) {
+                throw new NoSuchElementException();
+            }
+            String name = head;
+            advance();
+            return name;
+        }
+
+        String peek() {
+            return head;
+        }
+
+        private void advance() {
+            previous = Objects.isNull(head) ? previous : head;
+            head = null;
+            while (Objects.isNull(head) && source.hasNext()) {
+                String name = source.next();
+                if (Objects.isNull(name)) {
+                    continue;
+                }
+                int comparison = Objects.isNull(previous) ? 1 : ORDER.compare(name, previous);
+                if (comparison < 0) {
+                    throw new IllegalStateException("Names are not in the expected order, \"" + name +
+                            "\" read after \"" + previous + "\", the database orders or upper cases names " +
+                            "differently");
+                }
+                if (comparison > 0) {
+                    head = name;
+                }
+            }
+        }
+
+    }
+
+}
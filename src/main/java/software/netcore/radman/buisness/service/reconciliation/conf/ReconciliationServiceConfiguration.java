@@ -0,0 +1,58 @@
+package software.netcore.radman.buisness.service.reconciliation.conf;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.netcore.radman.buisness.service.reconciliation.ReconciliationService;
+import software.netcore.radman.data.internal.repo.*;
+import software.netcore.radman.data.radius.repo.*;
+
+/**
+ * @since v. 1.0.3
+ */
+@Configuration
+public class ReconciliationServiceConfiguration {
+
+    private final RadiusUserRepo radiusUserRepo;
+    private final RadiusGroupRepo radiusGroupRepo;
+    private final RadCheckAttributeRepo checkAttributeRepo;
+    private final RadReplyAttributeRepo replyAttributeRepo;
+    private final BulkWriteRepo bulkWriteRepo;
+
+    private final RadCheckRepo radCheckRepo;
+    private final RadReplyRepo radReplyRepo;
+    private final RadGroupCheckRepo radGroupCheckRepo;
+    private final RadGroupReplyRepo radGroupReplyRepo;
+    private final RadUserGroupRepo radUserGroupRepo;
+
+    @Autowired
+    public ReconciliationServiceConfiguration(RadiusUserRepo radiusUserRepo,
+                                              RadiusGroupRepo radiusGroupRepo,
+                                              RadCheckAttributeRepo checkAttributeRepo,
+                                              RadReplyAttributeRepo replyAttributeRepo,
+                                              BulkWriteRepo bulkWriteRepo,
+                                              RadCheckRepo radCheckRepo,
+                                              RadReplyRepo radReplyRepo,
+                                              RadGroupCheckRepo radGroupCheckRepo,
+                                              RadGroupReplyRepo radGroupReplyRepo,
+                                              RadUserGroupRepo radUserGroupRepo) {
+        this.radiusUserRepo = radiusUserRepo;
+        this.radiusGroupRepo = radiusGroupRepo;
+        this.checkAttributeRepo = checkAttributeRepo;
+        this.replyAttributeRepo = replyAttributeRepo;
+        this.bulkWriteRepo = bulkWriteRepo;
+        this.radCheckRepo = radCheckRepo;
+        this.radReplyRepo = radReplyRepo;
+        this.radGroupCheckRepo = radGroupCheckRepo;
+        this.radGroupReplyRepo = radGroupReplyRepo;
+        this.radUserGroupRepo = radUserGroupRepo;
+    }
+
+    @Bean
+    ReconciliationService reconciliationService() {
+        return new ReconciliationService(radiusUserRepo, radiusGroupRepo, checkAttributeRepo, replyAttributeRepo,
+                bulkWriteRepo, radCheckRepo, radReplyRepo, radGroupCheckRepo, radGroupReplyRepo,
+                radUserGroupRepo);
+    }
+
+}
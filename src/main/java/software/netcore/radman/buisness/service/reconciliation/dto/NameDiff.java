@@ -0,0 +1,19 @@
+package software.netcore.radman.buisness.service.reconciliation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class NameDiff {
+
+    private final NameDiffType type;
+    private final String radiusName;
+    private final String radmanName;
+
+}
@@ -0,0 +1,22 @@
+package software.netcore.radman.buisness.service.reconciliation.dto;
+
+/**
+ * @since v. 1.0.3
+ */
+public enum NameDiffType {
+
+    /**
+     * Name used in Radius DB, unknown to RadMan DB.
+     */
+    MISSING,
+    /**
+     * Name kept in RadMan DB, not used in Radius DB. Report only, the name may have been created in RadMan
+     * and not be used yet.
+     */
+    ORPHANED,
+    /**
+     * Name known to both databases, but in a different letter case.
+     */
+    RENAMED
+
+}
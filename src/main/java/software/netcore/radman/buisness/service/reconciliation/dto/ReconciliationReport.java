@@ -0,0 +1,55 @@
+package software.netcore.radman.buisness.service.reconciliation.dto;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts of matched names and of found and fixed differences. Only the first {@link #SAMPLE_SIZE} differences are kept,
+ * so the report stays small regardless of the number of differences.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@ToString(exclude = "samples")
+@RequiredArgsConstructor
+public class ReconciliationReport {
+
+    public static final int SAMPLE_SIZE = 100;
+
+    private final ReconciliationSubject subject;
+    private long matched = 0;
+    private final Map<NameDiffType, Long> found = new EnumMap<>(NameDiffType.class);
+    private final Map<NameDiffType, Long> fixed = new EnumMap<>(NameDiffType.class);
+    private final List<NameDiff> samples = new ArrayList<>();
+
+    public long getFound(@NonNull NameDiffType type) {
+        return found.getOrDefault(type, 0L);
+    }
+
+    public long getFixed(@NonNull NameDiffType type) {
+        return fixed.getOrDefault(type, 0L);
+    }
+
+    public void addMatched(long count) {
+        matched += count;
+    }
+
+    public void addFound(@NonNull NameDiff diff) {
+        found.merge(diff.getType(), 1L, Long::sum);
+        if (samples.size() < SAMPLE_SIZE) {
+            samples.add(diff);
+        }
+    }
+
+    public void addFixed(@NonNull NameDiffType type, long count) {
+        fixed.merge(type, count, Long::sum);
+    }
+
+}
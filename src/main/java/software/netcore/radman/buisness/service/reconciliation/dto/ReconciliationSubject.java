@@ -0,0 +1,13 @@
+package software.netcore.radman.buisness.service.reconciliation.dto;
+
+/**
+ * @since v. 1.0.3
+ */
+public enum ReconciliationSubject {
+
+    USERS,
+    GROUPS,
+    AUTHENTICATION_ATTRIBUTES,
+    AUTHORIZATION_ATTRIBUTES
+
+}
@@ -6,28 +6,30 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import software.netcore.radman.buisness.exception.DuplicityException;
 import software.netcore.radman.buisness.service.dto.LoadingResult;
+import software.netcore.radman.buisness.service.loading.NameLoader;
 import software.netcore.radman.buisness.service.user.radius.dto.*;
 import software.netcore.radman.data.internal.entity.QRadiusGroup;
 import software.netcore.radman.data.internal.entity.QRadiusUser;
 import software.netcore.radman.data.internal.entity.RadiusGroup;
 import software.netcore.radman.data.internal.entity.RadiusUser;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
 import software.netcore.radman.data.internal.repo.RadiusGroupRepo;
 import software.netcore.radman.data.internal.repo.RadiusUserRepo;
 import software.netcore.radman.data.radius.entity.QRadUserGroup;
 import software.netcore.radman.data.radius.entity.RadUserGroup;
 import software.netcore.radman.data.radius.repo.*;
+import software.netcore.radman.data.spec.ReplicaRead;
 import software.netcore.radman.ui.support.Filter;
 
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * @since v. 1.0.0
@@ -37,6 +39,7 @@ public class RadiusUserService {
 
     private final RadiusUserRepo radiusUserRepo;
     private final RadiusGroupRepo radiusGroupRepo;
+    private final BulkWriteRepo bulkWriteRepo;
     private final RadUserGroupRepo radUserGroupRepo;
 
     private final RadCheckRepo radCheckRepo;
@@ -71,29 +74,10 @@ public class RadiusUserService {
     }
 
     public LoadingResult loadRadiusUsersFromRadiusDB() {
-        Set<String> radCheckUsernames = radCheckRepo.getUsernames();
-        Set<String> radReplyUsernames = radReplyRepo.getUsernames();
-
         Set<String> usernames = new HashSet<>();
-        usernames.addAll(radCheckUsernames);
-        usernames.addAll(radReplyUsernames);
-
-        LoadingResult result = new LoadingResult();
-        usernames.forEach(username -> {
-            try {
-                if (!radiusUserRepo.exists(QRadiusUser.radiusUser.username.like(username))) {
-                    RadiusUser radiusUser = new RadiusUser();
-                    radiusUser.setUsername(username);
-                    radiusUserRepo.save(radiusUser);
-                    result.incrementLoaded();
-                } else {
-                    result.incrementDuplicate();
-                }
-            } catch (Exception ignored) {
-                result.incrementErrored();
-            }
-        });
-        return result;
+        usernames.addAll(radCheckRepo.getUsernames());
+        usernames.addAll(radReplyRepo.getUsernames());
+        return NameLoader.insertMissing(usernames, radiusUserRepo.getUsernames(), bulkWriteRepo::insertRadiusUsers);
     }
 
     public long countRadiusUsers(@NonNull RadiusUserFilter filter) {
@@ -102,11 +86,8 @@ public class RadiusUserService {
 
     public Page<RadiusUserDto> pageRadiusUsers(@NonNull RadiusUserFilter filter,
                                                @NonNull Pageable pageable) {
-        Page<RadiusUser> page = radiusUserRepo.findAll(buildRadiusUserSearchPredicate(filter), pageable);
-        List<RadiusUserDto> userDtos = page.stream()
-                .map(user -> conversionService.convert(user, RadiusUserDto.class))
-                .collect(Collectors.toList());
-        return new PageImpl<>(userDtos, pageable, userDtos.size());
+        return radiusUserRepo.findAll(buildRadiusUserSearchPredicate(filter), pageable)
+                .map(user -> conversionService.convert(user, RadiusUserDto.class));
     }
 
     public RadiusGroupDto createRadiusUsersGroup(@NonNull RadiusGroupDto radiusGroupDto) {
@@ -133,29 +114,10 @@ public class RadiusUserService {
     }
 
     public LoadingResult loadRadiusGroupsFromRadiusDB() {
-        Set<String> radCheckGroupNames = radGroupCheckRepo.getGroupNames();
-        Set<String> radReplyGroupName = radGroupReplyRepo.getGroupNames();
-
         Set<String> groupNames = new HashSet<>();
-        groupNames.addAll(radCheckGroupNames);
-        groupNames.addAll(radReplyGroupName);
-
-        LoadingResult result = new LoadingResult();
-        groupNames.forEach(name -> {
-            try {
-                if (!radiusGroupRepo.exists(QRadiusGroup.radiusGroup.name.like(name))) {
-                    RadiusGroup radiusGroup = new RadiusGroup();
-                    radiusGroup.setName(name);
-                    radiusGroupRepo.save(radiusGroup);
-                    result.incrementLoaded();
-                } else {
-                    result.incrementDuplicate();
-                }
-            } catch (Exception ex) {
-                result.incrementErrored();
-            }
-        });
-        return result;
+        groupNames.addAll(radGroupCheckRepo.getGroupNames());
+        groupNames.addAll(radGroupReplyRepo.getGroupNames());
+        return NameLoader.insertMissing(groupNames, radiusGroupRepo.getNames(), bulkWriteRepo::insertRadiusGroups);
     }
 
     public long countRadiusUsersGroup(@NonNull RadiusGroupFilter filter) {
@@ -164,13 +126,11 @@ public class RadiusUserService {
 
     public Page<RadiusGroupDto> pageRadiusUsersGroup(@NonNull RadiusGroupFilter filter,
                                                      @NonNull Pageable pageable) {
-        Page<RadiusGroup> page = radiusGroupRepo.findAll(buildRadiusGroupSearchPredicate(filter), pageable);
-        List<RadiusGroupDto> userDtos = page.stream()
-                .map(user -> conversionService.convert(user, RadiusGroupDto.class))
-                .collect(Collectors.toList());
-        return new PageImpl<>(userDtos, pageable, userDtos.size());
+        return radiusGroupRepo.findAll(buildRadiusGroupSearchPredicate(filter), pageable)
+                .map(user -> conversionService.convert(user, RadiusGroupDto.class));
     }
 
+    @Transactional(transactionManager = "txRadius")
     public RadiusUserToGroupDto addRadiusUserToGroup(@NonNull RadiusUserToGroupDto radiusUserToGroupDto)
             throws DuplicityException {
         RadUserGroup radUserGroup = conversionService.convert(radiusUserToGroupDto, RadUserGroup.class);
@@ -186,22 +146,45 @@ public class RadiusUserService {
         radUserGroupRepo.deleteById(radiusUserToGroupDto.getId());
     }
 
+    @ReplicaRead
     public long countRadiusUserToGroupRecords(@NonNull Filter filter) {
         return radUserGroupRepo.count(buildRadiusUserToGroupSearchPredicate(filter));
     }
 
+    @ReplicaRead
     public Page<RadiusUserToGroupDto> pageRadiusUserToGroupRecords(@NonNull Filter filter,
                                                                    @NonNull Pageable pageable) {
         Page<RadUserGroup> page = radUserGroupRepo.findAll(buildRadiusUserToGroupSearchPredicate(filter), pageable);
-        List<RadiusUserToGroupDto> userToGroupDtos = page.stream()
-                .map(dtos -> {
-                    RadiusUserToGroupDto dto = conversionService.convert(dtos, RadiusUserToGroupDto.class);
-                    dto.setUserInRadman(radiusUserRepo.exists(QRadiusUser.radiusUser.username.like(dto.getUsername())));
-                    dto.setGroupInRadman(radiusGroupRepo.exists(QRadiusGroup.radiusGroup.name.like(dto.getGroupName())));
-                    return dto;
-                })
-                .collect(Collectors.toList());
-        return new PageImpl<>(userToGroupDtos, pageable, userToGroupDtos.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> groupNames = new HashSet<>();
+        for (RadUserGroup radUserGroup : page) {
+            if (Objects.nonNull(radUserGroup.getUsername())) {
+                usernames.add(NameLoader.normalizeName(radUserGroup.getUsername()));
+            }
+            if (Objects.nonNull(radUserGroup.getGroupName())) {
+                groupNames.add(NameLoader.normalizeName(radUserGroup.getGroupName()));
+            }
+        }
+        // one IN lookup per page instead of two exists queries per row, the lookups match names differing
+        // in letter case only, so found names are compared normalized
+        Set<String> usernamesInRadman = usernames.isEmpty()
+                ? Collections.emptySet() : normalizeNames(radiusUserRepo.findExistingUsernames(usernames));
+        Set<String> groupNamesInRadman = groupNames.isEmpty()
+                ? Collections.emptySet() : normalizeNames(radiusGroupRepo.findExistingNames(groupNames));
+        return page.map(radUserGroup -> {
+            RadiusUserToGroupDto dto = conversionService.convert(radUserGroup, RadiusUserToGroupDto.class);
+            dto.setUserInRadman(Objects.nonNull(dto.getUsername())
+                    && usernamesInRadman.contains(NameLoader.normalizeName(dto.getUsername())));
+            dto.setGroupInRadman(Objects.nonNull(dto.getGroupName())
+                    && groupNamesInRadman.contains(NameLoader.normalizeName(dto.getGroupName())));
+            return dto;
+        });
+    }
+
+    private Set<String> normalizeNames(Set<String> names) {
+        Set<String> normalized = new HashSet<>(names.size());
+        names.forEach(name -> normalized.add(NameLoader.normalizeName(name)));
+        return normalized;
     }
 
     private Predicate buildRadiusUserSearchPredicate(RadiusUserFilter filter) {
@@ -7,6 +7,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import software.netcore.radman.buisness.service.user.radius.RadiusUserService;
 import software.netcore.radman.buisness.service.user.radius.converter.*;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
 import software.netcore.radman.data.internal.repo.RadiusGroupRepo;
 import software.netcore.radman.data.internal.repo.RadiusUserRepo;
 import software.netcore.radman.data.radius.repo.*;
@@ -19,6 +20,7 @@ public class RadiusUserServiceConfiguration {
 
     private final RadiusUserRepo radiusUserRepo;
     private final RadiusGroupRepo radiusGroupRepo;
+    private final BulkWriteRepo bulkWriteRepo;
     private final RadUserGroupRepo radUserGroupRepo;
 
     private final RadCheckRepo radCheckRepo;
@@ -31,6 +33,7 @@ public class RadiusUserServiceConfiguration {
     @Autowired
     public RadiusUserServiceConfiguration(RadiusUserRepo radiusUserRepo,
                                           RadiusGroupRepo radiusGroupRepo,
+                                          BulkWriteRepo bulkWriteRepo,
                                           RadUserGroupRepo radUserGroupRepo,
                                           RadCheckRepo radCheckRepo,
                                           RadReplyRepo radReplyRepo,
@@ -39,6 +42,7 @@ public class RadiusUserServiceConfiguration {
                                           DefaultConversionService conversionService) {
         this.radiusUserRepo = radiusUserRepo;
         this.radiusGroupRepo = radiusGroupRepo;
+        this.bulkWriteRepo = bulkWriteRepo;
         this.radUserGroupRepo = radUserGroupRepo;
         this.radCheckRepo = radCheckRepo;
         this.radReplyRepo = radReplyRepo;
@@ -56,7 +60,7 @@ public class RadiusUserServiceConfiguration {
 
     @Bean
     RadiusUserService radiusUserService() {
-        return new RadiusUserService(radiusUserRepo, radiusGroupRepo, radUserGroupRepo, radCheckRepo,
+        return new RadiusUserService(radiusUserRepo, radiusGroupRepo, bulkWriteRepo, radUserGroupRepo, radCheckRepo,
                 radReplyRepo, radGroupCheckRepo, radGroupReplyRepo, conversionService);
     }
 
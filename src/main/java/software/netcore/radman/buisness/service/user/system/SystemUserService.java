@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.util.StringUtils;
@@ -18,8 +17,6 @@ import software.netcore.radman.data.internal.entity.SystemUser;
 import software.netcore.radman.data.internal.repo.SystemUserRepo;
 
 import javax.annotation.Nullable;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @since v. 1.0.0
@@ -57,11 +54,8 @@ public class SystemUserService {
     }
 
     public Page<SystemUserDto> pageSystemUsers(@Nullable String searchText, @NonNull Pageable pageable) {
-        Page<SystemUser> page = systemUserRepo.findAll(buildSystemUserSearchPredicate(searchText), pageable);
-        List<SystemUserDto> userDtos = page.stream()
-                .map(user -> conversionService.convert(user, SystemUserDto.class))
-                .collect(Collectors.toList());
-        return new PageImpl<>(userDtos, pageable, userDtos.size());
+        return systemUserRepo.findAll(buildSystemUserSearchPredicate(searchText), pageable)
+                .map(user -> conversionService.convert(user, SystemUserDto.class));
     }
 
     private Predicate buildSystemUserSearchPredicate(@Nullable String searchText) {
@@ -0,0 +1,25 @@
+package software.netcore.radman.data.conf;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CountProperties {
+
+    /**
+     * Whether unfiltered counts of large tables are taken from the database statistics instead of COUNT(*).
+     */
+    private boolean estimated = false;
+
+    /**
+     * Estimated row count from which the estimate is used as is. Smaller tables are always counted exactly.
+     */
+    private long estimationThreshold = 1_000_000;
+
+}
@@ -18,6 +18,11 @@ public class JpaProperties {
 
     private String showSql;
 
+    /**
+     * Query timeout in milliseconds, statements running longer are cancelled by the JDBC driver
+     */
+    private Integer queryTimeout;
+
     @Valid
     private Hibernate hibernate = new Hibernate();
 
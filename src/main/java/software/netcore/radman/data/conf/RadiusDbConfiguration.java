@@ -1,14 +1,25 @@
 package software.netcore.radman.data.conf;
 
-import org.apache.tomcat.jdbc.pool.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
+import software.netcore.radman.data.radius.repo.RadiusBulkWriteRepo;
+import software.netcore.radman.data.spec.BaseJpaRepository;
+import software.netcore.radman.data.spec.RecordCounter;
+import software.netcore.radman.data.spec.ReplicaRead;
+import software.netcore.radman.data.spec.ReplicaReadAspect;
+import software.netcore.radman.data.spec.ReplicaRoutingDataSource;
+import software.netcore.radman.data.spec.TimedDataSource;
 
 import static software.netcore.radman.data.conf.Utils.buildEntityManager;
 
@@ -20,12 +31,21 @@ import static software.netcore.radman.data.conf.Utils.buildEntityManager;
 @EnableJpaRepositories(
         basePackages = {"software.netcore.radman.data.radius.repo"},
         entityManagerFactoryRef = "radiusEntityManager",
-        transactionManagerRef = "txRadius")
+        transactionManagerRef = "txRadius",
+        repositoryBaseClass = BaseJpaRepository.class)
 @EnableConfigurationProperties
 public class RadiusDbConfiguration {
 
     private static final String RADIUS_ENTITIES_PACKAGE = "software.netcore.radman.data.radius.entity";
 
+    private final ObjectProvider<TimedDataSource> radiusReplicaDataSource;
+
+    @Autowired
+    public RadiusDbConfiguration(@Qualifier("radiusReplicaDataSource")
+                                 ObjectProvider<TimedDataSource> radiusReplicaDataSource) {
+        this.radiusReplicaDataSource = radiusReplicaDataSource;
+    }
+
     @Bean
     @ConfigurationProperties("database.radius.jpa")
     JpaProperties radiusJpaProperties() {
@@ -34,14 +54,54 @@ public class RadiusDbConfiguration {
 
     @Bean
     @ConfigurationProperties("database.radius.datasource")
-    DataSource radiusDataSource() {
-        return new DataSource();
+    TimedDataSource radiusDataSource() {
+        return new TimedDataSource();
+    }
+
+    @Bean
+    @ConfigurationProperties("database.radius.replica")
+    ReplicaProperties radiusReplicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty("database.radius.replica.enabled")
+    @ConfigurationProperties("database.radius.replica.datasource")
+    TimedDataSource radiusReplicaDataSource() {
+        return new TimedDataSource();
+    }
+
+    /**
+     * Read-only transactions of {@link ReplicaRead} methods are routed to the replica, if enabled. Writes
+     * bypassing JPA (bulk writes) use the primary directly.
+     */
+    @Bean
+    ReplicaRoutingDataSource radiusRoutingDataSource() {
+        return new ReplicaRoutingDataSource(radiusDataSource(), radiusReplicaDataSource.getIfAvailable(),
+                radiusReplicaProperties());
+    }
+
+    @Bean
+    ReplicaReadAspect replicaReadAspect() {
+        return new ReplicaReadAspect();
+    }
+
+    @Bean
+    @ConfigurationProperties("database.radius.count")
+    CountProperties radiusCountProperties() {
+        return new CountProperties();
+    }
+
+    @Bean
+    RecordCounter radiusRecordCounter() {
+        return new RecordCounter(radiusCountProperties());
     }
 
     @Bean
     LocalContainerEntityManagerFactoryBean radiusEntityManager() {
-        return buildEntityManager(radiusDataSource(), radiusJpaProperties(),
-                RADIUS_ENTITIES_PACKAGE, "radius");
+        // connections are requested once the transaction is read-only flagged, so they can be routed
+        return buildEntityManager(new LazyConnectionDataSourceProxy(radiusRoutingDataSource()),
+                radiusJpaProperties(), RADIUS_ENTITIES_PACKAGE, "radius");
     }
 
     @Bean(name = "txRadius")
@@ -51,4 +111,9 @@ public class RadiusDbConfiguration {
         return transactionManager;
     }
 
+    @Bean
+    RadiusBulkWriteRepo radiusBulkWriteRepo() {
+        return new RadiusBulkWriteRepo(radiusDataSource());
+    }
+
 }
@@ -1,7 +1,6 @@
 package software.netcore.radman.data.conf;
 
 import liquibase.integration.spring.SpringLiquibase;
-import org.apache.tomcat.jdbc.pool.DataSource;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -12,6 +11,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
+import software.netcore.radman.data.internal.repo.BulkWriteRepo;
+import software.netcore.radman.data.spec.BaseJpaRepository;
+import software.netcore.radman.data.spec.RecordCounter;
+import software.netcore.radman.data.spec.TimedDataSource;
 
 import static software.netcore.radman.data.conf.Utils.buildEntityManager;
 import static software.netcore.radman.data.conf.Utils.buildLiquibase;
@@ -23,7 +26,8 @@ import static software.netcore.radman.data.conf.Utils.buildLiquibase;
 @EnableJpaRepositories(
         basePackages = {"software.netcore.radman.data.internal.repo"},
         entityManagerFactoryRef = "radmanEntityManager",
-        transactionManagerRef = "txRadman")
+        transactionManagerRef = "txRadman",
+        repositoryBaseClass = BaseJpaRepository.class)
 @EnableConfigurationProperties
 public class RadmanDbConfiguration {
 
@@ -38,8 +42,8 @@ public class RadmanDbConfiguration {
     @Bean
     @Primary
     @ConfigurationProperties("database.radman.datasource")
-    DataSource radmanDataSource() {
-        return new DataSource();
+    TimedDataSource radmanDataSource() {
+        return new TimedDataSource();
     }
 
     @Bean
@@ -57,6 +61,22 @@ public class RadmanDbConfiguration {
         return transactionManager;
     }
 
+    @Bean
+    @ConfigurationProperties("database.radman.count")
+    CountProperties radmanCountProperties() {
+        return new CountProperties();
+    }
+
+    @Bean
+    RecordCounter radmanRecordCounter() {
+        return new RecordCounter(radmanCountProperties());
+    }
+
+    @Bean
+    BulkWriteRepo bulkWriteRepo() {
+        return new BulkWriteRepo(radmanDataSource());
+    }
+
     @Bean
     @ConfigurationProperties(prefix = "database.radman.liquibase")
     LiquibaseProperties liquibaseProperties() {
@@ -0,0 +1,31 @@
+package software.netcore.radman.data.conf;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReplicaProperties {
+
+    /**
+     * Whether read-only transactions are served by the replica.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Replication lag (in seconds) from which the replica is not used.
+     */
+    private long maxLagSeconds = 30;
+
+    /**
+     * Query returning the replication lag in seconds, in its first column or in the "Seconds_Behind_Master"
+     * column (MySQL "SHOW SLAVE STATUS"). Without it the replica is used whenever it is reachable.
+     */
+    private String lagQuery;
+
+}
@@ -1,12 +1,13 @@
 package software.netcore.radman.data.conf;
 
 import liquibase.integration.spring.SpringLiquibase;
-import org.apache.tomcat.jdbc.pool.DataSource;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 
+import javax.sql.DataSource;
 import java.util.HashMap;
+import java.util.Objects;
 
 /**
  * @since v. 1.0.0
@@ -27,6 +28,9 @@ class Utils {
         properties.put("hibernate.hbm2ddl.auto", jpaProperties.getHibernate().getDdlAuto());
         properties.put("hibernate.dialect", jpaProperties.getHibernate().getDialect());
         properties.put("show-sql", jpaProperties.getShowSql());
+        if (Objects.nonNull(jpaProperties.getQueryTimeout())) {
+            properties.put("javax.persistence.query.timeout", jpaProperties.getQueryTimeout());
+        }
 
         entityManager.setJpaPropertyMap(properties);
         return entityManager;
@@ -0,0 +1,64 @@
+package software.netcore.radman.data.internal.entity;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Usage totals of one user or NAS for sessions started within one day.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Table(name = "accounting_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_accounting_rollup_subject_day",
+                columnNames = {"subject_type", "subject", "rollup_day"}))
+public class AccountingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject_type", length = 32, nullable = false)
+    private RollupSubject subjectType;
+
+    @Column(length = 64, nullable = false)
+    private String subject;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate rollupDay;
+
+    /**
+     * Monday of the rollup day's week.
+     */
+    @Column(name = "rollup_week", nullable = false)
+    private LocalDate rollupWeek;
+
+    /**
+     * First day of the rollup day's month.
+     */
+    @Column(name = "rollup_month", nullable = false)
+    private LocalDate rollupMonth;
+
+    @Column(name = "session_count", nullable = false)
+    private long sessionCount;
+
+    @Column(name = "session_time", nullable = false)
+    private long sessionTime;
+
+    @Column(name = "input_octets", nullable = false)
+    private long inputOctets;
+
+    @Column(name = "output_octets", nullable = false)
+    private long outputOctets;
+
+}
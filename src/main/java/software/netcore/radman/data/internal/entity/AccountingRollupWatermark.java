@@ -0,0 +1,33 @@
+package software.netcore.radman.data.internal.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.util.Date;
+
+/**
+ * Position in the "radacct" table up to which the accounting rollups are up to date.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@Table(name = "accounting_rollup_watermark")
+public class AccountingRollupWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "last_radacct_id", nullable = false)
+    private long lastRadAcctId;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "last_acct_update_time")
+    private Date lastAcctUpdateTime;
+
+}
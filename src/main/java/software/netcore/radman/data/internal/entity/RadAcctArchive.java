@@ -0,0 +1,122 @@
+package software.netcore.radman.data.internal.entity;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.util.Date;
+
+/**
+ * Closed accounting session moved out of the "radacct" table. Keeps the id and the property names of the
+ * "radacct" entity, so the accounting search predicates apply to both.
+ *
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@EqualsAndHashCode(of = "radAcctId")
+@Table(name = "radacct_archive")
+public class RadAcctArchive implements Persistable<Long> {
+
+    @Id
+    @Column(name = "radacctid")
+    private Long radAcctId;
+
+    @Column(name = "acctsessionid", length = 64, nullable = false)
+    private String acctSessionId;
+
+    @Column(name = "acctuniqueid", length = 32, nullable = false)
+    private String acctUniqueId;
+
+    @Column(length = 64, nullable = false)
+    private String username;
+
+    @Column(name = "realm", length = 64)
+    private String realm;
+
+    @Column(name = "nasipaddress", length = 15, nullable = false)
+    private String nasIpAddress;
+
+    @Column(name = "nasportid", length = 15)
+    private String nasPortId;
+
+    @Column(name = "nasporttype", length = 32)
+    private String nasPortType;
+
+    @Column(name = "acctstarttime")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date acctStartTime;
+
+    @Column(name = "acctupdatetime")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date acctUpdateTime;
+
+    @Column(name = "acctstoptime")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date acctStopTime;
+
+    @Column(name = "acctinterval")
+    private Integer acctInterval;
+
+    @Column(name = "acctsessiontime")
+    private Integer acctSessionTime;
+
+    @Column(name = "acctauthentic", length = 32)
+    private String acctAuthentic;
+
+    @Column(name = "connectinfo_start", length = 50)
+    private String connectInfoStart;
+
+    @Column(name = "connectinfo_stop", length = 50)
+    private String connectInfoStop;
+
+    @Column(name = "acctinputoctets")
+    private Long acctInputOctets;
+
+    @Column(name = "acctoutputoctets")
+    private Long acctOutputOctets;
+
+    @Column(name = "calledstationid", length = 50, nullable = false)
+    private String calledStationId;
+
+    @Column(name = "callingstationid", length = 50, nullable = false)
+    private String callingStationId;
+
+    @Column(name = "acctterminatecause", length = 32, nullable = false)
+    private String acctTerminateCause;
+
+    @Column(name = "servicetype", length = 32)
+    private String serviceType;
+
+    @Column(name = "framedprotocol", length = 32)
+    private String framedProtocol;
+
+    @Column(name = "framedipaddress", length = 15, nullable = false)
+    private String framedIpAddress;
+
+    // assigned id, saving a new archive record must not cost a select
+    @Transient
+    private boolean newRecord = true;
+
+    @Override
+    public Long getId() {
+        return radAcctId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newRecord = false;
+    }
+
+}
@@ -0,0 +1,11 @@
+package software.netcore.radman.data.internal.entity;
+
+/**
+ * @since v. 1.0.3
+ */
+public enum RollupSubject {
+
+    USER,
+    NAS
+
+}
@@ -0,0 +1,101 @@
+package software.netcore.radman.data.internal.repo;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import software.netcore.radman.data.internal.entity.AccountingRollup;
+import software.netcore.radman.data.internal.entity.RollupSubject;
+import software.netcore.radman.data.internal.spec.RadmanRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Usage of a period is summed by the database, grouped by subject and the day, week or month column. Pages
+ * are ordered by the pageable's sort, which must consist of {@code JpaSort.unsafe} orders over the grouped
+ * columns and sums (e.g. "SUM(r.sessionCount)") of the rollup alias "r", never of sort keys coming from the UI.
+ * Subjects are matched by a LIKE pattern escaped by '!'.
+ *
+ * @since v. 1.0.3
+ */
+public interface AccountingRollupRepo extends RadmanRepository<AccountingRollup> {
+
+    interface UsageTotals {
+
+        String getSubject();
+
+        LocalDate getPeriodStart();
+
+        Long getSessionCount();
+
+        Long getSessionTime();
+
+        Long getInputOctets();
+
+        Long getOutputOctets();
+
+    }
+
+    @Modifying
+    @Query("DELETE FROM AccountingRollup r WHERE r.rollupDay = ?1")
+    void deleteAllByRollupDay(LocalDate rollupDay);
+
+    @Query("SELECT r.subject AS subject, r.rollupDay AS periodStart, SUM(r.sessionCount) AS sessionCount, " +
+            "SUM(r.sessionTime) AS sessionTime, SUM(r.inputOctets) AS inputOctets, " +
+            "SUM(r.outputOctets) AS outputOctets FROM AccountingRollup r WHERE r.subjectType = :subjectType " +
+            "AND r.rollupDay >= :from AND r.rollupDay <= :to AND r.subject LIKE :subjectPattern ESCAPE '!' " +
+            "GROUP BY r.subject, r.rollupDay")
+    List<UsageTotals> sumDailyUsage(@Param("subjectType") RollupSubject subjectType,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("subjectPattern") String subjectPattern,
+                                    Pageable pageable);
+
+    @Query("SELECT r.subject AS subject, r.rollupWeek AS periodStart, SUM(r.sessionCount) AS sessionCount, " +
+            "SUM(r.sessionTime) AS sessionTime, SUM(r.inputOctets) AS inputOctets, " +
+            "SUM(r.outputOctets) AS outputOctets FROM AccountingRollup r WHERE r.subjectType = :subjectType " +
+            "AND r.rollupDay >= :from AND r.rollupDay <= :to AND r.subject LIKE :subjectPattern ESCAPE '!' " +
+            "GROUP BY r.subject, r.rollupWeek")
+    List<UsageTotals> sumWeeklyUsage(@Param("subjectType") RollupSubject subjectType,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("subjectPattern") String subjectPattern,
+                                     Pageable pageable);
+
+    @Query("SELECT r.subject AS subject, r.rollupMonth AS periodStart, SUM(r.sessionCount) AS sessionCount, " +
+            "SUM(r.sessionTime) AS sessionTime, SUM(r.inputOctets) AS inputOctets, " +
+            "SUM(r.outputOctets) AS outputOctets FROM AccountingRollup r WHERE r.subjectType = :subjectType " +
+            "AND r.rollupDay >= :from AND r.rollupDay <= :to AND r.subject LIKE :subjectPattern ESCAPE '!' " +
+            "GROUP BY r.subject, r.rollupMonth")
+    List<UsageTotals> sumMonthlyUsage(@Param("subjectType") RollupSubject subjectType,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      @Param("subjectPattern") String subjectPattern,
+                                      Pageable pageable);
+
+    /**
+     * The subject type is bound by its name, as stored by the entity mapping.
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 AS g FROM accounting_rollup " +
+            "WHERE subject_type = :#{#subjectType.name()} " +
+            "AND rollup_day >= :from AND rollup_day <= :to AND subject LIKE :subjectPattern ESCAPE '!' " +
+            "GROUP BY subject, rollup_week) w", nativeQuery = true)
+    long countWeeklyUsage(@Param("subjectType") RollupSubject subjectType,
+                          @Param("from") LocalDate from,
+                          @Param("to") LocalDate to,
+                          @Param("subjectPattern") String subjectPattern);
+
+    /**
+     * The subject type is bound by its name, as stored by the entity mapping.
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 AS g FROM accounting_rollup " +
+            "WHERE subject_type = :#{#subjectType.name()} " +
+            "AND rollup_day >= :from AND rollup_day <= :to AND subject LIKE :subjectPattern ESCAPE '!' " +
+            "GROUP BY subject, rollup_month) m", nativeQuery = true)
+    long countMonthlyUsage(@Param("subjectType") RollupSubject subjectType,
+                           @Param("from") LocalDate from,
+                           @Param("to") LocalDate to,
+                           @Param("subjectPattern") String subjectPattern);
+
+}
@@ -0,0 +1,15 @@
+package software.netcore.radman.data.internal.repo;
+
+import software.netcore.radman.data.internal.entity.AccountingRollupWatermark;
+import software.netcore.radman.data.internal.spec.RadmanRepository;
+
+import java.util.Optional;
+
+/**
+ * @since v. 1.0.3
+ */
+public interface AccountingRollupWatermarkRepo extends RadmanRepository<AccountingRollupWatermark> {
+
+    Optional<AccountingRollupWatermark> findFirstByOrderByIdAsc();
+
+}
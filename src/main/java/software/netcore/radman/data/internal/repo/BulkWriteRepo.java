@@ -0,0 +1,146 @@
+package software.netcore.radman.data.internal.repo;
+
+import lombok.NonNull;
+import software.netcore.radman.data.spec.BaseBatchRepository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batched writes of name-only RadMan records. Rejected rows are skipped unless an error handler
+ * is given.
+ *
+ * @since v. 1.0.3
+ */
+public class BulkWriteRepo extends BaseBatchRepository {
+
+    public BulkWriteRepo(@NonNull DataSource dataSource) {
+        super(dataSource);
+    }
+
+    /**
+     * @return number of inserted users
+     */
+    public int insertRadiusUsers(@NonNull Collection<String> usernames) {
+        return insert("INSERT INTO radius_user (username) VALUES (?)", usernames);
+    }
+
+    /**
+     * @return number of inserted users
+     */
+    public int insertRadiusUsers(@NonNull Collection<String> usernames, @NonNull RowErrorHandler errorHandler) {
+        return write("INSERT INTO radius_user (username) VALUES (?)", toArgs(usernames), errorHandler);
+    }
+
+    /**
+     * @return number of inserted groups
+     */
+    public int insertRadiusGroups(@NonNull Collection<String> names) {
+        return insert("INSERT INTO radius_group (name) VALUES (?)", names);
+    }
+
+    /**
+     * @return number of inserted groups
+     */
+    public int insertRadiusGroups(@NonNull Collection<String> names, @NonNull RowErrorHandler errorHandler) {
+        return write("INSERT INTO radius_group (name) VALUES (?)", toArgs(names), errorHandler);
+    }
+
+    /**
+     * @return number of inserted authentication attributes, inserted as not sensitive
+     */
+    public int insertRadCheckAttributes(@NonNull Collection<String> names) {
+        return insert("INSERT INTO radcheck_attribute (name, sensitive_data) VALUES (?, FALSE)", names);
+    }
+
+    /**
+     * @return number of inserted authorization attributes, inserted as not sensitive
+     */
+    public int insertRadReplyAttributes(@NonNull Collection<String> names) {
+        return insert("INSERT INTO radreply_attribute (name, sensitive_data) VALUES (?, FALSE)", names);
+    }
+
+    /**
+     * @return number of deleted users
+     */
+    public int deleteRadiusUsers(@NonNull Collection<String> usernames) {
+        return write("DELETE FROM radius_user WHERE username = ?", toArgs(usernames));
+    }
+
+    /**
+     * @return number of deleted groups
+     */
+    public int deleteRadiusGroups(@NonNull Collection<String> names) {
+        return write("DELETE FROM radius_group WHERE name = ?", toArgs(names));
+    }
+
+    /**
+     * @return number of deleted authentication attributes
+     */
+    public int deleteRadCheckAttributes(@NonNull Collection<String> names) {
+        return write("DELETE FROM radcheck_attribute WHERE name = ?", toArgs(names));
+    }
+
+    /**
+     * @return number of deleted authorization attributes
+     */
+    public int deleteRadReplyAttributes(@NonNull Collection<String> names) {
+        return write("DELETE FROM radreply_attribute WHERE name = ?", toArgs(names));
+    }
+
+    /**
+     * @param renames new username by current username
+     * @return number of renamed users
+     */
+    public int renameRadiusUsers(@NonNull Map<String, String> renames) {
+        return write("UPDATE radius_user SET username = ? WHERE username = ?", toRenameArgs(renames));
+    }
+
+    /**
+     * @param renames new name by current name
+     * @return number of renamed groups
+     */
+    public int renameRadiusGroups(@NonNull Map<String, String> renames) {
+        return write("UPDATE radius_group SET name = ? WHERE name = ?", toRenameArgs(renames));
+    }
+
+    /**
+     * @param renames new name by current name
+     * @return number of renamed authentication attributes
+     */
+    public int renameRadCheckAttributes(@NonNull Map<String, String> renames) {
+        return write("UPDATE radcheck_attribute SET name = ? WHERE name = ?", toRenameArgs(renames));
+    }
+
+    /**
+     * @param renames new name by current name
+     * @return number of renamed authorization attributes
+     */
+    public int renameRadReplyAttributes(@NonNull Map<String, String> renames) {
+        return write("UPDATE radreply_attribute SET name = ? WHERE name = ?", toRenameArgs(renames));
+    }
+
+    private int insert(String sql, Collection<String> values) {
+        return write(sql, toArgs(values));
+    }
+
+    private int write(String sql, List<Object[]> rows) {
+        return write(sql, rows, RowErrorHandler.IGNORE);
+    }
+
+    private List<Object[]> toArgs(Collection<String> values) {
+        List<Object[]> args = new ArrayList<>(values.size());
+        values.forEach(value -> args.add(new Object[]{value}));
+        return args;
+    }
+
+    private List<Object[]> toRenameArgs(Map<String, String> renames) {
+        List<Object[]> args = new ArrayList<>(renames.size());
+        renames.forEach((name, newName) -> args.add(new Object[]{newName, name}));
+        return args;
+    }
+
+}
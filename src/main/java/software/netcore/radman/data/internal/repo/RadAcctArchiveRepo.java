@@ -0,0 +1,41 @@
+package software.netcore.radman.data.internal.repo;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import software.netcore.radman.data.internal.entity.RadAcctArchive;
+import software.netcore.radman.data.internal.spec.RadmanRepository;
+import software.netcore.radman.data.radius.repo.RadAcctRepo;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @since v. 1.0.3
+ */
+public interface RadAcctArchiveRepo extends RadmanRepository<RadAcctArchive> {
+
+    @Query("SELECT r.radAcctId FROM RadAcctArchive r WHERE r.radAcctId IN :radAcctIds")
+    Set<Long> findArchivedIds(@Param("radAcctIds") Collection<Long> radAcctIds);
+
+    /**
+     * Ids of the records started within the given time range, ordered so they can be read in batches.
+     */
+    @Query("SELECT r.radAcctId FROM RadAcctArchive r WHERE r.acctStartTime >= :from AND r.acctStartTime < :to " +
+            "AND r.radAcctId > :afterRadAcctId ORDER BY r.radAcctId")
+    List<Long> findIdsByAcctStartTime(@Param("from") Date from, @Param("to") Date to,
+                                      @Param("afterRadAcctId") long afterRadAcctId, Pageable pageable);
+
+    @Query("SELECT r.username AS subject, COUNT(r) AS sessionCount, SUM(r.acctSessionTime) AS sessionTime, " +
+            "SUM(r.acctInputOctets) AS inputOctets, SUM(r.acctOutputOctets) AS outputOctets FROM RadAcctArchive r " +
+            "WHERE r.acctStartTime >= :from AND r.acctStartTime < :to GROUP BY r.username")
+    List<RadAcctRepo.RadAcctUsage> sumUsageByUsername(@Param("from") Date from, @Param("to") Date to);
+
+    @Query("SELECT r.nasIpAddress AS subject, COUNT(r) AS sessionCount, SUM(r.acctSessionTime) AS sessionTime, " +
+            "SUM(r.acctInputOctets) AS inputOctets, SUM(r.acctOutputOctets) AS outputOctets FROM RadAcctArchive r " +
+            "WHERE r.acctStartTime >= :from AND r.acctStartTime < :to GROUP BY r.nasIpAddress")
+    List<RadAcctRepo.RadAcctUsage> sumUsageByNasIpAddress(@Param("from") Date from, @Param("to") Date to);
+
+}
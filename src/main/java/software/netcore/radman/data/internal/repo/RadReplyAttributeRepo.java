@@ -1,9 +1,11 @@
 package software.netcore.radman.data.internal.repo;
 
+import org.springframework.data.jpa.repository.Query;
 import software.netcore.radman.data.internal.entity.RadReplyAttribute;
 import software.netcore.radman.data.internal.spec.RadmanRepository;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * @since v. 1.0.0
@@ -12,4 +14,7 @@ public interface RadReplyAttributeRepo extends RadmanRepository<RadReplyAttribut
 
     List<RadReplyAttribute> findAll();
 
+    @Query("SELECT a.name FROM RadReplyAttribute a")
+    Set<String> getNames();
+
 }
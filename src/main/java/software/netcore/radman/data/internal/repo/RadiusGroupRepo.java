@@ -1,10 +1,25 @@
 package software.netcore.radman.data.internal.repo;
 
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import software.netcore.radman.data.internal.entity.RadiusGroup;
 import software.netcore.radman.data.internal.spec.RadmanRepository;
 
+import java.util.Collection;
+import java.util.Set;
+
 /**
  * @since v. 1.0.0
  */
 public interface RadiusGroupRepo extends RadmanRepository<RadiusGroup> {
+
+    @Query("SELECT g.name FROM RadiusGroup g")
+    Set<String> getNames();
+
+    /**
+     * @param names lower-cased names, letter case of the stored names is not significant
+     */
+    @Query("SELECT g.name FROM RadiusGroup g WHERE LOWER(g.name) IN :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
 }
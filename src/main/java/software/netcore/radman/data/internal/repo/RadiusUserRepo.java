@@ -1,10 +1,25 @@
 package software.netcore.radman.data.internal.repo;
 
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import software.netcore.radman.data.internal.entity.RadiusUser;
 import software.netcore.radman.data.internal.spec.RadmanRepository;
 
+import java.util.Collection;
+import java.util.Set;
+
 /**
  * @since v. 1.0.0
  */
 public interface RadiusUserRepo extends RadmanRepository<RadiusUser> {
+
+    @Query("SELECT u.username FROM RadiusUser u")
+    Set<String> getUsernames();
+
+    /**
+     * @param usernames lower-cased usernames, letter case of the stored usernames is not significant
+     */
+    @Query("SELECT u.username FROM RadiusUser u WHERE LOWER(u.username) IN :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
 }
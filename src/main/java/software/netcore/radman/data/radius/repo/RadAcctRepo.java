@@ -1,10 +1,83 @@
 package software.netcore.radman.data.radius.repo;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import software.netcore.radman.data.radius.entity.RadAcct;
 import software.netcore.radman.data.radius.spec.RadiusRepository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
 /**
  * @since v. 1.0.0
  */
 public interface RadAcctRepo extends RadiusRepository<RadAcct, Long> {
+
+    interface RadAcctChange {
+
+        Long getRadAcctId();
+
+        Date getAcctStartTime();
+
+        Date getAcctUpdateTime();
+
+    }
+
+    interface RadAcctUsage {
+
+        String getSubject();
+
+        Long getSessionCount();
+
+        Long getSessionTime();
+
+        Long getInputOctets();
+
+        Long getOutputOctets();
+
+    }
+
+    @Query("SELECT MAX(r.radAcctId) FROM RadAcct r")
+    Long findMaxRadAcctId();
+
+    @Query("SELECT MAX(r.acctUpdateTime) FROM RadAcct r")
+    Date findMaxAcctUpdateTime();
+
+    /**
+     * Records inserted after the given id, ordered by id so the changes can be read in batches. Reads
+     * the primary key range only.
+     */
+    @Query("SELECT r.radAcctId AS radAcctId, r.acctStartTime AS acctStartTime, r.acctUpdateTime AS acctUpdateTime " +
+            "FROM RadAcct r WHERE r.radAcctId > :afterRadAcctId ORDER BY r.radAcctId")
+    List<RadAcctChange> findInsertedAfter(@Param("afterRadAcctId") long afterRadAcctId, Pageable pageable);
+
+    /**
+     * Records updated after the given update time and id, ordered by update time and id so the changes can be
+     * read in batches. Served by an index on "acctupdatetime".
+     */
+    @Query("SELECT r.radAcctId AS radAcctId, r.acctStartTime AS acctStartTime, r.acctUpdateTime AS acctUpdateTime " +
+            "FROM RadAcct r WHERE r.acctUpdateTime >= :afterAcctUpdateTime " +
+            "AND (r.acctUpdateTime > :afterAcctUpdateTime OR r.radAcctId > :afterRadAcctId) " +
+            "ORDER BY r.acctUpdateTime, r.radAcctId")
+    List<RadAcctChange> findUpdatedAfter(@Param("afterAcctUpdateTime") Date afterAcctUpdateTime,
+                                         @Param("afterRadAcctId") long afterRadAcctId,
+                                         Pageable pageable);
+
+    @Query("SELECT r.username AS subject, COUNT(r) AS sessionCount, SUM(r.acctSessionTime) AS sessionTime, " +
+            "SUM(r.acctInputOctets) AS inputOctets, SUM(r.acctOutputOctets) AS outputOctets FROM RadAcct r " +
+            "WHERE r.acctStartTime >= :from AND r.acctStartTime < :to GROUP BY r.username")
+    List<RadAcctUsage> sumUsageByUsername(@Param("from") Date from, @Param("to") Date to);
+
+    @Query("SELECT r.nasIpAddress AS subject, COUNT(r) AS sessionCount, SUM(r.acctSessionTime) AS sessionTime, " +
+            "SUM(r.acctInputOctets) AS inputOctets, SUM(r.acctOutputOctets) AS outputOctets FROM RadAcct r " +
+            "WHERE r.acctStartTime >= :from AND r.acctStartTime < :to GROUP BY r.nasIpAddress")
+    List<RadAcctUsage> sumUsageByNasIpAddress(@Param("from") Date from, @Param("to") Date to);
+
+    @Modifying
+    @Query("DELETE FROM RadAcct r WHERE r.radAcctId IN :radAcctIds")
+    int deleteAllByRadAcctIdIn(@Param("radAcctIds") Collection<Long> radAcctIds);
+
 }
@@ -4,7 +4,6 @@ import org.springframework.data.jpa.repository.Query;
 import software.netcore.radman.data.radius.entity.RadCheck;
 import software.netcore.radman.data.radius.spec.RadiusRepository;
 
-import java.util.List;
 import java.util.Set;
 
 /**
@@ -12,8 +11,6 @@ import java.util.Set;
  */
 public interface RadCheckRepo extends RadiusRepository<RadCheck, Integer> {
 
-    List<RadCheck> findAll();
-
     void deleteAllByUsername(String username);
 
     // JPA to delete records by their associated username, operation and value.  JPA's are implicitly declared and
@@ -25,10 +22,10 @@ public interface RadCheckRepo extends RadiusRepository<RadCheck, Integer> {
 
     void deleteAllByAttribute(String attribute);
 
-    @Query("SELECT r.username FROM RadCheck r ORDER BY r.username")
+    @Query("SELECT DISTINCT r.username FROM RadCheck r")
     Set<String> getUsernames();
 
-    @Query("SELECT r.attribute FROM RadCheck r ORDER BY r.attribute")
+    @Query("SELECT DISTINCT r.attribute FROM RadCheck r")
     Set<String> getAttributes();
 
 }
@@ -5,7 +5,6 @@ import software.netcore.radman.data.radius.entity.RadGroupCheck;
 import software.netcore.radman.data.radius.entity.RadReply;
 import software.netcore.radman.data.radius.spec.RadiusRepository;
 
-import java.util.List;
 import java.util.Set;
 
 /**
@@ -13,8 +12,6 @@ import java.util.Set;
  */
 public interface RadGroupCheckRepo extends RadiusRepository<RadGroupCheck, Integer> {
 
-    List<RadGroupCheck> findAll();
-
     void deleteAllByGroupName(String groupName);
 
     void deleteByGroupNameAndAttributeAndOpAndValue(String name, String attribute, String operator, String value);
@@ -23,10 +20,10 @@ public interface RadGroupCheckRepo extends RadiusRepository<RadGroupCheck, Integ
 
     void deleteAllByAttribute(String attribute);
 
-    @Query("SELECT r.groupName FROM RadGroupCheck r ORDER BY r.groupName")
+    @Query("SELECT DISTINCT r.groupName FROM RadGroupCheck r")
     Set<String> getGroupNames();
 
-    @Query("SELECT r.attribute FROM RadGroupCheck r ORDER BY r.attribute")
+    @Query("SELECT DISTINCT r.attribute FROM RadGroupCheck r")
     Set<String> getAttributes();
 
 }
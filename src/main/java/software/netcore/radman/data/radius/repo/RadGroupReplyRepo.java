@@ -4,7 +4,6 @@ import org.springframework.data.jpa.repository.Query;
 import software.netcore.radman.data.radius.entity.RadGroupReply;
 import software.netcore.radman.data.radius.spec.RadiusRepository;
 
-import java.util.List;
 import java.util.Set;
 
 /**
@@ -12,8 +11,6 @@ import java.util.Set;
  */
 public interface RadGroupReplyRepo extends RadiusRepository<RadGroupReply, Integer> {
 
-    List<RadGroupReply> findAll();
-
     void deleteAllByGroupName(String name);
 
     void deleteByGroupNameAndAttributeAndOpAndValue(String name, String attribute, String op, String value);
@@ -22,10 +19,10 @@ public interface RadGroupReplyRepo extends RadiusRepository<RadGroupReply, Integ
 
     void deleteAllByAttribute(String attribute);
 
-    @Query("SELECT r.groupName FROM RadGroupReply r ORDER BY r.groupName")
+    @Query("SELECT DISTINCT r.groupName FROM RadGroupReply r")
     Set<String> getGroupNames();
 
-    @Query("SELECT r.attribute FROM RadGroupReply r ORDER BY r.attribute")
+    @Query("SELECT DISTINCT r.attribute FROM RadGroupReply r")
     Set<String> getAttributes();
 
 }
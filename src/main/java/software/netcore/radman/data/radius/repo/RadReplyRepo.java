@@ -4,7 +4,6 @@ import org.springframework.data.jpa.repository.Query;
 import software.netcore.radman.data.radius.entity.RadReply;
 import software.netcore.radman.data.radius.spec.RadiusRepository;
 
-import java.util.List;
 import java.util.Set;
 
 /**
@@ -12,8 +11,6 @@ import java.util.Set;
  */
 public interface RadReplyRepo extends RadiusRepository<RadReply, Integer> {
 
-    List<RadReply> findAll();
-
     void deleteAllByUsername(String username);
 
     void deleteAllByUsernameAndAttributeAndOpAndValue(String username, String attribute, String op, String value);
@@ -22,10 +19,10 @@ public interface RadReplyRepo extends RadiusRepository<RadReply, Integer> {
 
     void deleteAllByAttribute(String attribute);
 
-    @Query("SELECT r.username FROM RadReply r ORDER BY r.username")
+    @Query("SELECT DISTINCT r.username FROM RadReply r")
     Set<String> getUsernames();
 
-    @Query("SELECT r.attribute FROM RadReply r ORDER BY r.attribute")
+    @Query("SELECT DISTINCT r.attribute FROM RadReply r")
     Set<String> getAttributes();
 
 }
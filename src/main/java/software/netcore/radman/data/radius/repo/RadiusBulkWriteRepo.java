@@ -0,0 +1,139 @@
+package software.netcore.radman.data.radius.repo;
+
+import lombok.NonNull;
+import software.netcore.radman.data.radius.entity.*;
+import software.netcore.radman.data.spec.BaseBatchRepository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JDBC batched inserts and updates of Radius DB records.
+ *
+ * @since v. 1.0.3
+ */
+public class RadiusBulkWriteRepo extends BaseBatchRepository {
+
+    public RadiusBulkWriteRepo(@NonNull DataSource dataSource) {
+        super(dataSource);
+    }
+
+    /**
+     * @return number of inserted records
+     */
+    public int insertRadChecks(@NonNull List<RadCheck> radChecks, @NonNull RowErrorHandler errorHandler) {
+        List<Object[]> rows = new ArrayList<>(radChecks.size());
+        radChecks.forEach(check -> rows.add(new Object[]{check.getUsername(), check.getAttribute(),
+                check.getOp(), check.getValue()}));
+        return write("INSERT INTO radcheck (username, attribute, op, value) VALUES (?, ?, ?, ?)",
+                rows, errorHandler);
+    }
+
+    /**
+     * @return number of inserted records
+     */
+    public int insertRadReplies(@NonNull List<RadReply> radReplies, @NonNull RowErrorHandler errorHandler) {
+        List<Object[]> rows = new ArrayList<>(radReplies.size());
+        radReplies.forEach(reply -> rows.add(new Object[]{reply.getUsername(), reply.getAttribute(),
+                reply.getOp(), reply.getValue()}));
+        return write("INSERT INTO radreply (username, attribute, op, value) VALUES (?, ?, ?, ?)",
+                rows, errorHandler);
+    }
+
+    /**
+     * @return number of inserted records
+     */
+    public int insertRadGroupChecks(@NonNull List<RadGroupCheck> radGroupChecks,
+                                    @NonNull RowErrorHandler errorHandler) {
+        List<Object[]> rows = new ArrayList<>(radGroupChecks.size());
+        radGroupChecks.forEach(check -> rows.add(new Object[]{check.getGroupName(), check.getAttribute(),
+                check.getOp(), check.getValue()}));
+        return write("INSERT INTO radgroupcheck (groupname, attribute, op, value) VALUES (?, ?, ?, ?)",
+                rows, errorHandler);
+    }
+
+    /**
+     * @return number of inserted records
+     */
+    public int insertRadGroupReplies(@NonNull List<RadGroupReply> radGroupReplies,
+                                     @NonNull RowErrorHandler errorHandler) {
+        List<Object[]> rows = new ArrayList<>(radGroupReplies.size());
+        radGroupReplies.forEach(reply -> rows.add(new Object[]{reply.getGroupName(), reply.getAttribute(),
+                reply.getOp(), reply.getValue()}));
+        return write("INSERT INTO radgroupreply (groupname, attribute, op, value) VALUES (?, ?, ?, ?)",
+                rows, errorHandler);
+    }
+
+    /**
+     * @return number of inserted records
+     */
+    public int insertRadUserGroups(@NonNull List<RadUserGroup> radUserGroups,
+                                   @NonNull RowErrorHandler errorHandler) {
+        List<Object[]> rows = new ArrayList<>(radUserGroups.size());
+        radUserGroups.forEach(userGroup -> rows.add(new Object[]{userGroup.getUsername(),
+                userGroup.getGroupName(), userGroup.getPriority()}));
+        return write("INSERT INTO radusergroup (username, groupname, priority) VALUES (?, ?, ?)",
+                rows, errorHandler);
+    }
+
+    /**
+     * @return number of inserted NASes
+     */
+    public int insertNases(@NonNull List<Nas> nases, @NonNull RowErrorHandler errorHandler) {
+        List<Object[]> rows = new ArrayList<>(nases.size());
+        nases.forEach(nas -> rows.add(new Object[]{nas.getNasName(), nas.getShortName(), nas.getType(),
+                nas.getPorts(), nas.getSecret(), nas.getServer(), nas.getCommunity(), nas.getDescription()}));
+        return write("INSERT INTO nas (nasname, shortname, type, ports, secret, server, community, description) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows, errorHandler);
+    }
+
+    /**
+     * @return number of inserted accounting records
+     */
+    public int insertRadAccts(@NonNull List<RadAcct> radAccts, @NonNull RowErrorHandler errorHandler) {
+        List<Object[]> rows = new ArrayList<>(radAccts.size());
+        radAccts.forEach(radAcct -> rows.add(new Object[]{radAcct.getAcctSessionId(), radAcct.getAcctUniqueId(),
+                radAcct.getUsername(), radAcct.getRealm(), radAcct.getNasIpAddress(), radAcct.getNasPortId(),
+                radAcct.getNasPortType(), radAcct.getAcctStartTime(), radAcct.getAcctUpdateTime(),
+                radAcct.getAcctStopTime(), radAcct.getAcctInterval(), radAcct.getAcctSessionTime(),
+                radAcct.getAcctAuthentic(), radAcct.getConnectInfoStart(), radAcct.getConnectInfoStop(),
+                radAcct.getAcctInputOctets(), radAcct.getAcctOutputOctets(), radAcct.getCalledStationId(),
+                radAcct.getCallingStationId(), radAcct.getAcctTerminateCause(), radAcct.getServiceType(),
+                radAcct.getFramedProtocol(), radAcct.getFramedIpAddress()}));
+        return write("INSERT INTO radacct (acctsessionid, acctuniqueid, username, realm, nasipaddress, nasportid, " +
+                "nasporttype, acctstarttime, acctupdatetime, acctstoptime, acctinterval, acctsessiontime, " +
+                "acctauthentic, connectinfo_start, connectinfo_stop, acctinputoctets, acctoutputoctets, " +
+                "calledstationid, callingstationid, acctterminatecause, servicetype, framedprotocol, " +
+                "framedipaddress) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows, errorHandler);
+    }
+
+    /**
+     * Closes still active sessions at their last accounting update. The session time reported by that update
+     * is kept, as it already matches the stop time. Sessions which never reported it get the time between
+     * their start and last update. A session updated after the update it was loaded with is skipped,
+     * it received an interim update since it was found stale.
+     *
+     * @return number of closed sessions
+     */
+    public int closeSessions(@NonNull List<RadAcct> sessions, @NonNull RowErrorHandler errorHandler) {
+        List<Object[]> rows = new ArrayList<>(sessions.size());
+        sessions.forEach(session -> {
+            Date lastSeen = Objects.isNull(session.getAcctUpdateTime())
+                    ? session.getAcctStartTime() : session.getAcctUpdateTime();
+            long sessionSeconds = (lastSeen.getTime() - session.getAcctStartTime().getTime()) / 1000;
+            rows.add(new Object[]{Math.max(sessionSeconds, 0), session.getRadAcctId(),
+                    new Timestamp(lastSeen.getTime() + 1)});
+        });
+        return write("UPDATE radacct SET acctstoptime = COALESCE(acctupdatetime, acctstarttime), " +
+                "acctupdatetime = COALESCE(acctupdatetime, acctstarttime), " +
+                "acctsessiontime = COALESCE(acctsessiontime, ?) " +
+                "WHERE radacctid = ? AND acctstoptime IS NULL " +
+                "AND COALESCE(acctupdatetime, acctstarttime) < ?", rows, errorHandler);
+    }
+
+}
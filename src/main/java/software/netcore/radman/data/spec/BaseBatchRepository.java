@@ -0,0 +1,87 @@
+package software.netcore.radman.data.spec;
+
+import lombok.NonNull;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Base class of JDBC batch writing repositories. Hibernate does not batch inserts of entities with
+ * IDENTITY ids, so bulk writes go around JPA. Each batch is executed in its own transaction, a batch
+ * rejected by the database is rolled back as a whole and retried row by row, so rows of the batch the
+ * database had accepted are not written twice. The rejected rows are passed to the error handler.
+ *
+ * @since v. 1.0.3
+ */
+public abstract class BaseBatchRepository {
+
+    public static final int BATCH_SIZE = 1000;
+
+    /**
+     * Handler of rows rejected by the database.
+     */
+    @FunctionalInterface
+    public interface RowErrorHandler {
+
+        RowErrorHandler IGNORE = (index, e) -> {
+        };
+
+        /**
+         * @param index index of the rejected row in the written rows
+         */
+        void onError(int index, DataAccessException e);
+
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransactionTemplate;
+
+    protected BaseBatchRepository(@NonNull DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchTransactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * @return number of written rows
+     */
+    protected int write(String sql, List<Object[]> rows, RowErrorHandler errorHandler) {
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            written += writeBatch(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())), from,
+                    errorHandler);
+        }
+        return written;
+    }
+
+    private int writeBatch(String sql, List<Object[]> batch, int offset, RowErrorHandler errorHandler) {
+        try {
+            Integer written = batchTransactionTemplate.execute(status -> {
+                int count = 0;
+                for (int rowCount : jdbcTemplate.batchUpdate(sql, new ArrayList<>(batch))) {
+                    // drivers not reporting per statement counts of a batch report SUCCESS_NO_INFO
+                    count += rowCount == Statement.SUCCESS_NO_INFO ? 1 : rowCount;
+                }
+                return count;
+            });
+            return Objects.isNull(written) ? 0 : written;
+        } catch (DataAccessException batchException) {
+            int written = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    written += jdbcTemplate.update(sql, batch.get(i));
+                } catch (DataAccessException e) {
+                    errorHandler.onError(offset + i, e);
+                }
+            }
+            return written;
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+package software.netcore.radman.data.spec;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.hibernate.HibernateQuery;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.Query;
+import org.hibernate.type.StringType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Table;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Repository base class of all RadMan repositories. Adds forward-only streaming reads, paging with
+ * a caller supplied total and statistics based row count estimates to {@link SimpleJpaRepository}.
+ *
+ * @param <T>
+ * @param <ID>
+ * @since v. 1.0.3
+ */
+public class BaseJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final String ALIAS = "x";
+
+    private static final String MYSQL_ESTIMATE_QUERY = "SELECT table_rows FROM information_schema.tables " +
+            "WHERE table_schema = DATABASE() AND table_name = ?1";
+    private static final String POSTGRESQL_ESTIMATE_QUERY = "SELECT reltuples FROM pg_class WHERE relname = ?1";
+
+    // binary collations compare code points, distinct values are grouped by bytes too as MySQL would merge
+    // values differing in letter case only
+    private static final String MYSQL_DISTINCT_QUERY = "SELECT v FROM (SELECT MIN(%1$s) AS v FROM %2$s " +
+            "WHERE %1$s IS NOT NULL GROUP BY CAST(%1$s AS BINARY)) d " +
+            "ORDER BY CAST(UPPER(v) AS BINARY), CAST(v AS BINARY)";
+    private static final String POSTGRESQL_DISTINCT_QUERY = "SELECT v FROM (SELECT DISTINCT %1$s AS v FROM %2$s " +
+            "WHERE %1$s IS NOT NULL) d ORDER BY UPPER(v) COLLATE \"C\", v COLLATE \"C\"";
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager entityManager;
+    private final EntityPath<T> path;
+    private final PathBuilder<T> pathBuilder;
+    private final Querydsl querydsl;
+
+    public BaseJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
+        this.entityManager = entityManager;
+        this.path = SimpleEntityPathResolver.INSTANCE.createPath(entityInformation.getJavaType());
+        this.pathBuilder = new PathBuilder<>(path.getType(), path.getMetadata());
+        this.querydsl = new Querydsl(entityManager, pathBuilder);
+    }
+
+    public Stream<T> streamAll(Sort sort) {
+        String queryString = QueryUtils.applySorting(String.format(QueryUtils.READ_ALL_QUERY,
+                entityInformation.getEntityName()), sort, ALIAS);
+        return stream(session -> session.createQuery(queryString, entityInformation.getJavaType()));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Stream<T> streamAll(Predicate predicate, Sort sort) {
+        return stream(session -> {
+            HibernateQuery<T> query = new HibernateQuery<Void>(session).select(path).from(path).where(predicate);
+            for (Sort.Order order : sort) {
+                query.orderBy(new OrderSpecifier<>(order.isAscending() ? Order.ASC : Order.DESC,
+                        pathBuilder.getComparable(order.getProperty(), Comparable.class)));
+            }
+            return (Query<T>) query.createQuery();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public Stream<String> streamDistinctValues(String property) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        String nativeQuery = null;
+        if (dialect instanceof MySQLDialect) {
+            nativeQuery = MYSQL_DISTINCT_QUERY;
+        } else if (dialect instanceof PostgreSQL81Dialect) {
+            nativeQuery = POSTGRESQL_DISTINCT_QUERY;
+        }
+        if (Objects.nonNull(nativeQuery)) {
+            AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMetamodel()
+                    .entityPersister(entityInformation.getJavaType());
+            String queryString = String.format(nativeQuery, persister.getPropertyColumnNames(property)[0],
+                    persister.getTableName());
+            return stream(session -> (Query<String>) session.createNativeQuery(queryString)
+                    .addScalar("v", StringType.INSTANCE));
+        }
+        // standard SQL requires the ORDER BY expressions of a SELECT DISTINCT to be selected too
+        String queryString = String.format("select distinct %1$s.%2$s, upper(%1$s.%2$s) from %3$s %1$s " +
+                        "where %1$s.%2$s is not null order by upper(%1$s.%2$s), %1$s.%2$s",
+                ALIAS, property, entityInformation.getEntityName());
+        return stream(session -> session.createQuery(queryString, Object[].class)).map(row -> (String) row[0]);
+    }
+
+    private <R> Stream<R> stream(Function<StatelessSession, Query<R>> queryFactory) {
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        StatelessSession session = sessionFactory.openStatelessSession();
+        try {
+            // explicit transaction, PostgreSQL only uses a server side cursor with auto-commit disabled
+            Transaction transaction = session.beginTransaction();
+            Query<R> query = queryFactory.apply(session);
+            query.setFetchSize(STREAM_FETCH_SIZE);
+            query.setReadOnly(true);
+            return query.stream().onClose(() -> {
+                try {
+                    transaction.rollback();
+                } finally {
+                    session.close();
+                }
+            });
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    public Page<T> findAll(Predicate predicate, Pageable pageable, LongSupplier totalSupplier) {
+        return PageableExecutionUtils.getPage(findContent(predicate, pageable), pageable, totalSupplier);
+    }
+
+    public List<T> findContent(Predicate predicate, Pageable pageable) {
+        JPQLQuery<T> query = querydsl.createQuery(path).select(path).where(predicate);
+        return querydsl.applyPagination(pageable, query).fetch();
+    }
+
+    public List<String> findDistinctValues(String property, Predicate predicate, Pageable pageable) {
+        JPQLQuery<String> query = querydsl.createQuery(path).select(pathBuilder.getString(property)).distinct()
+                .where(predicate);
+        return querydsl.applyPagination(pageable, query).fetch();
+    }
+
+    public long countDistinctValues(String property, Predicate predicate) {
+        return querydsl.createQuery(path).select(pathBuilder.getString(property)).distinct()
+                .where(predicate)
+                .fetchCount();
+    }
+
+    public long estimateCount() {
+        String product = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+        String estimateQuery = null;
+        if (Objects.equals(product, "MySQL") || Objects.equals(product, "MariaDB")) {
+            estimateQuery = MYSQL_ESTIMATE_QUERY;
+        } else if (Objects.equals(product, "PostgreSQL")) {
+            estimateQuery = POSTGRESQL_ESTIMATE_QUERY;
+        }
+        if (Objects.nonNull(estimateQuery)) {
+            List<?> result = entityManager.createNativeQuery(estimateQuery)
+                    .setParameter(1, getTableName())
+                    .getResultList();
+            // PostgreSQL reports -1 for tables never analyzed
+            if (!result.isEmpty() && result.get(0) instanceof Number && ((Number) result.get(0)).longValue() >= 0) {
+                return ((Number) result.get(0)).longValue();
+            }
+        }
+        return count();
+    }
+
+    private String getTableName() {
+        Table table = entityInformation.getJavaType().getAnnotation(Table.class);
+        return Objects.isNull(table) ? entityInformation.getEntityName() : table.name();
+    }
+
+}
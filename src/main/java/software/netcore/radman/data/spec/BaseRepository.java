@@ -1,9 +1,17 @@
 package software.netcore.radman.data.spec;
 
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
 /**
  * @param <T>
  * @param <ID>
@@ -11,4 +19,56 @@ import org.springframework.data.repository.NoRepositoryBean;
  */
 @NoRepositoryBean
 public interface BaseRepository<T, ID> extends CrudRepository<T, ID>, QuerydslPredicateExecutor<T> {
+
+    /**
+     * Streams all entities in the given order. Entities are read by a stateless session through a forward-only
+     * cursor, so they are never attached to a persistence context and memory use does not grow with the table.
+     * The stream holds a database connection until closed, always use it in try-with-resources.
+     *
+     * @see BaseJpaRepository
+     */
+    Stream<T> streamAll(Sort sort);
+
+    /**
+     * Same as {@link #streamAll(Sort)}, limited to the entities matching the predicate.
+     */
+    Stream<T> streamAll(Predicate predicate, Sort sort);
+
+    /**
+     * Streams distinct non-null values of the given string property, ordered by their upper case form first
+     * and by the value itself second, both compared by code points (binary collation) on MySQL / MariaDB and
+     * PostgreSQL. The order does not depend on the column collation, which makes streams of different databases
+     * mergeable. Other databases order by their default collation. Same resource rules as
+     * {@link #streamAll(Sort)}.
+     */
+    Stream<String> streamDistinctValues(String property);
+
+    /**
+     * Page of distinct values of the given string property of the entities matching the predicate, the
+     * pageable may only sort by the property itself. No count query is issued.
+     */
+    List<String> findDistinctValues(String property, Predicate predicate, Pageable pageable);
+
+    /**
+     * Number of distinct values of the given string property of the entities matching the predicate.
+     */
+    long countDistinctValues(String property, Predicate predicate);
+
+    /**
+     * Same as {@link #findAll(Predicate, Pageable)}, but the total is taken from the supplier. The supplier
+     * is only called when the total cannot be derived from the page content itself.
+     */
+    Page<T> findAll(Predicate predicate, Pageable pageable, LongSupplier totalSupplier);
+
+    /**
+     * Content of the requested page only, no count query is issued.
+     */
+    List<T> findContent(Predicate predicate, Pageable pageable);
+
+    /**
+     * Row count of the whole table as kept in the database statistics (MySQL / MariaDB, PostgreSQL).
+     * Cheap, but only approximate. Falls back to an exact count on databases without statistics.
+     */
+    long estimateCount();
+
 }
@@ -0,0 +1,34 @@
+package software.netcore.radman.data.spec;
+
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import software.netcore.radman.data.conf.CountProperties;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Counts records for paging. With estimation enabled, unfiltered counts of tables larger than the configured
+ * threshold come from the database statistics, everything else is counted exactly.
+ *
+ * @since v. 1.0.3
+ */
+@RequiredArgsConstructor
+public class RecordCounter {
+
+    private final CountProperties properties;
+
+    public long count(@NonNull BaseRepository<?, ?> repository, @Nullable Predicate predicate) {
+        boolean unfiltered = Objects.isNull(predicate) || Objects.isNull(ExpressionUtils.extract(predicate));
+        if (properties.isEstimated() && unfiltered) {
+            long estimate = repository.estimateCount();
+            if (estimate >= properties.getEstimationThreshold()) {
+                return estimate;
+            }
+        }
+        return unfiltered ? repository.count() : repository.count(predicate);
+    }
+
+}
@@ -0,0 +1,21 @@
+package software.netcore.radman.data.spec;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks service methods whose Radius DB reads may be served by the replica, i.e. reads tolerating
+ * the replication lag such as grid pages, counts and exports. Reads a write decides on (duplicity checks)
+ * must not be marked, they are served by the primary. Marked methods run in a read-only "txRadius"
+ * transaction.
+ *
+ * @see ReplicaRoutingDataSource
+ * @since v. 1.0.3
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(transactionManager = "txRadius", readOnly = true)
+public @interface ReplicaRead {
+}
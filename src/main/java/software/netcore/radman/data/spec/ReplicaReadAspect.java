@@ -0,0 +1,25 @@
+package software.netcore.radman.data.spec;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Lets {@link ReplicaRoutingDataSource} route the connections of {@link ReplicaRead} methods to the replica.
+ *
+ * @since v. 1.0.3
+ */
+@Aspect
+public class ReplicaReadAspect {
+
+    @Around("@annotation(software.netcore.radman.data.spec.ReplicaRead)")
+    public Object markReplicaRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReplicaRoutingDataSource.setReplicaRead(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.setReplicaRead(previous);
+        }
+    }
+
+}
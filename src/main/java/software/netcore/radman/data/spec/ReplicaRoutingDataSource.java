@@ -0,0 +1,147 @@
+package software.netcore.radman.data.spec;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.netcore.radman.data.conf.ReplicaProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+
+/**
+ * Routes connections of read-only transactions of {@link ReplicaRead} methods to the replica and all
+ * the others to the primary, reads of unmarked methods never see a lagging replica. The
+ * replica is used only while its replication lag, checked periodically, is within the limit. A replica
+ * failing to provide a connection is not used until the next successful check, its connections are
+ * taken from the primary meanwhile. Read-only transactions set their flag after their connection is
+ * requested, so the data source has to be wrapped by a lazy connection proxy.
+ *
+ * @since v. 1.0.3
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final String MYSQL_LAG_COLUMN = "Seconds_Behind_Master";
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaProperties properties;
+
+    private volatile boolean replicaAvailable = false;
+
+    /**
+     * @param replica replica data source, null when there is no replica
+     */
+    public ReplicaRoutingDataSource(@NonNull DataSource primary, DataSource replica,
+                                    @NonNull ReplicaProperties properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.properties = properties;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (isRoutedToReplica()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markReplicaUnavailable(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (isRoutedToReplica()) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                markReplicaUnavailable(e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * @return previous value, to be restored once the marked method returns
+     */
+    static boolean setReplicaRead(boolean replicaRead) {
+        boolean previous = REPLICA_READ.get();
+        if (replicaRead) {
+            REPLICA_READ.set(Boolean.TRUE);
+        } else {
+            REPLICA_READ.remove();
+        }
+        return previous;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${database.radius.replica.check-interval:10000}")
+    public void checkReplica() {
+        if (Objects.isNull(replica)) {
+            return;
+        }
+        boolean available;
+        try (Connection connection = replica.getConnection()) {
+            Double lag = Objects.isNull(properties.getLagQuery()) ? Double.valueOf(0) : queryLag(connection);
+            available = Objects.nonNull(lag) && lag <= properties.getMaxLagSeconds();
+            if (!available && replicaAvailable) {
+                log.warn("Replica lag {} s exceeds {} s, reads are served by the primary", lag,
+                        properties.getMaxLagSeconds());
+            }
+        } catch (SQLException e) {
+            available = false;
+            if (replicaAvailable) {
+                log.warn("Replica is not reachable, reads are served by the primary: {}", e.getMessage());
+            }
+        }
+        if (available && !replicaAvailable) {
+            log.info("Read-only transactions are served by the replica");
+        }
+        replicaAvailable = available;
+    }
+
+    private boolean isRoutedToReplica() {
+        return replicaAvailable && REPLICA_READ.get()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void markReplicaUnavailable(SQLException e) {
+        replicaAvailable = false;
+        log.warn("Replica connection failed, reads are served by the primary: {}", e.getMessage());
+    }
+
+    /**
+     * @return replication lag in seconds, null if unknown (replication stopped or not configured)
+     */
+    private Double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            int column = 1;
+            for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+                if (MYSQL_LAG_COLUMN.equalsIgnoreCase(resultSet.getMetaData().getColumnLabel(i))) {
+                    column = i;
+                    break;
+                }
+            }
+            double lag = resultSet.getDouble(column);
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+}
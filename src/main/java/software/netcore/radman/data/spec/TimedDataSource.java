@@ -0,0 +1,56 @@
+package software.netcore.radman.data.spec;
+
+import org.apache.tomcat.jdbc.pool.DataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tomcat JDBC pool keeping the number of connection requests and the time spent waiting for them,
+ * which the pool itself does not track.
+ *
+ * @since v. 1.0.3
+ */
+public class TimedDataSource extends DataSource {
+
+    private final LongAdder connectionRequests = new LongAdder();
+    private final LongAdder connectionWaitNanos = new LongAdder();
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            record(start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            record(start);
+        }
+    }
+
+    public long getConnectionRequests() {
+        return connectionRequests.sum();
+    }
+
+    /**
+     * @return total time spent waiting for connections, including creation of new connections
+     */
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos.sum();
+    }
+
+    private void record(long start) {
+        connectionWaitNanos.add(System.nanoTime() - start);
+        connectionRequests.increment();
+    }
+
+}
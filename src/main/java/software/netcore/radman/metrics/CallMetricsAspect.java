@@ -0,0 +1,191 @@
+package software.netcore.radman.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+import software.netcore.radman.data.spec.BaseBatchRepository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times calls of the Radius / RadMan DB repositories and of the public service methods:
+ * <ul>
+ * <li>"radman.repository.calls" - timer tagged by database, repository, operation, outcome and exception</li>
+ * <li>"radman.repository.rows" - rows returned by finders (or written by bulk writes), tagged by database,
+ * repository and operation</li>
+ * <li>"radman.service.calls" - timer tagged by service, operation, outcome and exception</li>
+ * </ul>
+ * Failed calls are timed with the "error" outcome, so error counts are the counts of these timers. Calls
+ * returning a stream are timed until the stream is returned, not until it is consumed.
+ *
+ * @since v. 1.0.3
+ */
+@Aspect
+@RequiredArgsConstructor
+public class CallMetricsAspect {
+
+    static final String RADIUS_DATABASE = "radius";
+    static final String RADMAN_DATABASE = "radman";
+
+    private static final String REPOSITORY_CALLS = "radman.repository.calls";
+    private static final String REPOSITORY_ROWS = "radman.repository.rows";
+    private static final String SERVICE_CALLS = "radman.service.calls";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final MetricsProperties properties;
+
+    // meters of successful calls, looked up on every call
+    private final Map<String, CallMeters> callMeters = new ConcurrentHashMap<>();
+
+    @Pointcut("target(software.netcore.radman.data.radius.spec.RadiusRepository) " +
+            "|| target(software.netcore.radman.data.radius.repo.RadiusBulkWriteRepo)")
+    void radiusRepository() {
+    }
+
+    @Pointcut("target(software.netcore.radman.data.internal.spec.RadmanRepository) " +
+            "|| target(software.netcore.radman.data.internal.repo.BulkWriteRepo)")
+    void radmanRepository() {
+    }
+
+    @Pointcut("execution(public * software.netcore.radman.buisness.service..*Service.*(..))")
+    void serviceMethod() {
+    }
+
+    @Around("radiusRepository() && execution(public * *(..))")
+    public Object timeRadiusRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeRepositoryCall(joinPoint, RADIUS_DATABASE);
+    }
+
+    @Around("radmanRepository() && execution(public * *(..))")
+    public Object timeRadmanRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeRepositoryCall(joinPoint, RADMAN_DATABASE);
+    }
+
+    @Around("serviceMethod()")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        String service = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        String operation = joinPoint.getSignature().getName();
+        CallMeters meters = callMeters.computeIfAbsent(service + '#' + operation,
+                key -> new CallMeters(Timer.builder(SERVICE_CALLS)
+                        .tags("service", service, "operation", operation,
+                                "outcome", OUTCOME_SUCCESS, "exception", NO_EXCEPTION)
+                        .register(meterRegistry), null));
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            meters.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            Timer.builder(SERVICE_CALLS)
+                    .tags("service", service, "operation", operation,
+                            "outcome", OUTCOME_ERROR, "exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Object timeRepositoryCall(ProceedingJoinPoint joinPoint, String database) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        Object target = joinPoint.getTarget();
+        String operation = joinPoint.getSignature().getName();
+        CallMeters meters = callMeters.computeIfAbsent(target.getClass().getName() + '#' + operation, key -> {
+            String repository = getRepositoryName(target);
+            return new CallMeters(Timer.builder(REPOSITORY_CALLS)
+                    .tags("database", database, "repository", repository, "operation", operation,
+                            "outcome", OUTCOME_SUCCESS, "exception", NO_EXCEPTION)
+                    .register(meterRegistry),
+                    DistributionSummary.builder(REPOSITORY_ROWS)
+                            .baseUnit("rows")
+                            .tags("database", database, "repository", repository, "operation", operation)
+                            .register(meterRegistry));
+        });
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            meters.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            long rows = countRows(target, result);
+            if (rows >= 0) {
+                meters.rows.record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            Timer.builder(REPOSITORY_CALLS)
+                    .tags("database", database, "repository", getRepositoryName(target), "operation", operation,
+                            "outcome", OUTCOME_ERROR, "exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * @return name of the repository interface of a Spring Data repository, class name of the others
+     */
+    private static String getRepositoryName(Object target) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(target.getClass())) {
+            if (Repository.class.isAssignableFrom(type) && !type.isAnnotationPresent(NoRepositoryBean.class)
+                    && type != Repository.class) {
+                return type.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(target).getSimpleName();
+    }
+
+    /**
+     * @return number of returned (or written) rows, -1 if the result is not a row set
+     */
+    private static long countRows(Object target, Object result) {
+        if (Objects.isNull(result)) {
+            return -1;
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (target instanceof BaseBatchRepository && result instanceof Integer) {
+            return (Integer) result;
+        }
+        return -1;
+    }
+
+    private static class CallMeters {
+
+        private final Timer timer;
+        private final DistributionSummary rows;
+
+        CallMeters(Timer timer, DistributionSummary rows) {
+            this.timer = timer;
+            this.rows = rows;
+        }
+
+    }
+
+}
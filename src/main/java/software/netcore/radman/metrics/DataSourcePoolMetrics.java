@@ -0,0 +1,88 @@
+package software.netcore.radman.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import software.netcore.radman.data.spec.TimedDataSource;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Live state of the Tomcat JDBC pools, tagged by the data source name ("radius" / "radman"):
+ * <ul>
+ * <li>"jdbc.pool.active", "jdbc.pool.idle", "jdbc.pool.size", "jdbc.pool.max" - connections</li>
+ * <li>"jdbc.pool.pending" - threads waiting for a connection</li>
+ * <li>"jdbc.pool.borrowed", "jdbc.pool.created", "jdbc.pool.released", "jdbc.pool.abandoned" - counters</li>
+ * <li>"jdbc.pool.wait" - time spent waiting for connections</li>
+ * </ul>
+ *
+ * @since v. 1.0.3
+ */
+@RequiredArgsConstructor
+public class DataSourcePoolMetrics implements MeterBinder {
+
+    private static final String DATA_SOURCE_SUFFIX = "DataSource";
+
+    /**
+     * Data sources by their bean names.
+     */
+    @NonNull
+    private final Map<String, TimedDataSource> dataSources;
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        dataSources.forEach((beanName, dataSource) -> {
+            Tags tags = Tags.of("name", getName(beanName));
+            gauge(registry, "jdbc.pool.active", "Connections in use", dataSource, TimedDataSource::getActive,
+                    tags);
+            gauge(registry, "jdbc.pool.idle", "Idle connections", dataSource, TimedDataSource::getIdle, tags);
+            gauge(registry, "jdbc.pool.size", "Open connections", dataSource, TimedDataSource::getSize, tags);
+            gauge(registry, "jdbc.pool.max", "Maximum number of connections", dataSource,
+                    TimedDataSource::getMaxActive, tags);
+            gauge(registry, "jdbc.pool.pending", "Threads waiting for a connection", dataSource,
+                    TimedDataSource::getWaitCount, tags);
+            counter(registry, "jdbc.pool.borrowed", "Connections borrowed from the pool", dataSource,
+                    TimedDataSource::getBorrowedCount, tags);
+            counter(registry, "jdbc.pool.created", "Connections opened", dataSource,
+                    TimedDataSource::getCreatedCount, tags);
+            counter(registry, "jdbc.pool.released", "Connections closed", dataSource,
+                    TimedDataSource::getReleasedCount, tags);
+            counter(registry, "jdbc.pool.abandoned", "Abandoned connections removed from the pool", dataSource,
+                    TimedDataSource::getRemoveAbandonedCount, tags);
+            FunctionTimer.builder("jdbc.pool.wait", dataSource, TimedDataSource::getConnectionRequests,
+                    TimedDataSource::getConnectionWaitNanos, TimeUnit.NANOSECONDS)
+                    .description("Time spent waiting for connections")
+                    .tags(tags)
+                    .register(registry);
+        });
+    }
+
+    private static void gauge(MeterRegistry registry, String name, String description, TimedDataSource dataSource,
+                              ToDoubleFunction<TimedDataSource> value, Tags tags) {
+        Gauge.builder(name, dataSource, value)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, String description,
+                                TimedDataSource dataSource, ToDoubleFunction<TimedDataSource> value, Tags tags) {
+        FunctionCounter.builder(name, dataSource, value)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static String getName(String beanName) {
+        return beanName.endsWith(DATA_SOURCE_SUFFIX)
+                ? beanName.substring(0, beanName.length() - DATA_SOURCE_SUFFIX.length()) : beanName;
+    }
+
+}
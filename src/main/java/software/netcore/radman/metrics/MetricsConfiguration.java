@@ -0,0 +1,44 @@
+package software.netcore.radman.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.netcore.radman.data.spec.TimedDataSource;
+
+import java.util.Map;
+
+/**
+ * @since v. 1.0.3
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TimedDataSource> dataSources;
+
+    @Autowired
+    public MetricsConfiguration(MeterRegistry meterRegistry,
+                                Map<String, TimedDataSource> dataSources) {
+        this.meterRegistry = meterRegistry;
+        this.dataSources = dataSources;
+    }
+
+    @Bean
+    @ConfigurationProperties("metrics")
+    MetricsProperties metricsProperties() {
+        return new MetricsProperties();
+    }
+
+    @Bean
+    CallMetricsAspect callMetricsAspect() {
+        return new CallMetricsAspect(meterRegistry, metricsProperties());
+    }
+
+    @Bean
+    DataSourcePoolMetrics dataSourcePoolMetrics() {
+        return new DataSourcePoolMetrics(dataSources);
+    }
+
+}
@@ -0,0 +1,20 @@
+package software.netcore.radman.metrics;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @since v. 1.0.3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MetricsProperties {
+
+    /**
+     * Whether repository and service calls are timed.
+     */
+    private boolean enabled = true;
+
+}
@@ -0,0 +1,40 @@
+package software.netcore.radman.ui.component;
+
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.server.StreamResource;
+import lombok.NonNull;
+import software.netcore.radman.buisness.service.export.dto.ExportFormat;
+
+import java.io.OutputStream;
+
+/**
+ * Download links of an export, one per {@link ExportFormat}. The export is written straight to the
+ * response when a link is clicked, nothing is prepared ahead.
+ *
+ * @since v. 1.0.3
+ */
+public class ExportLinks extends HorizontalLayout {
+
+    private static final long serialVersionUID = -2587013934615282470L;
+
+    @FunctionalInterface
+    public interface ExportWriter {
+
+        void export(ExportFormat format, OutputStream out);
+
+    }
+
+    public ExportLinks(@NonNull String fileName, @NonNull ExportWriter exportWriter) {
+        setSpacing(true);
+        for (ExportFormat format : ExportFormat.values()) {
+            StreamResource resource = new StreamResource(fileName + "." + format.getFileExtension(),
+                    (stream, session) -> exportWriter.export(format, stream));
+            resource.setContentType(format.getContentType());
+            Anchor anchor = new Anchor(resource, "Export " + format.getFileExtension().toUpperCase());
+            anchor.getElement().setAttribute("download", true);
+            add(anchor);
+        }
+    }
+
+}
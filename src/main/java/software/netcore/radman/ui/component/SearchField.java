@@ -0,0 +1,45 @@
+package software.netcore.radman.ui.component;
+
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import lombok.NonNull;
+
+import java.util.Objects;
+
+/**
+ * Search field shared by the grid views. The value is sent to the server only after the user stops typing
+ * for {@link #DEFAULT_TIMEOUT} milliseconds, so only the last typed value is searched. A value equal to the
+ * last searched one (e.g. after typing and deleting a character) does not trigger a new search.
+ *
+ * @since v. 1.0.3
+ */
+public class SearchField extends TextField {
+
+    private static final long serialVersionUID = -3411245018837725431L;
+
+    public static final int DEFAULT_TIMEOUT = 400;
+
+    @FunctionalInterface
+    public interface SearchListener {
+
+        void onSearch(String searchText);
+
+    }
+
+    private String lastSearchText;
+
+    public SearchField(@NonNull SearchListener searchListener) {
+        setValueChangeMode(ValueChangeMode.LAZY);
+        setValueChangeTimeout(DEFAULT_TIMEOUT);
+        setPlaceholder("Search...");
+        setClearButtonVisible(true);
+        addValueChangeListener(event -> {
+            String searchText = event.getValue().trim();
+            if (!Objects.equals(searchText, lastSearchText)) {
+                lastSearchText = searchText;
+                searchListener.onSearch(searchText);
+            }
+        });
+    }
+
+}
@@ -65,6 +65,7 @@ public class MenuTemplate extends PolymerTemplate<MenuTemplate.MenuTemplateModel
         addNavigation(NasGroupsView.class, "NAS groups");
         addNavigation(AuthView.class, "Auth (AA)");
         addNavigation(AccountingView.class, "Accounting");
+        addNavigation(AccountingUsageView.class, "Accounting usage");
         addNavigation(UserToGroupView.class, "User/Group");
         addSeparator();
         addCategoryName("System");
@@ -0,0 +1,60 @@
+package software.netcore.radman.ui.notification;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Label;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import software.netcore.radman.buisness.service.provisioning.dto.ProvisioningReport;
+
+import java.util.Objects;
+
+/**
+ * @since v. 1.0.3
+ */
+public class ProvisioningReportNotification {
+
+    private static final int SHOWN_ERRORS = 5;
+
+    public static void show(String title, ProvisioningReport report) {
+        Notification notification = new Notification();
+        notification.setDuration(report.getErrored() > 0 ? 15000 : 5000);
+        notification.add(new H3(title));
+        VerticalLayout description = new VerticalLayout();
+        description.setMargin(false);
+        description.setSpacing(false);
+        description.setDefaultHorizontalComponentAlignment(FlexComponent.Alignment.CENTER);
+        description.add(row(label("Rows", "100px"), label(report.getRows())));
+        description.add(row(label("Provisioned", "100px"), label(report.getProvisioned())));
+        description.add(row(label("Errored", "100px"), label(report.getErrored())));
+        report.getErrors().stream()
+                .limit(SHOWN_ERRORS)
+                .forEach(error -> description.add(row(label("Row " + error.getRowNumber(), "100px"),
+                        label(error.getMessage()))));
+        notification.add(description);
+        notification.setPosition(Notification.Position.TOP_END);
+        notification.open();
+    }
+
+    private static Label label(Object value) {
+        return label(value, null);
+    }
+
+    private static Label label(Object value, String width) {
+        Label label = new Label(String.valueOf(value));
+        if (Objects.nonNull(width)) {
+            label.setWidth(width);
+        }
+        return label;
+    }
+
+    private static HorizontalLayout row(Component... components) {
+        HorizontalLayout layout = new HorizontalLayout();
+        layout.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.START);
+        layout.add(components);
+        return layout;
+    }
+
+}
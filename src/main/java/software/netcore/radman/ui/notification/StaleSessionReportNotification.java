@@ -0,0 +1,53 @@
+package software.netcore.radman.ui.notification;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Label;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import software.netcore.radman.buisness.service.accounting.dto.StaleSessionReport;
+
+import java.util.Objects;
+
+/**
+ * @since v. 1.0.3
+ */
+public class StaleSessionReportNotification {
+
+    public static void show(String title, StaleSessionReport report) {
+        Notification notification = new Notification();
+        notification.setDuration(5000);
+        notification.add(new H3(title));
+        VerticalLayout description = new VerticalLayout();
+        description.setMargin(false);
+        description.setSpacing(false);
+        description.setDefaultHorizontalComponentAlignment(FlexComponent.Alignment.CENTER);
+        description.add(row(label("Checked", "100px"), label(report.getCheckedSessions())));
+        description.add(row(label("Closed", "100px"), label(report.getClosedSessions())));
+        notification.add(description);
+        notification.setPosition(Notification.Position.TOP_END);
+        notification.open();
+    }
+
+    private static Label label(Object value) {
+        return label(value, null);
+    }
+
+    private static Label label(Object value, String width) {
+        Label label = new Label(String.valueOf(value));
+        if (Objects.nonNull(width)) {
+            label.setWidth(width);
+        }
+        return label;
+    }
+
+    private static HorizontalLayout row(Component... components) {
+        HorizontalLayout layout = new HorizontalLayout();
+        layout.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.START);
+        layout.add(components);
+        return layout;
+    }
+
+}
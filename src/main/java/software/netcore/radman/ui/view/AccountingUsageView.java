@@ -0,0 +1,118 @@
+package software.netcore.radman.ui.view;
+
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.H4;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.time.DurationFormatUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.vaadin.artur.spring.dataprovider.SpringDataProviderBuilder;
+import software.netcore.radman.buisness.service.accounting.AccountingRollupService;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingUsageDto;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingUsageFilter;
+import software.netcore.radman.buisness.service.accounting.dto.UsageSubjectDto;
+import software.netcore.radman.buisness.service.accounting.dto.UsageWindowDto;
+import software.netcore.radman.ui.component.SearchField;
+import software.netcore.radman.ui.menu.MenuTemplate;
+
+import java.util.Objects;
+
+/**
+ * @since v. 1.0.3
+ */
+@Slf4j
+@PageTitle("RadMan: Accounting usage")
+@Route(value = "accounting_usage", layout = MenuTemplate.class)
+public class AccountingUsageView extends VerticalLayout {
+
+    private static final long serialVersionUID = -2735290553624416711L;
+
+    private final AccountingUsageFilter filter = new AccountingUsageFilter();
+    private final AccountingRollupService accountingRollupService;
+
+    @Autowired
+    public AccountingUsageView(AccountingRollupService accountingRollupService) {
+        this.accountingRollupService = accountingRollupService;
+        buildView();
+    }
+
+    private void buildView() {
+        setHeightFull();
+        setSpacing(false);
+
+        Grid<AccountingUsageDto> grid = new Grid<>(AccountingUsageDto.class, false);
+        grid.addColumn(AccountingUsageDto::getPeriodStart).setSortProperty("periodStart").setHeader("Period");
+        grid.addColumn(AccountingUsageDto::getSubject).setSortProperty("subject").setHeader("Subject");
+        grid.addColumn(AccountingUsageDto::getSessionCount).setSortProperty("sessionCount").setHeader("Sessions");
+        grid.addColumn(usage -> DurationFormatUtils.formatDurationHMS(usage.getSessionTime() * 1000))
+                .setSortProperty("sessionTime").setHeader("Session Time");
+        grid.addColumn(AccountingUsageDto::getInputOctets).setSortProperty("inputOctets").setHeader("Input Octets");
+        grid.addColumn(AccountingUsageDto::getOutputOctets).setSortProperty("outputOctets")
+                .setHeader("Output Octets");
+        DataProvider<AccountingUsageDto, Object> dataProvider = new SpringDataProviderBuilder<>(
+                (pageable, o) -> accountingRollupService.pageUsage(filter, pageable),
+                value -> accountingRollupService.countUsage(filter))
+                .withDefaultSort("periodStart", SortDirection.DESCENDING)
+                .withDefaultSort("subject", SortDirection.ASCENDING)
+                .build();
+        grid.setDataProvider(dataProvider);
+        grid.getColumns().forEach(column -> column.setResizable(true));
+        grid.setColumnReorderingAllowed(true);
+        grid.setMinHeight("500px");
+        grid.setHeight("100%");
+        Runnable refreshGrid = () -> grid.getDataProvider().refreshAll();
+
+        SearchField search = new SearchField(searchText -> {
+            filter.setSearchText(searchText);
+            refreshGrid.run();
+        });
+        ComboBox<UsageSubjectDto> subject = new ComboBox<>();
+        subject.setItems(UsageSubjectDto.values());
+        subject.setValue(filter.getSubject());
+        subject.setAllowCustomValue(false);
+        subject.addValueChangeListener(event -> {
+            if (Objects.nonNull(event.getValue())) {
+                filter.setSubject(event.getValue());
+                refreshGrid.run();
+            }
+        });
+        ComboBox<UsageWindowDto> window = new ComboBox<>();
+        window.setItems(UsageWindowDto.values());
+        window.setValue(filter.getWindow());
+        window.setAllowCustomValue(false);
+        window.addValueChangeListener(event -> {
+            if (Objects.nonNull(event.getValue())) {
+                filter.setWindow(event.getValue());
+                refreshGrid.run();
+            }
+        });
+        DatePicker from = new DatePicker(filter.getFrom(), event -> {
+            filter.setFrom(event.getValue());
+            refreshGrid.run();
+        });
+        from.setPlaceholder("From");
+        DatePicker to = new DatePicker(filter.getTo(), event -> {
+            filter.setTo(event.getValue());
+            refreshGrid.run();
+        });
+        to.setPlaceholder("To");
+
+        add(new H4("Data from RadMan DB - usage rolled up from \"radacct\" table"));
+        HorizontalLayout horizontalLayout = new HorizontalLayout();
+        horizontalLayout.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.BASELINE);
+        horizontalLayout.add(new H3("Accounting usage"));
+        horizontalLayout.add(subject, window, from, to, search);
+        add(horizontalLayout);
+        add(grid);
+    }
+
+}
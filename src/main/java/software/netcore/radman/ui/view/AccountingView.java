@@ -2,11 +2,13 @@ package software.netcore.radman.ui.view;
 
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.checkbox.Checkbox;
+import com.vaadin.flow.component.datepicker.DatePicker;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.H3;
 import com.vaadin.flow.component.html.H4;
 import com.vaadin.flow.component.html.Hr;
+import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
@@ -26,15 +28,21 @@ import software.netcore.radman.buisness.exception.NotFoundException;
 import software.netcore.radman.buisness.service.accounting.AccountingService;
 import software.netcore.radman.buisness.service.accounting.dto.AccountingDto;
 import software.netcore.radman.buisness.service.accounting.dto.AccountingFilter;
+import software.netcore.radman.buisness.service.accounting.dto.AccountingKeysetIndex;
+import software.netcore.radman.buisness.service.export.ExportService;
 import software.netcore.radman.ui.UpdateListener;
+import software.netcore.radman.ui.component.ExportLinks;
+import software.netcore.radman.ui.component.SearchField;
 import software.netcore.radman.ui.menu.MenuTemplate;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @since v. 1.0.0
@@ -47,11 +55,14 @@ public class AccountingView extends VerticalLayout {
     private static final long serialVersionUID = 3707074325227335832L;
 
     private final AccountingFilter filter = new AccountingFilter();
+    private final AccountingKeysetIndex keysetIndex = new AccountingKeysetIndex();
     private final AccountingService accountingService;
+    private final ExportService exportService;
 
     @Autowired
-    public AccountingView(AccountingService accountingService) {
+    public AccountingView(AccountingService accountingService, ExportService exportService) {
         this.accountingService = accountingService;
+        this.exportService = exportService;
         buildView();
     }
 
@@ -89,9 +100,22 @@ public class AccountingView extends VerticalLayout {
         grid.addColumns("acctUniqueId", "acctUpdateTime", "calledStationId",
                 "connectInfoStart", "connectInfoStop", "nasPortId", "nasPortType", "radAcctId", "realm");
 
+        // the grid counts once per refresh (filter change), page fetches reuse the count as their total
+        AtomicLong total = new AtomicLong();
         DataProvider<AccountingDto, Object> dataProvider = new SpringDataProviderBuilder<>(
-                (pageable, o) -> accountingService.pageAccountingRecords(filter, pageable),
-                value -> accountingService.countAccountingRecords(filter))
+                (pageable, o) -> filter.isSearchArchive()
+                        ? accountingService.pageArchivedAccountingRecords(filter, pageable, total::get)
+                        : accountingService.pageAccountingRecords(filter, pageable, keysetIndex, total::get),
+                value -> {
+                    if (filter.isSearchArchive()) {
+                        total.set(accountingService.countArchivedAccountingRecords(filter));
+                        return total.get();
+                    }
+                    // the grid recounts on every refresh, positions recorded before it are stale
+                    keysetIndex.clear();
+                    total.set(accountingService.countAccountingRecords(filter));
+                    return total.get();
+                })
                 .withDefaultSort("acctStartTime", SortDirection.DESCENDING)
                 .build();
         grid.setDataProvider(dataProvider);
@@ -100,12 +124,69 @@ public class AccountingView extends VerticalLayout {
         grid.setMinHeight("500px");
         grid.setHeight("100%");
 
-        TextField search = new TextField(event -> {
-            filter.setSearchText(event.getValue());
+        Span activeSessions = new Span();
+        HorizontalLayout exportLinks = new HorizontalLayout();
+        Runnable refreshExportLinks = () -> {
+            // the links export a snapshot of the filter, the download runs on another thread
+            AccountingFilter exportFilter = filter.copy();
+            exportLinks.removeAll();
+            exportLinks.add(new ExportLinks("accounting",
+                    (format, out) -> exportService.exportAccounting(exportFilter, format, out)));
+        };
+        refreshExportLinks.run();
+        Runnable refreshGrid = () -> {
             grid.getDataProvider().refreshAll();
+            refreshExportLinks.run();
+            activeSessions.setText("Active sessions: " + accountingService.countActiveSessions());
+        };
+        SearchField search = new SearchField(searchText -> {
+            filter.setSearchText(searchText);
+            refreshGrid.run();
+        });
+        search.setPlaceholder("Username...");
+        Checkbox freeTextSearch = new Checkbox("Search in all columns");
+        freeTextSearch.setValue(filter.isFreeTextSearch());
+        freeTextSearch.addValueChangeListener(event -> {
+            filter.setFreeTextSearch(event.getValue());
+            search.setPlaceholder(event.getValue() ? "Search..." : "Username...");
+            refreshGrid.run();
         });
-        search.setValueChangeMode(ValueChangeMode.EAGER);
-        search.setPlaceholder("Search...");
+
+        TextField nasIpAddress = new TextField(event -> {
+            filter.setNasIpAddress(event.getValue());
+            refreshGrid.run();
+        });
+        nasIpAddress.setValueChangeMode(ValueChangeMode.ON_CHANGE);
+        nasIpAddress.setPlaceholder("NAS IP address");
+        TextField callingStationId = new TextField(event -> {
+            filter.setCallingStationId(event.getValue());
+            refreshGrid.run();
+        });
+        callingStationId.setValueChangeMode(ValueChangeMode.ON_CHANGE);
+        callingStationId.setPlaceholder("Calling station ID");
+        TextField framedIpAddress = new TextField(event -> {
+            filter.setFramedIpAddress(event.getValue());
+            refreshGrid.run();
+        });
+        framedIpAddress.setValueChangeMode(ValueChangeMode.ON_CHANGE);
+        framedIpAddress.setPlaceholder("Framed IP address");
+        TextField acctTerminateCause = new TextField(event -> {
+            filter.setAcctTerminateCause(event.getValue());
+            refreshGrid.run();
+        });
+        acctTerminateCause.setValueChangeMode(ValueChangeMode.ON_CHANGE);
+        acctTerminateCause.setPlaceholder("Terminate cause");
+        DatePicker acctStartTimeFrom = new DatePicker(event -> {
+            filter.setAcctStartTimeFrom(toDate(event.getValue()));
+            refreshGrid.run();
+        });
+        acctStartTimeFrom.setPlaceholder("Started from");
+        DatePicker acctStartTimeTo = new DatePicker(event -> {
+            // the whole selected day is included
+            filter.setAcctStartTimeTo(toDate(Objects.isNull(event.getValue()) ? null : event.getValue().plusDays(1)));
+            refreshGrid.run();
+        });
+        acctStartTimeTo.setPlaceholder("Started to");
 
         SetAcctStopTimeDialog setAcctStopTimeDialog = new SetAcctStopTimeDialog((source, bean)
                 -> grid.getDataProvider().refreshItem(bean));
@@ -115,14 +196,26 @@ public class AccountingView extends VerticalLayout {
         });
         setAcctStopTimeButton.setEnabled(false);
 
-        grid.asSingleSelect().addValueChangeListener(event
-                -> setAcctStopTimeButton.setEnabled(Objects.nonNull(event.getValue())));
+        grid.asSingleSelect().addValueChangeListener(event -> setAcctStopTimeButton
+                .setEnabled(Objects.nonNull(event.getValue()) && !filter.isSearchArchive()));
 
         Checkbox onlyActiveSessions = new Checkbox("Filter only active sessions");
         onlyActiveSessions.setValue(filter.isSearchOnlyActiveSessions());
         onlyActiveSessions.addValueChangeListener(event -> {
             filter.setSearchOnlyActiveSessions(event.getValue());
-            grid.getDataProvider().refreshAll();
+            refreshGrid.run();
+        });
+        Checkbox searchArchive = new Checkbox("Search archive");
+        searchArchive.setValue(filter.isSearchArchive());
+        searchArchive.addValueChangeListener(event -> {
+            // archive contains closed sessions only
+            if (event.getValue()) {
+                onlyActiveSessions.setValue(false);
+            }
+            onlyActiveSessions.setEnabled(!event.getValue());
+            filter.setSearchArchive(event.getValue());
+            grid.asSingleSelect().clear();
+            refreshGrid.run();
         });
 
         add(new H4("Data from Radius DB - \"radacct\" table"));
@@ -131,9 +224,26 @@ public class AccountingView extends VerticalLayout {
         horizontalLayout.add(new H3("Accounting"));
         horizontalLayout.add(setAcctStopTimeButton);
         horizontalLayout.add(search);
+        horizontalLayout.add(freeTextSearch);
         horizontalLayout.add(onlyActiveSessions);
+        horizontalLayout.add(searchArchive);
+        horizontalLayout.add(activeSessions);
+        horizontalLayout.add(exportLinks);
         add(horizontalLayout);
+        HorizontalLayout filterLayout = new HorizontalLayout();
+        filterLayout.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.BASELINE);
+        filterLayout.add(nasIpAddress, callingStationId, framedIpAddress, acctTerminateCause,
+                acctStartTimeFrom, acctStartTimeTo);
+        add(filterLayout);
         add(grid);
+        activeSessions.setText("Active sessions: " + accountingService.countActiveSessions());
+    }
+
+    private Date toDate(LocalDate localDate) {
+        if (Objects.isNull(localDate)) {
+            return null;
+        }
+        return Date.from(localDate.atStartOfDay(TimeZone.getDefault().toZoneId()).toInstant());
     }
 
     private class SetAcctStopTimeDialog extends Dialog {
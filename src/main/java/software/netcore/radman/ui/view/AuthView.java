@@ -10,6 +10,7 @@ import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H3;
 import com.vaadin.flow.component.html.H4;
 import com.vaadin.flow.component.html.Hr;
+import com.vaadin.flow.component.html.Label;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
@@ -19,6 +20,8 @@ import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.function.SerializableFunction;
 import com.vaadin.flow.function.ValueProvider;
@@ -30,6 +33,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.vaadin.artur.spring.dataprovider.SpringDataProviderBuilder;
 import software.netcore.radman.buisness.service.attribute.AttributeService;
 import software.netcore.radman.buisness.service.attribute.dto.AttributeDto;
 import software.netcore.radman.buisness.service.attribute.dto.AttributeFilter;
@@ -37,6 +41,8 @@ import software.netcore.radman.buisness.service.attribute.dto.AuthenticationAttr
 import software.netcore.radman.buisness.service.attribute.dto.AuthorizationAttributeDto;
 import software.netcore.radman.buisness.service.auth.AuthService;
 import software.netcore.radman.buisness.service.auth.dto.*;
+import software.netcore.radman.buisness.service.export.ExportService;
+import software.netcore.radman.buisness.service.export.dto.ExportTable;
 import software.netcore.radman.buisness.service.security.SecurityService;
 import software.netcore.radman.buisness.service.user.radius.RadiusUserService;
 import software.netcore.radman.buisness.service.user.radius.dto.RadiusGroupDto;
@@ -46,6 +52,8 @@ import software.netcore.radman.buisness.service.user.radius.dto.RadiusUserFilter
 import software.netcore.radman.buisness.service.user.system.dto.RoleDto;
 import software.netcore.radman.ui.CreationListener;
 import software.netcore.radman.ui.component.ConfirmationDialog;
+import software.netcore.radman.ui.component.ExportLinks;
+import software.netcore.radman.ui.component.SearchField;
 import software.netcore.radman.ui.converter.AttributeDtoToNameConverter;
 import software.netcore.radman.ui.converter.RadiusGroupDtoToNameConverter;
 import software.netcore.radman.ui.converter.RadiusUserDtoToNameConverter;
@@ -71,17 +79,18 @@ public class AuthView extends VerticalLayout {
     private final RadiusUserService userService;
     private final AttributeService attributeService;
     private final SecurityService securityService;
+    private final ExportService exportService;
 
-    // columnsList is a class variable that stores the list of table columns for later reference
-    private Map<String, String> columnsList;
 
     @Autowired
     public AuthView(AuthService authService, RadiusUserService userService,
-                    AttributeService attributeService, SecurityService securityService) {
+                    AttributeService attributeService, SecurityService securityService,
+                    ExportService exportService) {
         this.authService = authService;
         this.userService = userService;
         this.attributeService = attributeService;
         this.securityService = securityService;
+        this.exportService = exportService;
         buildView();
     }
 
@@ -92,11 +101,13 @@ public class AuthView extends VerticalLayout {
         add(new AuthorizationGrid());
     }
 
-    private abstract class AuthGrid<T extends AuthsDto, U extends AuthDto> extends Div {
+    private abstract class AuthGrid<U extends AuthDto> extends Div {
 
         private final Filter filter = new Filter();
         private final ConfirmationDialog deleteDialog;
-        final Grid<Map<String, String>> grid;
+        // columns spec the grid columns were built from
+        private Map<String, String> columnsList;
+        final Grid<AuthRowDto> grid;
 
         AuthGrid() {
             setWidth("100%");
@@ -104,37 +115,22 @@ public class AuthView extends VerticalLayout {
             grid = new Grid<>();
             deleteDialog = new ConfirmationDialog("400px");
             deleteDialog.setTitle("Delete assigned attributes");
+            Select<AuthRowDto.Entry> deletedEntry = new Select<>();
+            deletedEntry.setItemLabelGenerator(entry -> entry.getAttribute() + " " + entry.getOpValue());
+            deletedEntry.setTextRenderer(entry -> entry.getAttribute() + " " + entry.getOpValue());
+            deletedEntry.setEmptySelectionAllowed(false);
+            deletedEntry.setWidthFull();
             deleteDialog.setConfirmListener(() -> {
-                refreshColumnsList();
-                Optional<Map<String, String>> optional = grid.getSelectionModel().getFirstSelectedItem();
+                Optional<AuthRowDto> optional = grid.getSelectionModel().getFirstSelectedItem();
                 optional.ifPresent(row -> {
-                    String name = row.get("name");
-                    String type = row.get("type");
-                    // Since we're deleting single attributes that might have recurrent names but different operations and
-                    // values, adding value, operator and attribute forms a more complex composite key that only deletes individual records
-                    String value = "";
-                    String operator = "";
-                    String attribute = "";
-                    for (String key : columnsList.keySet()) {
-                        // {}, :, name and type are always guaranteed to appear in the array as it stands.  Below statement only
-                        // processes the key if it isn't one of said keys or Vaadin crashes
-                        if (!key.equals("{}") && !key.equals(":") && !key.equals("type") && !key.equals("name")) {
-                            // If row is not empty e.g. contains a value (since there will be a lot of blank columns when the
-                            // attributes list increases (and Vaadin returns null for empty columns)
-                            if (row.get(key) != null) {
-                                // Value is always three characters offset (two for operator, one for a whitespace)
-                                value = row.get(key).substring(3);
-                                // Operator is always at the start of the string and takes up two characters
-                                operator = row.get(key).substring(0,2);
-                                // Attribute is already filtered
-                                attribute = key;
-                            }
-
-                        }
+                    AuthRowDto.Entry entry = deletedEntry.getValue();
+                    if (Objects.isNull(entry)) {
+                        return;
                     }
                     try {
-                        // Delete the record with a composite lookup of name, type, attribute, operator and field
-                        deleteAssigment(name, type, attribute, operator, value);
+                        // the whole record is the key, multi-valued attributes may repeat name and attribute
+                        deleteAssigment(row.getName(), row.getAuthTarget().getValue(), entry.getAttribute(),
+                                entry.getOp(), entry.getValue());
                         deleteDialog.setOpened(false);
                         refreshGrid();
                     } catch (Exception e) {
@@ -148,10 +144,13 @@ public class AuthView extends VerticalLayout {
             Button assignBtn = new Button("Assign attribute", event -> getAssigmentDialog().startAssigment());
             assignBtn.setEnabled(role == RoleDto.ADMIN);
             Button deleteBtn = new Button("Delete", event -> {
-                Optional<Map<String, String>> optional = grid.getSelectionModel().getFirstSelectedItem();
+                Optional<AuthRowDto> optional = grid.getSelectionModel().getFirstSelectedItem();
                 optional.ifPresent(row -> {
-                    // Make the dialog box more generic now that it supports MV attributes
-                    deleteDialog.setDescription("Are you sure you want to delete the selected row?");
+                    // a row holds all records of its user or group, one of them is deleted
+                    deletedEntry.setItems(row.getEntries());
+                    deletedEntry.setValue(row.getEntries().isEmpty() ? null : row.getEntries().get(0));
+                    deleteDialog.setContent(new Label("Select the attribute of '" + row.getName()
+                            + "' to delete:"), deletedEntry);
                     deleteDialog.setOpened(true);
                 });
             });
@@ -160,12 +159,18 @@ public class AuthView extends VerticalLayout {
             grid.asSingleSelect().addValueChangeListener(event ->
                     deleteBtn.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN));
 
-            TextField search = new TextField(event -> {
-                filter.setSearchText(event.getValue());
-                refreshGrid();
+            DataProvider<AuthRowDto, Object> dataProvider = new SpringDataProviderBuilder<>(
+                    (pageable, o) -> pageAuths(filter, pageable),
+                    value -> countAuths(filter))
+                    .withDefaultSort("name", SortDirection.ASCENDING)
+                    .build();
+            grid.setDataProvider(dataProvider);
+
+            SearchField search = new SearchField(searchText -> {
+                filter.setSearchText(searchText);
+                // the attribute catalog, and so the columns, do not change by searching
+                grid.getDataProvider().refreshAll();
             });
-            search.setValueChangeMode(ValueChangeMode.EAGER);
-            search.setPlaceholder("Search...");
 
             HorizontalLayout horizontalLayout = new HorizontalLayout();
             horizontalLayout.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.BASELINE);
@@ -173,6 +178,8 @@ public class AuthView extends VerticalLayout {
             horizontalLayout.add(assignBtn);
             horizontalLayout.add(deleteBtn);
             horizontalLayout.add(search);
+            horizontalLayout.add(new ExportLinks(getExportTable().getFileName(),
+                    (format, out) -> exportService.exportTable(getExportTable(), format, out)));
             add(horizontalLayout);
             add(grid);
 
@@ -180,26 +187,42 @@ public class AuthView extends VerticalLayout {
         }
 
         void refreshGrid() {
-            AuthsDto authsDto = getAuthsDto(filter);
-            if (grid.getColumns().size() == 0) {
-                authsDto.getColumnsSpec().keySet().forEach(key
-                        -> grid.addColumn((ValueProvider<Map<String, String>, Object>) map
-                        -> map.get(key)).setHeader(key));
-                grid.getColumns().forEach(column -> column.setSortable(true));
-            }
-            // During refresh, update the class variable containing the column list for reference later
-            columnsList = authsDto.getColumnsSpec();
-            grid.setItems(authsDto.getData());
+            refreshColumns();
+            grid.getDataProvider().refreshAll();
         }
 
-        void refreshColumnsList() {
-            AuthsDto authsDto = getAuthsDto(filter);
-            columnsList = authsDto.getColumnsSpec();
+        /**
+         * Columns are rebuilt only when the attribute catalog changed since they were built.
+         */
+        void refreshColumns() {
+            Map<String, String> columnsSpec = getColumnsSpec();
+            if (Objects.equals(columnsSpec, columnsList)) {
+                return;
+            }
+            columnsList = columnsSpec;
+            grid.removeAllColumns();
+            columnsList.keySet().forEach(key -> {
+                Grid.Column<AuthRowDto> column;
+                if (Objects.equals(key, "name")) {
+                    column = grid.addColumn(AuthRowDto::getName).setSortProperty(key);
+                } else if (Objects.equals(key, "type")) {
+                    column = grid.addColumn(row -> row.getAuthTarget().getValue()).setSortProperty(key);
+                } else {
+                    column = grid.addColumn((ValueProvider<AuthRowDto, String>) row -> row.getCell(key));
+                }
+                column.setHeader(key);
+            });
         }
 
         abstract String getGridTitle();
 
-        abstract T getAuthsDto(Filter filter);
+        abstract ExportTable getExportTable();
+
+        abstract Map<String, String> getColumnsSpec();
+
+        abstract long countAuths(Filter filter);
+
+        abstract Page<AuthRowDto> pageAuths(Filter filter, Pageable pageable);
 
         abstract AttributeAssignmentDialog<U, ? extends AttributeDto> getAssigmentDialog();
 
@@ -208,7 +231,7 @@ public class AuthView extends VerticalLayout {
 
     }
 
-    private class AuthenticationGrid extends AuthGrid<AuthenticationsDto, AuthenticationDto> {
+    private class AuthenticationGrid extends AuthGrid<AuthenticationDto> {
 
         private final AuthenticationAttributeAssigmentDialog assigmentDialog;
 
@@ -222,8 +245,23 @@ public class AuthView extends VerticalLayout {
         }
 
         @Override
-        AuthenticationsDto getAuthsDto(Filter filter) {
-            return authService.getAuthentications(filter);
+        ExportTable getExportTable() {
+            return ExportTable.AUTHENTICATIONS;
+        }
+
+        @Override
+        Map<String, String> getColumnsSpec() {
+            return authService.getAuthenticationsColumnsSpec();
+        }
+
+        @Override
+        long countAuths(Filter filter) {
+            return authService.countAuthentications(filter);
+        }
+
+        @Override
+        Page<AuthRowDto> pageAuths(Filter filter, Pageable pageable) {
+            return authService.pageAuthentications(filter, pageable);
         }
 
         @Override
@@ -238,7 +276,7 @@ public class AuthView extends VerticalLayout {
 
     }
 
-    private class AuthorizationGrid extends AuthGrid<AuthorizationsDto, AuthorizationDto> {
+    private class AuthorizationGrid extends AuthGrid<AuthorizationDto> {
 
         private final AuthorizationAttributeAssigmentDialog assigmentDialog;
 
@@ -252,8 +290,23 @@ public class AuthView extends VerticalLayout {
         }
 
         @Override
-        AuthorizationsDto getAuthsDto(Filter filter) {
-            return authService.getAuthorizations(filter);
+        ExportTable getExportTable() {
+            return ExportTable.AUTHORIZATIONS;
+        }
+
+        @Override
+        Map<String, String> getColumnsSpec() {
+            return authService.getAuthorizationsColumnsSpec();
+        }
+
+        @Override
+        long countAuths(Filter filter) {
+            return authService.countAuthorizations(filter);
+        }
+
+        @Override
+        Page<AuthRowDto> pageAuths(Filter filter, Pageable pageable) {
+            return authService.pageAuthorizations(filter, pageable);
         }
 
         @Override
@@ -29,6 +29,7 @@ import software.netcore.radman.buisness.service.user.system.dto.RoleDto;
 import software.netcore.radman.ui.CreationListener;
 import software.netcore.radman.ui.UpdateListener;
 import software.netcore.radman.ui.component.ConfirmationDialog;
+import software.netcore.radman.ui.component.SearchField;
 import software.netcore.radman.ui.menu.MenuTemplate;
 import software.netcore.radman.ui.notification.ErrorNotification;
 import software.netcore.radman.ui.support.Filter;
@@ -121,12 +122,10 @@ public class NasGroupsView extends VerticalLayout {
             deleteBtn.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN);
         });
 
-        TextField search = new TextField(event -> {
-            filter.setSearchText(event.getValue());
+        SearchField search = new SearchField(searchText -> {
+            filter.setSearchText(searchText);
             grid.getDataProvider().refreshAll();
         });
-        search.setValueChangeMode(ValueChangeMode.EAGER);
-        search.setPlaceholder("Search...");
 
         add(new H4("Data from Radius DB - \"radhuntgroup\" table"));
         HorizontalLayout horizontalLayout = new HorizontalLayout();
@@ -26,6 +26,10 @@ import com.vaadin.flow.router.Route;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.vaadin.artur.spring.dataprovider.SpringDataProviderBuilder;
+import software.netcore.radman.buisness.service.accounting.StaleSessionService;
+import software.netcore.radman.buisness.service.accounting.dto.StaleSessionCriteria;
+import software.netcore.radman.buisness.service.accounting.dto.StaleSessionReport;
+import software.netcore.radman.buisness.service.attribute.ValueMask;
 import software.netcore.radman.buisness.service.nas.NasService;
 import software.netcore.radman.buisness.service.nas.dto.NasDto;
 import software.netcore.radman.buisness.service.security.SecurityService;
@@ -33,12 +37,15 @@ import software.netcore.radman.buisness.service.user.system.dto.RoleDto;
 import software.netcore.radman.ui.CreationListener;
 import software.netcore.radman.ui.UpdateListener;
 import software.netcore.radman.ui.component.ConfirmationDialog;
+import software.netcore.radman.ui.component.SearchField;
 import software.netcore.radman.ui.converter.DoubleToIntegerConverter;
 import software.netcore.radman.ui.menu.MenuTemplate;
 import software.netcore.radman.ui.notification.ErrorNotification;
+import software.netcore.radman.ui.notification.StaleSessionReportNotification;
 import software.netcore.radman.ui.support.Filter;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @since v. 1.0.0
@@ -52,11 +59,13 @@ public class NasView extends VerticalLayout {
 
     private final Filter filter = new Filter();
     private final NasService nasService;
+    private final StaleSessionService staleSessionService;
     private final SecurityService securityService;
 
     @Autowired
-    public NasView(NasService nasService, SecurityService securityService) {
+    public NasView(NasService nasService, StaleSessionService staleSessionService, SecurityService securityService) {
         this.nasService = nasService;
+        this.staleSessionService = staleSessionService;
         this.securityService = securityService;
         buildView();
     }
@@ -69,11 +78,16 @@ public class NasView extends VerticalLayout {
         Grid<NasDto> grid = new Grid<>(NasDto.class, false);
         grid.addColumns("nasName", "shortName", "description");
         grid.addColumn((ValueProvider<NasDto, String>) nasDto
-                -> nasDto.getSecret().replaceAll(".", "*")).setHeader("Secret");
+                -> ValueMask.mask(nasDto.getSecret())).setHeader("Secret");
         grid.addColumns("server", "community", "ports", "type");
+        // the grid counts once per refresh (search change), page fetches reuse the count as their total
+        AtomicLong total = new AtomicLong();
         DataProvider<NasDto, Object> dataProvider = new SpringDataProviderBuilder<>(
-                (pageable, o) -> nasService.pageNasRecords(filter.getSearchText(), pageable),
-                value -> nasService.countNasRecords(filter.getSearchText()))
+                (pageable, o) -> nasService.pageNasRecords(filter.getSearchText(), pageable, total::get),
+                value -> {
+                    total.set(nasService.countNasRecords(filter.getSearchText()));
+                    return total.get();
+                })
                 .withDefaultSort("id", SortDirection.ASCENDING)
                 .build();
         grid.setDataProvider(dataProvider);
@@ -100,6 +114,26 @@ public class NasView extends VerticalLayout {
             nasDeleteDialog.setOpened(false);
         });
 
+        ConfirmationDialog closeSessionsDialog = new ConfirmationDialog("400px");
+        closeSessionsDialog.setTitle("Close NAS sessions");
+        closeSessionsDialog.setConfirmButtonCaption("Close");
+        closeSessionsDialog.setConfirmListener(() -> {
+            NasDto nasDto = grid.getSelectionModel().getFirstSelectedItem().orElse(null);
+            if (Objects.nonNull(nasDto)) {
+                try {
+                    // every active session is older than zero seconds
+                    StaleSessionReport report = staleSessionService.closeStaleSessions(
+                            new StaleSessionCriteria(nasDto.getNasName(), 0L, null));
+                    StaleSessionReportNotification.show("Sessions close result", report);
+                } catch (Exception e) {
+                    log.warn("Failed to close NAS sessions. Reason = '{}'", e.getMessage());
+                    ErrorNotification.show("Error",
+                            "Ooops, something went wrong, try again please");
+                }
+            }
+            closeSessionsDialog.setOpened(false);
+        });
+
         NasEditDialog nasEditDialog = new NasEditDialog(nasService,
                 (source, bean) -> grid.getDataProvider().refreshItem(bean));
         NasCreateDialog nasCreateDialog = new NasCreateDialog(nasService,
@@ -122,18 +156,26 @@ public class NasView extends VerticalLayout {
             }
         });
         deleteBtn.setEnabled(false);
+        Button closeSessionsBtn = new Button("Close sessions", event -> {
+            NasDto nasDto = grid.getSelectionModel().getFirstSelectedItem().orElse(null);
+            if (Objects.nonNull(nasDto)) {
+                closeSessionsDialog.setDescription("Are you sure you want to close all active sessions of '" +
+                        nasDto.getNasName() + "' NAS, e.g. after it rebooted?");
+                closeSessionsDialog.setOpened(true);
+            }
+        });
+        closeSessionsBtn.setEnabled(false);
 
         grid.asSingleSelect().addValueChangeListener(event -> {
             editBtn.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN);
             deleteBtn.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN);
+            closeSessionsBtn.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN);
         });
 
-        TextField search = new TextField(event -> {
-            filter.setSearchText(event.getValue());
+        SearchField search = new SearchField(searchText -> {
+            filter.setSearchText(searchText);
             grid.getDataProvider().refreshAll();
         });
-        search.setValueChangeMode(ValueChangeMode.EAGER);
-        search.setPlaceholder("Search...");
 
         add(new H4("Data from Radius DB - \"nas\" table"));
         HorizontalLayout horizontalLayout = new HorizontalLayout();
@@ -142,6 +184,7 @@ public class NasView extends VerticalLayout {
         horizontalLayout.add(createBtn);
         horizontalLayout.add(editBtn);
         horizontalLayout.add(deleteBtn);
+        horizontalLayout.add(closeSessionsBtn);
         horizontalLayout.add(search);
         add(horizontalLayout);
         add(grid);
@@ -24,6 +24,8 @@ import com.vaadin.flow.router.Route;
 import lombok.extern.slf4j.Slf4j;
 import org.vaadin.artur.spring.dataprovider.SpringDataProviderBuilder;
 import software.netcore.radman.buisness.service.dto.LoadingResult;
+import software.netcore.radman.buisness.service.export.ExportService;
+import software.netcore.radman.buisness.service.export.dto.ExportTable;
 import software.netcore.radman.buisness.service.security.SecurityService;
 import software.netcore.radman.buisness.service.user.radius.RadiusUserService;
 import software.netcore.radman.buisness.service.user.radius.dto.RadiusGroupDto;
@@ -32,6 +34,8 @@ import software.netcore.radman.buisness.service.user.system.dto.RoleDto;
 import software.netcore.radman.ui.CreationListener;
 import software.netcore.radman.ui.UpdateListener;
 import software.netcore.radman.ui.component.ConfirmationDialog;
+import software.netcore.radman.ui.component.ExportLinks;
+import software.netcore.radman.ui.component.SearchField;
 import software.netcore.radman.ui.menu.MenuTemplate;
 import software.netcore.radman.ui.notification.ErrorNotification;
 import software.netcore.radman.ui.notification.LoadingResultNotification;
@@ -52,10 +56,13 @@ public class UserGroupsView extends VerticalLayout {
     private final RadiusGroupFilter filter = new RadiusGroupFilter();
     private final RadiusUserService service;
     private final SecurityService securityService;
+    private final ExportService exportService;
 
-    public UserGroupsView(RadiusUserService service, SecurityService securityService) {
+    public UserGroupsView(RadiusUserService service, SecurityService securityService,
+                          ExportService exportService) {
         this.service = service;
         this.securityService = securityService;
+        this.exportService = exportService;
         buildView();
     }
 
@@ -137,12 +144,10 @@ public class UserGroupsView extends VerticalLayout {
             deleteBtn.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN);
         });
 
-        TextField search = new TextField(event -> {
-            filter.setSearchText(event.getValue());
+        SearchField search = new SearchField(searchText -> {
+            filter.setSearchText(searchText);
             grid.getDataProvider().refreshAll();
         });
-        search.setValueChangeMode(ValueChangeMode.EAGER);
-        search.setPlaceholder("Search...");
 
         add(new H4("Data from RadMan DB"));
         HorizontalLayout horizontalLayout = new HorizontalLayout();
@@ -153,6 +158,8 @@ public class UserGroupsView extends VerticalLayout {
         horizontalLayout.add(deleteBtn);
         horizontalLayout.add(loadUserGroups);
         horizontalLayout.add(search);
+        horizontalLayout.add(new ExportLinks(ExportTable.GROUPS.getFileName(),
+                (format, out) -> exportService.exportTable(ExportTable.GROUPS, format, out)));
         add(horizontalLayout);
         add(grid);
     }
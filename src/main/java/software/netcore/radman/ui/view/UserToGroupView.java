@@ -10,14 +10,12 @@ import com.vaadin.flow.component.html.Hr;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.BinderValidationStatus;
 import com.vaadin.flow.data.provider.CallbackDataProvider;
 import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.SortDirection;
-import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import lombok.extern.slf4j.Slf4j;
@@ -25,12 +23,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.vaadin.artur.spring.dataprovider.SpringDataProviderBuilder;
 import software.netcore.radman.buisness.exception.DuplicityException;
+import software.netcore.radman.buisness.service.export.ExportService;
+import software.netcore.radman.buisness.service.export.dto.ExportTable;
 import software.netcore.radman.buisness.service.security.SecurityService;
 import software.netcore.radman.buisness.service.user.radius.RadiusUserService;
 import software.netcore.radman.buisness.service.user.radius.dto.*;
 import software.netcore.radman.buisness.service.user.system.dto.RoleDto;
 import software.netcore.radman.ui.UpdateListener;
 import software.netcore.radman.ui.component.ConfirmationDialog;
+import software.netcore.radman.ui.component.ExportLinks;
+import software.netcore.radman.ui.component.SearchField;
 import software.netcore.radman.ui.converter.RadiusGroupDtoToNameConverter;
 import software.netcore.radman.ui.converter.RadiusUserDtoToNameConverter;
 import software.netcore.radman.ui.menu.MenuTemplate;
@@ -53,10 +55,13 @@ public class UserToGroupView extends VerticalLayout {
     private final Filter filter = new Filter();
     private final RadiusUserService userService;
     private final SecurityService securityService;
+    private final ExportService exportService;
 
-    public UserToGroupView(RadiusUserService userService, SecurityService securityService) {
+    public UserToGroupView(RadiusUserService userService, SecurityService securityService,
+                           ExportService exportService) {
         this.userService = userService;
         this.securityService = securityService;
+        this.exportService = exportService;
         buildView();
     }
 
@@ -107,12 +112,10 @@ public class UserToGroupView extends VerticalLayout {
         grid.asSingleSelect().addValueChangeListener(event ->
                 removeUserFromGroup.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN));
 
-        TextField search = new TextField(event -> {
-            filter.setSearchText(event.getValue());
+        SearchField search = new SearchField(searchText -> {
+            filter.setSearchText(searchText);
             grid.getDataProvider().refreshAll();
         });
-        search.setValueChangeMode(ValueChangeMode.EAGER);
-        search.setPlaceholder("Search...");
 
         add(new H4("Data from Radius DB - \"radusergroup\" table"));
         HorizontalLayout horizontalLayout = new HorizontalLayout();
@@ -121,6 +124,8 @@ public class UserToGroupView extends VerticalLayout {
         horizontalLayout.add(addUserToGroup);
         horizontalLayout.add(removeUserFromGroup);
         horizontalLayout.add(search);
+        horizontalLayout.add(new ExportLinks(ExportTable.USERS_TO_GROUPS.getFileName(),
+                (format, out) -> exportService.exportTable(ExportTable.USERS_TO_GROUPS, format, out)));
         add(horizontalLayout);
         add(grid);
     }
@@ -1,5 +1,6 @@
 package software.netcore.radman.ui.view;
 
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.checkbox.Checkbox;
 import com.vaadin.flow.component.dialog.Dialog;
@@ -13,6 +14,8 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.BinderValidationStatus;
@@ -25,6 +28,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.vaadin.artur.spring.dataprovider.SpringDataProviderBuilder;
 import software.netcore.radman.buisness.service.dto.LoadingResult;
+import software.netcore.radman.buisness.service.export.ExportService;
+import software.netcore.radman.buisness.service.export.dto.ExportTable;
+import software.netcore.radman.buisness.service.provisioning.ProvisioningService;
+import software.netcore.radman.buisness.service.provisioning.dto.ProvisioningFormat;
 import software.netcore.radman.buisness.service.security.SecurityService;
 import software.netcore.radman.buisness.service.user.radius.RadiusUserService;
 import software.netcore.radman.buisness.service.user.radius.dto.RadiusUserDto;
@@ -33,12 +40,18 @@ import software.netcore.radman.buisness.service.user.system.dto.RoleDto;
 import software.netcore.radman.ui.CreationListener;
 import software.netcore.radman.ui.UpdateListener;
 import software.netcore.radman.ui.component.ConfirmationDialog;
+import software.netcore.radman.ui.component.ExportLinks;
+import software.netcore.radman.ui.component.SearchField;
 import software.netcore.radman.ui.menu.MenuTemplate;
 import software.netcore.radman.ui.notification.ErrorNotification;
 import software.netcore.radman.ui.notification.LoadingResultNotification;
+import software.netcore.radman.ui.notification.ProvisioningReportNotification;
 
+import java.io.File;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 /**
  * @since v. 1.0.0
@@ -52,12 +65,17 @@ public class UsersView extends VerticalLayout {
 
     private final RadiusUserFilter filter = new RadiusUserFilter(true, true);
     private final RadiusUserService userService;
+    private final ProvisioningService provisioningService;
     private final SecurityService securityService;
+    private final ExportService exportService;
 
     @Autowired
-    public UsersView(RadiusUserService userService, SecurityService securityService) {
+    public UsersView(RadiusUserService userService, ProvisioningService provisioningService,
+                     SecurityService securityService, ExportService exportService) {
         this.userService = userService;
+        this.provisioningService = provisioningService;
         this.securityService = securityService;
+        this.exportService = exportService;
         buildView();
     }
 
@@ -132,18 +150,48 @@ public class UsersView extends VerticalLayout {
             grid.getDataProvider().refreshAll();
         });
         loadUsers.setEnabled(role == RoleDto.ADMIN);
+        FileBuffer provisioningBuffer = new FileBuffer();
+        Upload provisioningUpload = new Upload(provisioningBuffer);
+        provisioningUpload.setAcceptedFileTypes(".csv", ".json");
+        provisioningUpload.setUploadButton(new Button("Provision from file"));
+        provisioningUpload.setDropAllowed(false);
+        provisioningUpload.addSucceededListener(event -> {
+            ProvisioningFormat format = event.getFileName().toLowerCase(Locale.ROOT).endsWith(".json")
+                    ? ProvisioningFormat.JSON : ProvisioningFormat.CSV;
+            File file = provisioningBuffer.getFileData().getFile();
+            UI ui = UI.getCurrent();
+            try {
+                provisioningService.provisionAsync(file, format).whenComplete((report, e) -> {
+                    deleteUploadedFile(file);
+                    ui.access(() -> {
+                        if (Objects.isNull(e)) {
+                            ProvisioningReportNotification.show("Provisioning result", report);
+                        } else {
+                            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                            log.warn("Failed to provision from file '{}'", event.getFileName(), cause);
+                            ErrorNotification.show("Error", "Failed to provision from file: " + cause.getMessage());
+                        }
+                        grid.getDataProvider().refreshAll();
+                    });
+                });
+            } catch (RuntimeException e) {
+                // e.g. the provisioning executor rejected the file, it is never read
+                deleteUploadedFile(file);
+                log.warn("Failed to start provisioning from file '{}'", event.getFileName(), e);
+                ErrorNotification.show("Error", "Failed to provision from file: " + e.getMessage());
+            }
+        });
+        provisioningUpload.setVisible(role == RoleDto.ADMIN);
 
         grid.asSingleSelect().addValueChangeListener(event -> {
             editBtn.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN);
             deleteBtn.setEnabled(Objects.nonNull(event.getValue()) && role == RoleDto.ADMIN);
         });
 
-        TextField search = new TextField(event -> {
-            filter.setSearchText(event.getValue());
+        SearchField search = new SearchField(searchText -> {
+            filter.setSearchText(searchText);
             grid.getDataProvider().refreshAll();
         });
-        search.setValueChangeMode(ValueChangeMode.EAGER);
-        search.setPlaceholder("Search...");
 
         add(new H4("Data from RadMan DB"));
         HorizontalLayout horizontalLayout = new HorizontalLayout();
@@ -153,11 +201,20 @@ public class UsersView extends VerticalLayout {
         horizontalLayout.add(editBtn);
         horizontalLayout.add(deleteBtn);
         horizontalLayout.add(loadUsers);
+        horizontalLayout.add(provisioningUpload);
         horizontalLayout.add(search);
+        horizontalLayout.add(new ExportLinks(ExportTable.USERS.getFileName(),
+                (format, out) -> exportService.exportTable(ExportTable.USERS, format, out)));
         add(horizontalLayout);
         add(grid);
     }
 
+    private void deleteUploadedFile(File file) {
+        if (file.exists() && !file.delete()) {
+            log.warn("Failed to delete uploaded provisioning file '{}'", file.getAbsolutePath());
+        }
+    }
+
     private abstract class UserFormDialog extends Dialog {
 
         final Binder<RadiusUserDto> binder;
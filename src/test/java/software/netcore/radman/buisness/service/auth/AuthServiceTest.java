@@ -0,0 +1,49 @@
+package software.netcore.radman.buisness.service.auth;
+
+import org.junit.Test;
+import software.netcore.radman.buisness.service.auth.dto.AuthRowDto;
+import software.netcore.radman.buisness.service.auth.dto.AuthTarget;
+import software.netcore.radman.data.radius.entity.RadCheck;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @since v. 1.0.3
+ */
+public class AuthServiceTest {
+
+    @Test
+    public void buildRowsKeepsNamesDifferingInLetterCaseApart() {
+        List<RadCheck> records = Arrays.asList(
+                radCheck(1, "alice", "Cleartext-Password", "lower"),
+                radCheck(2, "Alice", "Cleartext-Password", "upper"),
+                radCheck(3, "alice", "Simultaneous-Use", "1"));
+
+        List<AuthRowDto> rows = AuthService.buildRows(Arrays.asList("Alice", "alice", "bob"),
+                AuthTarget.RADIUS_USER, records, RadCheck::getUsername,
+                check -> new AuthRowDto.Entry(check.getId(), check.getAttribute(), check.getOp(), check.getValue(),
+                        false));
+
+        assertThat(rows).extracting(AuthRowDto::getName, row -> row.getCell("Cleartext-Password"),
+                row -> row.getCell("Simultaneous-Use"))
+                .containsExactly(
+                        tuple("Alice", ":= upper", null),
+                        tuple("alice", ":= lower", ":= 1"),
+                        tuple("bob", null, null));
+    }
+
+    private static RadCheck radCheck(int id, String username, String attribute, String value) {
+        RadCheck radCheck = new RadCheck();
+        radCheck.setId(id);
+        radCheck.setUsername(username);
+        radCheck.setAttribute(attribute);
+        radCheck.setOp(":=");
+        radCheck.setValue(value);
+        return radCheck;
+    }
+
+}
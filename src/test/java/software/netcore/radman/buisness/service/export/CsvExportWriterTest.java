@@ -0,0 +1,82 @@
+package software.netcore.radman.buisness.service.export;
+
+import org.junit.Test;
+import software.netcore.radman.buisness.service.export.dto.ExportFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since v. 1.0.3
+ */
+public class CsvExportWriterTest {
+
+    @Test
+    public void writesPlainValuesUnquoted() throws IOException {
+        String csv = write(ExportFormat.CSV, new Object[]{"alice", 42L, null, new Date(0)});
+
+        assertThat(csv).isEqualTo("alice,42,,1970-01-01T00:00:00Z\r\n");
+    }
+
+    @Test
+    public void quotesValuesWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        String csv = write(ExportFormat.CSV, new Object[]{"smith, john", "say \"hello\"", "first\nsecond",
+                "first\r\nsecond"});
+
+        assertThat(csv).isEqualTo("\"smith, john\",\"say \"\"hello\"\"\",\"first\nsecond\",\"first\r\nsecond\"\r\n");
+    }
+
+    @Test
+    public void prefixesTextReadAsFormula() throws IOException {
+        String csv = write(ExportFormat.CSV, new Object[]{"=1+1", "+1", "-1", "@SUM(A1)", "\tx", "\rx",
+                "=HYPERLINK(\"http://example.com\")", "a=b"});
+
+        assertThat(csv).isEqualTo("'=1+1,'+1,'-1,'@SUM(A1),'\tx,\"'\rx\",\"'=HYPERLINK(\"\"http://example.com\"\")\","
+                + "a=b\r\n");
+    }
+
+    @Test
+    public void keepsNegativeNumbers() throws IOException {
+        String csv = write(ExportFormat.CSV, new Object[]{-1, -2L});
+
+        assertThat(csv).isEqualTo("-1,-2\r\n");
+    }
+
+    @Test
+    public void writesGzipCompressedRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvExportWriter writer = new CsvExportWriter(out, ExportFormat.CSV_GZIP)) {
+            writer.writeRow("username", "group");
+            writer.writeRow("alice", "staff");
+        }
+
+        assertThat(read(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))))
+                .isEqualTo("username,group\r\nalice,staff\r\n");
+    }
+
+    private static String write(ExportFormat format, Object[] row) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvExportWriter writer = new CsvExportWriter(out, format)) {
+            writer.writeRow(row);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String read(InputStream input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,88 @@
+package software.netcore.radman.buisness.service.provisioning;
+
+import org.junit.Test;
+import software.netcore.radman.buisness.service.provisioning.dto.ProvisioningRow;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @since v. 1.0.3
+ */
+public class CsvProvisioningReaderTest {
+
+    @Test
+    public void readsColumnsInHeaderOrder() {
+        List<ProvisioningRow> rows = new ArrayList<>();
+        List<InvalidRowException> errors = new ArrayList<>();
+
+        read("name,type,group\r\nalice,membership,staff\r\nbob,user,\r\n", rows, errors);
+
+        assertThat(errors).isEmpty();
+        assertThat(rows).extracting(ProvisioningRow::getRowNumber, ProvisioningRow::getType,
+                ProvisioningRow::getName, ProvisioningRow::getGroup)
+                .containsExactly(tuple(2L, "membership", "alice", "staff"), tuple(3L, "user", "bob", null));
+    }
+
+    @Test
+    public void readsQuotedValuesWithSeparatorsAndQuotes() {
+        List<ProvisioningRow> rows = new ArrayList<>();
+        List<InvalidRowException> errors = new ArrayList<>();
+
+        read("type,name,value\nuser,\"smith, john\",\"say \"\"hello\"\"\"\n", rows, errors);
+
+        assertThat(errors).isEmpty();
+        assertThat(rows).extracting(ProvisioningRow::getName, ProvisioningRow::getValue)
+                .containsExactly(tuple("smith, john", "say \"hello\""));
+    }
+
+    @Test
+    public void readsQuotedValuesWithLineBreaksAndNumbersRowsByStartLine() {
+        List<ProvisioningRow> rows = new ArrayList<>();
+        List<InvalidRowException> errors = new ArrayList<>();
+
+        read("type,name,value\nuser,alice,\"first\nsecond\"\n\nuser,bob,third\n", rows, errors);
+
+        assertThat(errors).isEmpty();
+        assertThat(rows).extracting(ProvisioningRow::getRowNumber, ProvisioningRow::getName,
+                ProvisioningRow::getValue)
+                .containsExactly(tuple(2L, "alice", "first\nsecond"), tuple(5L, "bob", "third"));
+    }
+
+    @Test
+    public void reportsMalformedRowsAndContinues() {
+        List<ProvisioningRow> rows = new ArrayList<>();
+        List<InvalidRowException> errors = new ArrayList<>();
+
+        read("type,name\nuser,alice,extra\nuser,bob\nuser,\"carol\n", rows, errors);
+
+        assertThat(rows).extracting(ProvisioningRow::getName).containsExactly("bob");
+        assertThat(errors).extracting(InvalidRowException::getRowNumber, InvalidRowException::getMessage)
+                .containsExactly(tuple(2L, "Expected 2 values, found 3"),
+                        tuple(4L, "Quoted value is not terminated"));
+    }
+
+    @Test
+    public void rejectsUnknownColumn() {
+        assertThatThrownBy(() -> new CsvProvisioningReader(new StringReader("type,password\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    private static void read(String csv, List<ProvisioningRow> rows, List<InvalidRowException> errors) {
+        CsvProvisioningReader reader = new CsvProvisioningReader(new StringReader(csv));
+        while (reader.hasNext()) {
+            try {
+                rows.add(reader.next());
+            } catch (InvalidRowException e) {
+                errors.add(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package software.netcore.radman.buisness.service.provisioning;
+
+import org.junit.Test;
+import software.netcore.radman.buisness.service.provisioning.dto.ProvisioningRow;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @since v. 1.0.3
+ */
+public class JsonProvisioningReaderTest {
+
+    @Test
+    public void readsArrayElementsNumberedByIndex() {
+        List<ProvisioningRow> rows = new ArrayList<>();
+        List<InvalidRowException> errors = new ArrayList<>();
+
+        read("[{\"type\": \"user\", \"name\": \"alice\", \"unknown\": 1},\n"
+                + " {\"type\": \"authentication\", \"target\": \"user\", \"name\": \"alice\","
+                + " \"attribute\": \"Cleartext-Password\", \"op\": \":=\", \"value\": \"line\\nbreak\"}]",
+                rows, errors);
+
+        assertThat(errors).isEmpty();
+        assertThat(rows).extracting(ProvisioningRow::getRowNumber, ProvisioningRow::getType,
+                ProvisioningRow::getName, ProvisioningRow::getValue)
+                .containsExactly(tuple(1L, "user", "alice", null),
+                        tuple(2L, "authentication", "alice", "line\nbreak"));
+    }
+
+    @Test
+    public void stopsAfterMalformedJson() {
+        List<ProvisioningRow> rows = new ArrayList<>();
+        List<InvalidRowException> errors = new ArrayList<>();
+
+        read("[{\"type\": \"user\", \"name\": \"alice\"}, {\"type\": ], {\"type\": \"user\", \"name\": \"bob\"}]",
+                rows, errors);
+
+        assertThat(rows).extracting(ProvisioningRow::getName).containsExactly("alice");
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getRowNumber()).isEqualTo(2);
+        assertThat(errors.get(0).getMessage()).startsWith("Malformed JSON");
+    }
+
+    private static void read(String json, List<ProvisioningRow> rows, List<InvalidRowException> errors) {
+        JsonProvisioningReader reader = new JsonProvisioningReader(new StringReader(json));
+        while (reader.hasNext()) {
+            try {
+                rows.add(reader.next());
+            } catch (InvalidRowException e) {
+                errors.add(e);
+            }
+        }
+    }
+
+}
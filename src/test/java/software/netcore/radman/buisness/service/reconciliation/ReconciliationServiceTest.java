@@ -0,0 +1,134 @@
+package software.netcore.radman.buisness.service.reconciliation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.netcore.radman.buisness.service.reconciliation.dto.NameDiffType;
+import software.netcore.radman.buisness.service.reconciliation.dto.ReconciliationReport;
+import software.netcore.radman.buisness.service.reconciliation.dto.ReconciliationSubject;
+import software.netcore.radman.data.internal.repo.*;
+import software.netcore.radman.data.radius.repo.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * @since v. 1.0.3
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReconciliationServiceTest {
+
+    @Mock
+    private RadiusUserRepo radiusUserRepo;
+    @Mock
+    private RadiusGroupRepo radiusGroupRepo;
+    @Mock
+    private RadCheckAttributeRepo checkAttributeRepo;
+    @Mock
+    private RadReplyAttributeRepo replyAttributeRepo;
+    @Mock
+    private BulkWriteRepo bulkWriteRepo;
+    @Mock
+    private RadCheckRepo radCheckRepo;
+    @Mock
+    private RadReplyRepo radReplyRepo;
+    @Mock
+    private RadGroupCheckRepo radGroupCheckRepo;
+    @Mock
+    private RadGroupReplyRepo radGroupReplyRepo;
+    @Mock
+    private RadUserGroupRepo radUserGroupRepo;
+
+    private ReconciliationService reconciliationService;
+
+    @Before
+    public void setUp() {
+        reconciliationService = new ReconciliationService(radiusUserRepo, radiusGroupRepo, checkAttributeRepo,
+                replyAttributeRepo, bulkWriteRepo, radCheckRepo, radReplyRepo, radGroupCheckRepo,
+                radGroupReplyRepo, radUserGroupRepo);
+    }
+
+    @Test
+    public void reconcileRejectsOrphanedFix() {
+        assertThatThrownBy(() -> reconciliationService.reconcile(ReconciliationSubject.USERS,
+                EnumSet.of(NameDiffType.MISSING, NameDiffType.ORPHANED)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyZeroInteractions(radiusUserRepo, radCheckRepo, radReplyRepo, radUserGroupRepo, bulkWriteRepo);
+    }
+
+    @Test
+    public void reconcileInsertsMissingNamesOnceAcrossSources() {
+        when(radCheckRepo.streamDistinctValues("username")).thenReturn(Stream.of("alice", "bob"));
+        when(radReplyRepo.streamDistinctValues("username")).thenReturn(Stream.of("bob", "carol"));
+        when(radUserGroupRepo.streamDistinctValues("username")).thenReturn(Stream.of("alice", "carol", "dave"));
+        when(radiusUserRepo.streamDistinctValues("username")).thenReturn(Stream.of("bob", "erin"));
+        List<String> inserted = new ArrayList<>();
+        when(bulkWriteRepo.insertRadiusUsers(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> usernames = invocation.getArgument(0);
+            inserted.addAll(usernames);
+            return usernames.size();
+        });
+
+        ReconciliationReport report = reconciliationService.reconcile(ReconciliationSubject.USERS,
+                EnumSet.of(NameDiffType.MISSING));
+
+        assertThat(inserted).containsExactly("alice", "carol", "dave");
+        assertThat(report.getMatched()).isEqualTo(1);
+        assertThat(report.getFound(NameDiffType.MISSING)).isEqualTo(3);
+        assertThat(report.getFixed(NameDiffType.MISSING)).isEqualTo(3);
+        assertThat(report.getFound(NameDiffType.ORPHANED)).isEqualTo(1);
+        assertThat(report.getFixed(NameDiffType.ORPHANED)).isEqualTo(0);
+    }
+
+    @Test
+    public void reconcileRenamesNamesDifferingInLetterCaseOnly() {
+        when(radGroupCheckRepo.streamDistinctValues("groupName")).thenReturn(Stream.of("Staff"));
+        when(radGroupReplyRepo.streamDistinctValues("groupName")).thenReturn(Stream.empty());
+        when(radUserGroupRepo.streamDistinctValues("groupName")).thenReturn(Stream.of("Staff"));
+        when(radiusGroupRepo.streamDistinctValues("name")).thenReturn(Stream.of("staff"));
+        Map<String, String> renamed = new LinkedHashMap<>();
+        when(bulkWriteRepo.renameRadiusGroups(anyMap())).thenAnswer(invocation -> {
+            Map<String, String> renames = invocation.getArgument(0);
+            renamed.putAll(renames);
+            return renames.size();
+        });
+
+        ReconciliationReport report = reconciliationService.reconcile(ReconciliationSubject.GROUPS,
+                EnumSet.of(NameDiffType.RENAMED));
+
+        assertThat(renamed).containsExactly(entry("staff", "Staff"));
+        assertThat(report.getFound(NameDiffType.RENAMED)).isEqualTo(1);
+        assertThat(report.getFixed(NameDiffType.RENAMED)).isEqualTo(1);
+        assertThat(report.getFound(NameDiffType.MISSING)).isEqualTo(0);
+    }
+
+    @Test
+    public void diffFixesNothing() {
+        when(radCheckRepo.streamDistinctValues("attribute")).thenReturn(Stream.of("Cleartext-Password"));
+        when(radGroupCheckRepo.streamDistinctValues("attribute")).thenReturn(Stream.empty());
+        when(checkAttributeRepo.streamDistinctValues("name")).thenReturn(Stream.empty());
+
+        ReconciliationReport report = reconciliationService.diff(ReconciliationSubject.AUTHENTICATION_ATTRIBUTES);
+
+        assertThat(report.getFound(NameDiffType.MISSING)).isEqualTo(1);
+        assertThat(report.getFixed(NameDiffType.MISSING)).isEqualTo(0);
+        verifyZeroInteractions(bulkWriteRepo);
+    }
+
+}
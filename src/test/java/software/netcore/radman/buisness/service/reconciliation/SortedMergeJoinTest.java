@@ -0,0 +1,91 @@
+package software.netcore.radman.buisness.service.reconciliation;
+
+import org.junit.Test;
+import software.netcore.radman.buisness.service.reconciliation.dto.NameDiff;
+import software.netcore.radman.buisness.service.reconciliation.dto.NameDiffType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @since v. 1.0.3
+ */
+public class SortedMergeJoinTest {
+
+    @Test
+    public void unionMergesSourcesAndDropsDuplicates() {
+        Iterator<String> union = SortedMergeJoin.union(Arrays.asList(
+                Arrays.asList("alice", "bob", "dave").iterator(),
+                Arrays.asList("bob", "carol").iterator(),
+                Arrays.asList("alice", "alice", "erin").iterator()));
+
+        assertThat(toList(union)).containsExactly("alice", "bob", "carol", "dave", "erin");
+    }
+
+    @Test
+    public void unionKeepsNamesDifferingInLetterCase() {
+        Iterator<String> union = SortedMergeJoin.union(Arrays.asList(
+                Arrays.asList("ALICE", "bob").iterator(),
+                Arrays.asList("alice", "bob").iterator()));
+
+        assertThat(toList(union)).containsExactly("ALICE", "alice", "bob");
+    }
+
+    @Test
+    public void diffReportsMissingOrphanedAndMatchedNames() {
+        List<NameDiff> diffs = new ArrayList<>();
+
+        long matched = SortedMergeJoin.diff(Arrays.asList("alice", "bob", "dave").iterator(),
+                Arrays.asList("bob", "carol").iterator(), diffs::add);
+
+        assertThat(matched).isEqualTo(1);
+        assertThat(diffs).extracting(NameDiff::getType, NameDiff::getRadiusName, NameDiff::getRadmanName)
+                .containsExactly(
+                        tuple(NameDiffType.MISSING, "alice", null),
+                        tuple(NameDiffType.ORPHANED, null, "carol"),
+                        tuple(NameDiffType.MISSING, "dave", null));
+    }
+
+    @Test
+    public void diffReportsNamesDifferingInLetterCaseOnlyAsRenamed() {
+        List<NameDiff> diffs = new ArrayList<>();
+
+        long matched = SortedMergeJoin.diff(Arrays.asList("Alice", "bob").iterator(),
+                Arrays.asList("alice", "bob").iterator(), diffs::add);
+
+        assertThat(matched).isEqualTo(1);
+        assertThat(diffs).extracting(NameDiff::getType, NameDiff::getRadiusName, NameDiff::getRadmanName)
+                .containsExactly(tuple(NameDiffType.RENAMED, "Alice", "alice"));
+    }
+
+    @Test
+    public void diffFailsOnSourceOutOfOrder() {
+        assertThatThrownBy(() -> SortedMergeJoin.diff(Arrays.asList("bob", "alice").iterator(),
+                Collections.<String>emptyIterator(), diff -> {
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("\"alice\" read after \"bob\"");
+    }
+
+    @Test
+    public void unionFailsOnSourceOutOfOrder() {
+        Iterator<String> union = SortedMergeJoin.union(Collections.singletonList(
+                Arrays.asList("alice", "carol", "bob").iterator()));
+
+        assertThatThrownBy(() -> toList(union)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<String> toList(Iterator<String> iterator) {
+        List<String> names = new ArrayList<>();
+        iterator.forEachRemaining(names::add);
+        return names;
+    }
+
+}